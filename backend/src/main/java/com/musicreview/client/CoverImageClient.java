@@ -0,0 +1,134 @@
+package com.musicreview.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Downloads remote cover images for mirroring. Requests share one pooled HTTP client and a token
+ * bucket so a full catalog sweep never hammers the image CDN. Bodies are handed to the caller as a
+ * stream capped at max-bytes, so nothing is buffered in memory here.
+ */
+@Component
+public class CoverImageClient {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+
+    private final long maxBytes;
+    private final Duration timeout;
+    private final TokenBucket rateLimiter;
+    private final HttpClient httpClient;
+
+    public interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    public CoverImageClient(
+            @Value("${app.covers.mirror.requests-per-second:2}") double requestsPerSecond,
+            @Value("${app.covers.mirror.max-bytes:10485760}") long maxBytes,
+            @Value("${app.covers.mirror.timeout-ms:15000}") long timeoutMillis
+    ) {
+        this.maxBytes = maxBytes;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.rateLimiter = new TokenBucket(requestsPerSecond, 1);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * Fetch an image and pass the body stream to the reader
+     */
+    public <T> T download(String url, BodyReader<T> reader) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            throw new UpstreamException("Invalid cover URL: " + url, false, e);
+        }
+        try {
+            if (!rateLimiter.acquire(timeout.toMillis())) {
+                throw new UpstreamException("Cover download queue is busy", true);
+            }
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(timeout)
+                    .header("User-Agent", USER_AGENT)
+                    .header("Accept", "image/*")
+                    .GET()
+                    .build();
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new UpstreamException("Cover host returned HTTP " + response.statusCode(),
+                            UpstreamException.isRetryableStatus(response.statusCode()));
+                }
+                long length = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+                if (length > maxBytes) {
+                    throw new UpstreamException("Cover image is larger than " + maxBytes + " bytes", false);
+                }
+                return reader.read(new LimitedInputStream(body, maxBytes));
+            }
+        } catch (TooLargeException e) {
+            throw new UpstreamException(e.getMessage(), false, e);
+        } catch (IOException e) {
+            throw new UpstreamException("Cover download failed: " + e.getMessage(), true, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamException("Cover download interrupted", false, e);
+        }
+    }
+
+    /**
+     * Fails the read once more than the limit has been consumed (bodies without Content-Length)
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long consumed;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value != -1) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int bytes) throws IOException {
+            consumed += bytes;
+            if (consumed > limit) {
+                throw new TooLargeException("Cover image is larger than " + limit + " bytes");
+            }
+        }
+    }
+
+    private static final class TooLargeException extends IOException {
+        TooLargeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.musicreview.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * MusicBrainz web service client shared by all imports.
+ * One pooled HTTP client, a token bucket that keeps us under MusicBrainz's 1 request/second rule,
+ * coalescing of identical in-flight lookups, and an on-disk response cache with a TTL so repeated
+ * imports of the same release never leave the machine.
+ */
+@Component
+public class MusicBrainzClient {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MusicBrainzClient.class);
+    private static final String USER_AGENT = "MusicReviewSite/1.0 (https://github.com/huanzichen00/music-review-site)";
+    private static final int MAX_SEARCH_LIMIT = 100;
+
+    private final String baseUrl;
+    private final Path cacheDir;
+    private final Duration cacheTtl;
+    private final Duration timeout;
+    private final TokenBucket rateLimiter;
+    private final HttpClient httpClient;
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    public MusicBrainzClient(
+            @Value("${app.musicbrainz.base-url:https://musicbrainz.org/ws/2}") String baseUrl,
+            @Value("${app.musicbrainz.requests-per-second:1}") double requestsPerSecond,
+            @Value("${app.musicbrainz.cache-dir:${java.io.tmpdir}/music-review/musicbrainz}") String cacheDir,
+            @Value("${app.musicbrainz.cache-ttl-hours:24}") long cacheTtlHours,
+            @Value("${app.musicbrainz.timeout-ms:15000}") long timeoutMillis
+    ) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.cacheDir = Path.of(cacheDir);
+        this.cacheTtl = Duration.ofHours(cacheTtlHours);
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.rateLimiter = new TokenBucket(requestsPerSecond, 1);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * Search releases with a MusicBrainz (Lucene) query; returns the raw JSON body
+     */
+    public String searchReleases(String query, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        String path = "/release/?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8) + "&fmt=json&limit=" + size;
+        return get("search:" + query + ":" + size, path);
+    }
+
+    /**
+     * Get a release with its recordings and artist credits; returns the raw JSON body
+     */
+    public String getRelease(String mbid) {
+        String path = "/release/" + URLEncoder.encode(mbid, StandardCharsets.UTF_8) + "?inc=recordings+artist-credits&fmt=json";
+        return get("release:" + mbid, path);
+    }
+
+    private String get(String cacheKey, String path) {
+        String cached = readCache(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(cacheKey, mine);
+        if (existing != null) {
+            return await(existing);
+        }
+        try {
+            String body = fetch(path);
+            writeCache(cacheKey, body);
+            mine.complete(body);
+            return body;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    private String fetch(String path) {
+        try {
+            if (!rateLimiter.acquire(timeout.toMillis())) {
+                throw new UpstreamException("MusicBrainz is busy, please try again shortly", true);
+            }
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(timeout)
+                    .header("User-Agent", USER_AGENT)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            if (response.statusCode() == 404) {
+                throw new UpstreamException("Not found on MusicBrainz", false);
+            }
+            if (response.statusCode() != 200) {
+                throw new UpstreamException("MusicBrainz returned HTTP " + response.statusCode(),
+                        UpstreamException.isRetryableStatus(response.statusCode()));
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new UpstreamException("MusicBrainz request failed: " + e.getMessage(), true, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamException("MusicBrainz request interrupted", false, e);
+        }
+    }
+
+    private String await(CompletableFuture<String> future) {
+        try {
+            // The leader may itself wait for the rate limiter, so allow for that on top of the request timeout
+            return future.get(timeout.toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new UpstreamException("MusicBrainz request failed: " + e.getCause().getMessage(), true, e.getCause());
+        } catch (TimeoutException e) {
+            throw new UpstreamException("MusicBrainz request timed out", true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamException("MusicBrainz request interrupted", false, e);
+        }
+    }
+
+    private String readCache(String cacheKey) {
+        Path file = cacheFile(cacheKey);
+        try {
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            long age = System.currentTimeMillis() - Files.getLastModifiedTime(file).toMillis();
+            if (age > cacheTtl.toMillis()) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            return Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.debug("MusicBrainz cache read failed for {}: {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(String cacheKey, String body) {
+        Path file = cacheFile(cacheKey);
+        try {
+            Files.createDirectories(cacheDir);
+            // Write to a temp file and rename, so readers never see a half-written entry
+            Path temp = Files.createTempFile(cacheDir, file.getFileName().toString(), ".tmp");
+            Files.writeString(temp, body, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("MusicBrainz cache write failed for {}: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    private Path cacheFile(String cacheKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(cacheKey.getBytes(StandardCharsets.UTF_8));
+            return cacheDir.resolve(HexFormat.of().formatHex(digest) + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
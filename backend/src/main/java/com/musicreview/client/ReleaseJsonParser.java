@@ -0,0 +1,333 @@
+package com.musicreview.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.musicreview.dto.imports.ImportSearchResult;
+import com.musicreview.dto.imports.ImportedAlbumResponse;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass streaming parsers for MusicBrainz and NetEase responses.
+ * Only the fields the import needs are read; everything else is skipped token by token, so a large
+ * multi-disc release never turns into a tree of maps and lists.
+ */
+public final class ReleaseJsonParser {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private ReleaseJsonParser() {
+    }
+
+    public record SearchPage(Integer count, List<ImportSearchResult> results) {
+    }
+
+    public record NeteaseAlbum(Integer code, ImportedAlbumResponse album) {
+    }
+
+    /**
+     * MusicBrainz /release?query= response
+     */
+    public static SearchPage parseMusicBrainzSearch(String json) throws IOException {
+        Integer count = null;
+        List<ImportSearchResult> results = new ArrayList<>();
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            expectObject(parser, parser.nextToken());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("count".equals(field)) {
+                    count = intOrNull(parser);
+                } else if ("releases".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        results.add(readSearchRelease(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new SearchPage(count, results);
+    }
+
+    /**
+     * MusicBrainz /release/{mbid}?inc=recordings+artist-credits response; tracks of all media are numbered in order
+     */
+    public static ImportedAlbumResponse parseMusicBrainzRelease(String json) throws IOException {
+        ImportedAlbumResponse album = new ImportedAlbumResponse();
+        album.setTracks(new ArrayList<>());
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            expectObject(parser, parser.nextToken());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "id" -> album.setMbid(parser.getValueAsString());
+                    case "title" -> album.setTitle(parser.getValueAsString());
+                    case "date" -> album.setDate(parser.getValueAsString());
+                    case "country" -> album.setCountry(parser.getValueAsString());
+                    case "barcode" -> album.setBarcode(parser.getValueAsString());
+                    case "artist-credit" -> {
+                        String[] artist = readFirstCreditedArtist(parser, value);
+                        if (artist != null) {
+                            album.setArtist(ImportedAlbumResponse.ImportedArtist.builder()
+                                    .mbid(artist[0])
+                                    .name(artist[1])
+                                    .build());
+                        }
+                    }
+                    case "media" -> readMedia(parser, value, album.getTracks());
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        album.setReleaseYear(yearOf(album.getDate()));
+        album.setTrackCount(album.getTracks().size());
+        return album;
+    }
+
+    /**
+     * NetEase /api/album/{id} response; album is null when the response carries none
+     */
+    public static NeteaseAlbum parseNeteaseAlbum(String json) throws IOException {
+        Integer code = null;
+        ImportedAlbumResponse album = null;
+        List<ImportedAlbumResponse.ImportedTrack> tracks = new ArrayList<>();
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            expectObject(parser, parser.nextToken());
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("code".equals(field)) {
+                    code = intOrNull(parser);
+                } else if ("album".equals(field) && value == JsonToken.START_OBJECT) {
+                    album = readNeteaseAlbum(parser);
+                } else if ("songs".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        tracks.add(readNeteaseSong(parser, tracks.size() + 1));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        if (album != null) {
+            album.setTracks(tracks);
+            album.setTrackCount(tracks.size());
+        }
+        return new NeteaseAlbum(code, album);
+    }
+
+    private static ImportSearchResult readSearchRelease(JsonParser parser) throws IOException {
+        ImportSearchResult result = new ImportSearchResult();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> result.setMbid(parser.getValueAsString());
+                case "title" -> result.setTitle(parser.getValueAsString());
+                case "track-count" -> result.setTrackCount(intOrNull(parser));
+                case "date" -> result.setDate(parser.getValueAsString());
+                case "country" -> result.setCountry(parser.getValueAsString());
+                case "status" -> result.setStatus(parser.getValueAsString());
+                case "artist-credit" -> {
+                    String[] artist = readFirstCreditedArtist(parser, value);
+                    if (artist != null) {
+                        result.setArtistMbid(artist[0]);
+                        result.setArtistName(artist[1]);
+                    }
+                }
+                case "release-group" -> result.setType(readStringField(parser, value, "primary-type"));
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {id, name} of the first credited artist; consumes the whole artist-credit array
+     */
+    private static String[] readFirstCreditedArtist(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        String[] first = null;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            if (first != null) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken credit = parser.nextToken();
+                if ("artist".equals(field) && credit == JsonToken.START_OBJECT) {
+                    String[] artist = new String[2];
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String artistField = parser.currentName();
+                        parser.nextToken();
+                        if ("id".equals(artistField)) {
+                            artist[0] = parser.getValueAsString();
+                        } else if ("name".equals(artistField)) {
+                            artist[1] = parser.getValueAsString();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    first = artist;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return first;
+    }
+
+    private static void readMedia(JsonParser parser, JsonToken value, List<ImportedAlbumResponse.ImportedTrack> tracks)
+            throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken mediumValue = parser.nextToken();
+                if ("tracks".equals(field) && mediumValue == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        tracks.add(readMusicBrainzTrack(parser, tracks.size() + 1));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static ImportedAlbumResponse.ImportedTrack readMusicBrainzTrack(JsonParser parser, int trackNumber) throws IOException {
+        String title = null;
+        Integer length = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("title".equals(field)) {
+                title = parser.getValueAsString();
+            } else if ("length".equals(field)) {
+                length = intOrNull(parser);
+            } else {
+                // Skips the nested recording object as well
+                parser.skipChildren();
+            }
+        }
+        return ImportedAlbumResponse.ImportedTrack.of(trackNumber, title, length);
+    }
+
+    private static ImportedAlbumResponse readNeteaseAlbum(JsonParser parser) throws IOException {
+        ImportedAlbumResponse album = new ImportedAlbumResponse();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "name" -> album.setTitle(parser.getValueAsString());
+                case "picUrl" -> album.setCoverUrl(parser.getValueAsString());
+                case "description" -> album.setDescription(parser.getValueAsString());
+                case "publishTime" -> {
+                    if (value == JsonToken.VALUE_NUMBER_INT) {
+                        album.setReleaseYear(Instant.ofEpochMilli(parser.getLongValue()).atZone(ZoneId.systemDefault()).getYear());
+                    }
+                }
+                case "artist" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        ImportedAlbumResponse.ImportedArtist artist = new ImportedAlbumResponse.ImportedArtist();
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String artistField = parser.currentName();
+                            parser.nextToken();
+                            if ("name".equals(artistField)) {
+                                artist.setName(parser.getValueAsString());
+                            } else if ("picUrl".equals(artistField)) {
+                                artist.setPhotoUrl(parser.getValueAsString());
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                        album.setArtist(artist);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return album;
+    }
+
+    private static ImportedAlbumResponse.ImportedTrack readNeteaseSong(JsonParser parser, int trackNumber) throws IOException {
+        String title = null;
+        Integer duration = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                title = parser.getValueAsString();
+            } else if ("duration".equals(field)) {
+                duration = intOrNull(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return ImportedAlbumResponse.ImportedTrack.of(trackNumber, title, duration);
+    }
+
+    /**
+     * Read one string field of an object value and skip the rest of it
+     */
+    private static String readStringField(JsonParser parser, JsonToken value, String name) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String result = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                result = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    private static Integer intOrNull(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsInt();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    private static Integer yearOf(String date) {
+        if (date == null || date.length() < 4) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(date.substring(0, 4));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void expectObject(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.musicreview.client;
+
+/**
+ * Token bucket rate limiter. Callers reserve the next free slot and sleep until it comes up,
+ * so concurrent callers are spaced out instead of bursting past the limit.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private long nextFreeNanos;
+
+    /**
+     * @param permitsPerSecond sustained rate
+     * @param burst            permits that may be taken back to back after an idle period
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstNanos = intervalNanos * Math.max(0, burst - 1);
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    /**
+     * Take one permit, waiting at most maxWaitMillis; returns false (without consuming) when the wait would be longer
+     */
+    public boolean acquire(long maxWaitMillis) throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            // Idle time refills the bucket up to the burst size
+            long slot = Math.max(nextFreeNanos, now - burstNanos);
+            waitNanos = slot - now;
+            if (waitNanos > maxWaitMillis * 1_000_000L) {
+                return false;
+            }
+            nextFreeNanos = slot + intervalNanos;
+        }
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000L, (int) (waitNanos % 1_000_000L));
+        }
+        return true;
+    }
+}
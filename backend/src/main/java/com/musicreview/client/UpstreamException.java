@@ -0,0 +1,31 @@
+package com.musicreview.client;
+
+/**
+ * Failure talking to a remote catalog. Retryable failures (timeouts, throttling, 5xx) may succeed
+ * on a later attempt; the rest (not found, bad input) will not.
+ */
+public class UpstreamException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public UpstreamException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public UpstreamException(String message, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    /**
+     * Whether an HTTP status is worth retrying
+     */
+    public static boolean isRetryableStatus(int status) {
+        return status == 429 || status == 503 || status >= 500;
+    }
+}
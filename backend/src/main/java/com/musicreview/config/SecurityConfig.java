@@ -28,6 +28,7 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.Arrays;
@@ -61,6 +62,8 @@ public class SecurityConfig {
                 )
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches (SSE streams) were authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Public endpoints
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/public/**").permitAll()
@@ -75,10 +78,14 @@ public class SecurityConfig {
                                 new AntPathRequestMatcher("/api/artists/**", HttpMethod.GET.name()),
                                 new AntPathRequestMatcher("/api/genres", HttpMethod.GET.name()),
                                 new AntPathRequestMatcher("/api/genres/**", HttpMethod.GET.name()),
+                                new AntPathRequestMatcher("/api/search", HttpMethod.GET.name()),
+                                new AntPathRequestMatcher("/api/tracks/**", HttpMethod.GET.name()),
                                 new AntPathRequestMatcher("/api/reviews/recent", HttpMethod.GET.name()),
+                                new AntPathRequestMatcher("/api/reviews/feed", HttpMethod.GET.name()),
                                 new AntPathRequestMatcher("/api/reviews/album/**", HttpMethod.GET.name()),
                                 new AntPathRequestMatcher("/api/reviews/stats/**", HttpMethod.GET.name()),
                                 new AntPathRequestMatcher("/api/blog-posts", HttpMethod.GET.name()),
+                                new AntPathRequestMatcher("/api/blog-posts/feed", HttpMethod.GET.name()),
                                 new AntPathRequestMatcher("/api/blog-posts/user/**", HttpMethod.GET.name()),
                                 new AntPathRequestMatcher("/api/blog-replies/post/**", HttpMethod.GET.name()),
                                 new AntPathRequestMatcher("/api/replies/review/**", HttpMethod.GET.name()),
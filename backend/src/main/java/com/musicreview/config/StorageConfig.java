@@ -0,0 +1,42 @@
+package com.musicreview.config;
+
+import com.musicreview.storage.BlobStore;
+import com.musicreview.storage.LocalBlobStore;
+import com.musicreview.storage.S3BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Chooses where uploads live: app.storage.type=local keeps them under file.upload-dir (one node),
+ * app.storage.type=s3 puts them in an S3-compatible bucket shared by every node.
+ */
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    public BlobStore blobStore(
+            @Value("${app.storage.type:local}") String type,
+            @Value("${file.upload-dir:uploads}") String uploadDir,
+            @Value("${app.storage.s3.endpoint:}") String endpoint,
+            @Value("${app.storage.s3.region:us-east-1}") String region,
+            @Value("${app.storage.s3.bucket:}") String bucket,
+            @Value("${app.storage.s3.access-key:}") String accessKey,
+            @Value("${app.storage.s3.secret-key:}") String secretKey,
+            @Value("${app.storage.s3.path-style:true}") boolean pathStyle,
+            @Value("${app.storage.s3.timeout-ms:15000}") long timeoutMillis
+    ) {
+        if ("s3".equalsIgnoreCase(type)) {
+            if (endpoint.isBlank() || bucket.isBlank()) {
+                throw new IllegalStateException("app.storage.s3.endpoint and app.storage.s3.bucket are required for S3 storage");
+            }
+            return new S3BlobStore(endpoint, region, bucket, accessKey, secretKey, pathStyle,
+                    Duration.ofMillis(timeoutMillis), Clock.systemUTC());
+        }
+        return new LocalBlobStore(Paths.get(uploadDir));
+    }
+}
@@ -34,6 +34,22 @@ public class AlbumController {
         return ResponseEntity.ok(albumService.getAllAlbums(pageable));
     }
 
+    /**
+     * Get newest albums as a cursor feed
+     * GET /api/albums/feed?cursor=xxx&size=20
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<?> getAlbumFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            return ResponseEntity.ok(albumService.getAlbumFeed(cursor, Math.min(Math.max(size, 1), 50)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * Get albums by title initial letter
      * GET /api/albums/initial/{letter}
@@ -114,6 +130,24 @@ public class AlbumController {
         return ResponseEntity.ok(albumService.getAllReleaseYears());
     }
 
+    /**
+     * Get albums ranked by Bayesian average rating
+     * GET /api/albums/top?size=20
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<AlbumResponse>> getTopAlbums(@RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(albumService.getTopAlbums(Math.min(Math.max(size, 1), 100)));
+    }
+
+    /**
+     * Get albums ranked by recent activity
+     * GET /api/albums/trending?size=20
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<AlbumResponse>> getTrendingAlbums(@RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(albumService.getTrendingAlbums(Math.min(Math.max(size, 1), 100)));
+    }
+
     /**
      * Search albums by title
      * GET /api/albums/search?q=xxx
@@ -33,6 +33,22 @@ public class BlogPostController {
         return ResponseEntity.ok(blogPostService.getAllPosts(pageable));
     }
 
+    /**
+     * Get blog posts as a cursor feed
+     * GET /api/blog-posts/feed?cursor=xxx&size=20
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<?> getPostFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            return ResponseEntity.ok(blogPostService.getPostFeed(cursor, Math.min(Math.max(size, 1), 50)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * Get current user's blog posts
      * GET /api/blog-posts/my
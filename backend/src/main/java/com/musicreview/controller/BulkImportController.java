@@ -0,0 +1,35 @@
+package com.musicreview.controller;
+
+import com.musicreview.dto.imports.BulkImportReport;
+import com.musicreview.service.BulkImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/import")
+@RequiredArgsConstructor
+public class BulkImportController {
+
+    private final BulkImportService bulkImportService;
+
+    /**
+     * Bulk import artists / albums / tracks from an NDJSON body (one record per line)
+     * POST /api/admin/import/bulk
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> bulkImport(HttpServletRequest request) {
+        try {
+            BulkImportReport report = bulkImportService.importNdjson(request.getInputStream());
+            return ResponseEntity.ok(report);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Failed to read upload: " + e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
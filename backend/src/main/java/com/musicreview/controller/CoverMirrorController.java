@@ -0,0 +1,42 @@
+package com.musicreview.controller;
+
+import com.musicreview.service.CoverMirrorService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/covers")
+@RequiredArgsConstructor
+public class CoverMirrorController {
+
+    private final CoverMirrorService coverMirrorService;
+
+    /**
+     * Remote cover mirroring progress and recent failures
+     * GET /api/admin/covers/mirror
+     */
+    @GetMapping("/mirror")
+    public ResponseEntity<?> getStatus() {
+        try {
+            return ResponseEntity.ok(coverMirrorService.getStatus());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Queue the next batch of remote covers now instead of waiting for the scheduled sweep
+     * POST /api/admin/covers/mirror/run
+     */
+    @PostMapping("/mirror/run")
+    public ResponseEntity<?> run() {
+        try {
+            return ResponseEntity.ok(Map.of("queued", coverMirrorService.runNow()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
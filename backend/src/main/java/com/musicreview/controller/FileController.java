@@ -1,26 +1,35 @@
 package com.musicreview.controller;
 
+import com.musicreview.service.CoverVariantService;
+import com.musicreview.service.FileStorageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/files")
 @RequiredArgsConstructor
 public class FileController {
 
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
+    private static final long AVATAR_MAX_BYTES = 5L * 1024 * 1024;
+    private static final long COVER_MAX_BYTES = 8L * 1024 * 1024;
+
+    private final CoverVariantService coverVariantService;
+    private final FileStorageService fileStorageService;
+
+    @Value("${app.files.avatar-max-edge:1024}")
+    private int avatarMaxEdge;
+
+    @Value("${app.files.cover-max-edge:2000}")
+    private int coverMaxEdge;
 
     /**
      * Upload avatar image
@@ -40,36 +49,21 @@ public class FileController {
                 return ResponseEntity.badRequest().body(Map.of("error", "Only image files are allowed"));
             }
 
-            // Check file size (max 5MB)
-            if (file.getSize() > 5 * 1024 * 1024) {
-                return ResponseEntity.badRequest().body(Map.of("error", "File size must be less than 5MB"));
-            }
-
-            // Create upload directory if not exists
-            Path uploadPath = Paths.get(uploadDir, "avatars");
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+            // Check file size
+            if (file.getSize() > AVATAR_MAX_BYTES) {
+                return ResponseEntity.badRequest().body(Map.of("error", "File size must be less than " + AVATAR_MAX_BYTES / (1024 * 1024) + "MB"));
             }
 
-            // Generate unique filename
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String newFilename = UUID.randomUUID().toString() + extension;
-
-            // Save file
-            Path filePath = uploadPath.resolve(newFilename);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            // Return file URL
-            String fileUrl = "/api/files/avatars/" + newFilename;
+            // Stored as {sha256}.{ext}; identical images share one file
+            FileStorageService.StoredUpload stored = fileStorageService.storeImage("avatars", file.getInputStream(), avatarMaxEdge);
+            String fileUrl = "/api/files/avatars/" + stored.filename();
             return ResponseEntity.ok(Map.of(
                 "url", fileUrl,
-                "filename", newFilename
+                "filename", stored.filename()
             ));
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (IOException e) {
             return ResponseEntity.internalServerError().body(Map.of("error", "Failed to upload file: " + e.getMessage()));
         }
@@ -91,83 +85,69 @@ public class FileController {
                 return ResponseEntity.badRequest().body(Map.of("error", "Only image files are allowed"));
             }
 
-            // Check file size (max 8MB)
-            if (file.getSize() > 8 * 1024 * 1024) {
-                return ResponseEntity.badRequest().body(Map.of("error", "File size must be less than 8MB"));
+            // Check file size
+            if (file.getSize() > COVER_MAX_BYTES) {
+                return ResponseEntity.badRequest().body(Map.of("error", "File size must be less than " + COVER_MAX_BYTES / (1024 * 1024) + "MB"));
             }
 
-            Path uploadPath = Paths.get(uploadDir, "album-covers");
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String newFilename = UUID.randomUUID().toString() + extension;
-
-            Path filePath = uploadPath.resolve(newFilename);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            String fileUrl = "/api/files/album-covers/" + newFilename;
+            FileStorageService.StoredUpload stored = fileStorageService.storeImage("album-covers", file.getInputStream(), coverMaxEdge);
+            String fileUrl = "/api/files/album-covers/" + stored.filename();
+            coverVariantService.scheduleVariants(fileUrl);
             return ResponseEntity.ok(Map.of(
                 "url", fileUrl,
-                "filename", newFilename
+                "filename", stored.filename()
             ));
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (IOException e) {
             return ResponseEntity.internalServerError().body(Map.of("error", "Failed to upload file: " + e.getMessage()));
         }
     }
 
+    /**
+     * Presigned form upload for sending an avatar straight to object storage
+     * POST /api/files/avatar/upload-url
+     */
+    @PostMapping("/avatar/upload-url")
+    public ResponseEntity<?> createAvatarUploadUrl(@RequestBody(required = false) Map<String, String> request) {
+        return createUploadUrl(request, AVATAR_MAX_BYTES);
+    }
+
+    /**
+     * Finish a direct avatar upload
+     * POST /api/files/avatar/complete
+     */
+    @PostMapping("/avatar/complete")
+    public ResponseEntity<?> completeAvatarUpload(@RequestBody Map<String, String> request) {
+        return completeUpload("avatars", request.get("key"), AVATAR_MAX_BYTES, avatarMaxEdge);
+    }
+
+    /**
+     * Presigned form upload for sending an album cover straight to object storage
+     * POST /api/files/album-cover/upload-url
+     */
+    @PostMapping("/album-cover/upload-url")
+    public ResponseEntity<?> createAlbumCoverUploadUrl(@RequestBody(required = false) Map<String, String> request) {
+        return createUploadUrl(request, COVER_MAX_BYTES);
+    }
+
+    /**
+     * Finish a direct album cover upload
+     * POST /api/files/album-cover/complete
+     */
+    @PostMapping("/album-cover/complete")
+    public ResponseEntity<?> completeAlbumCoverUpload(@RequestBody Map<String, String> request) {
+        return completeUpload("album-covers", request.get("key"), COVER_MAX_BYTES, coverMaxEdge);
+    }
+
     /**
      * Serve avatar image
      * GET /api/files/avatars/{filename}
      */
     @GetMapping("/avatars/{filename}")
     public ResponseEntity<?> getAvatar(@PathVariable String filename) {
-        try {
-            // Sanitize filename to prevent directory traversal
-            String safeFilename = filename.replaceAll("[^a-zA-Z0-9._-]", "");
-            
-            Path filePath = Paths.get(uploadDir, "avatars", safeFilename);
-            if (!Files.exists(filePath)) {
-                return ResponseEntity.notFound().build();
-            }
-
-            byte[] fileContent = Files.readAllBytes(filePath);
-            
-            // Determine content type based on file extension
-            String contentType = "image/jpeg"; // default
-            String lowerFilename = safeFilename.toLowerCase();
-            if (lowerFilename.endsWith(".png")) {
-                contentType = "image/png";
-            } else if (lowerFilename.endsWith(".gif")) {
-                contentType = "image/gif";
-            } else if (lowerFilename.endsWith(".webp")) {
-                contentType = "image/webp";
-            } else {
-                try {
-                    String detectedType = Files.probeContentType(filePath);
-                    if (detectedType != null && detectedType.startsWith("image/")) {
-                        contentType = detectedType;
-                    }
-                } catch (Exception e) {
-                    // Use default
-                }
-            }
-
-            return ResponseEntity.ok()
-                    .header("Content-Type", contentType)
-                    .body(fileContent);
-
-        } catch (IOException e) {
-            return ResponseEntity.internalServerError().body(Map.of("error", "Failed to read file: " + e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().body(Map.of("error", "Failed to read file: " + e.getMessage()));
-        }
+        return serveFile("avatars", filename);
     }
 
     /**
@@ -176,42 +156,79 @@ public class FileController {
      */
     @GetMapping("/album-covers/{filename}")
     public ResponseEntity<?> getAlbumCover(@PathVariable String filename) {
+        return serveFile("album-covers", filename);
+    }
+
+    /**
+     * Serve a generated cover variant (300px / 600px)
+     * GET /api/files/cover-variants/{filename}
+     */
+    @GetMapping("/cover-variants/{filename}")
+    public ResponseEntity<?> getCoverVariant(@PathVariable String filename) {
+        return serveFile("cover-variants", filename);
+    }
+
+    /**
+     * Stream a stored file. Spring answers conditional requests (If-None-Match / If-Modified-Since)
+     * with 304 from the ETag and Last-Modified headers set here, and Range requests with 206.
+     */
+    private ResponseEntity<?> serveFile(String directory, String filename) {
         try {
-            String safeFilename = filename.replaceAll("[^a-zA-Z0-9._-]", "");
-            Path filePath = Paths.get(uploadDir, "album-covers", safeFilename);
-            if (!Files.exists(filePath)) {
+            FileStorageService.StoredFile file = fileStorageService.find(directory, filename);
+            if (file == null) {
                 return ResponseEntity.notFound().build();
             }
-
-            byte[] fileContent = Files.readAllBytes(filePath);
-
-            String contentType = "image/jpeg";
-            String lowerFilename = safeFilename.toLowerCase();
-            if (lowerFilename.endsWith(".png")) {
-                contentType = "image/png";
-            } else if (lowerFilename.endsWith(".gif")) {
-                contentType = "image/gif";
-            } else if (lowerFilename.endsWith(".webp")) {
-                contentType = "image/webp";
-            } else {
-                try {
-                    String detectedType = Files.probeContentType(filePath);
-                    if (detectedType != null && detectedType.startsWith("image/")) {
-                        contentType = detectedType;
-                    }
-                } catch (Exception e) {
-                    // Use default
-                }
+            if (file.redirectUrl() != null) {
+                return ResponseEntity.status(HttpStatus.FOUND)
+                        .location(file.redirectUrl())
+                        .cacheControl(file.cacheControl())
+                        .build();
             }
-
             return ResponseEntity.ok()
-                    .header("Content-Type", contentType)
-                    .body(fileContent);
-
+                    .eTag(file.etag())
+                    .lastModified(file.lastModified())
+                    .cacheControl(file.cacheControl())
+                    .contentType(file.contentType())
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .body(file.resource());
         } catch (IOException e) {
             return ResponseEntity.internalServerError().body(Map.of("error", "Failed to read file: " + e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().body(Map.of("error", "Failed to read file: " + e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<?> createUploadUrl(Map<String, String> request, long maxBytes) {
+        String contentType = request != null ? request.get("contentType") : null;
+        if (contentType == null || !contentType.startsWith("image/")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Only image files are allowed"));
+        }
+        FileStorageService.DirectUpload upload = fileStorageService.createDirectUpload(contentType, maxBytes);
+        if (upload == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Direct uploads are not supported by this storage"));
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("key", upload.key());
+        response.put("method", "POST");
+        response.put("uploadUrl", upload.request().url().toString());
+        response.put("fields", upload.request().fields());
+        response.put("expiresAt", upload.request().expiresAt().toString());
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<?> completeUpload(String directory, String key, long maxBytes, int maxEdge) {
+        try {
+            FileStorageService.StoredUpload stored = fileStorageService.completeDirectUpload(directory, key, maxBytes, maxEdge);
+            String fileUrl = "/api/files/" + directory + "/" + stored.filename();
+            if (directory.equals("album-covers")) {
+                coverVariantService.scheduleVariants(fileUrl);
+            }
+            return ResponseEntity.ok(Map.of(
+                "url", fileUrl,
+                "filename", stored.filename()
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body(Map.of("error", "Failed to upload file: " + e.getMessage()));
         }
     }
 }
@@ -8,8 +8,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
 
@@ -29,6 +31,15 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getMyNotifications(pageable));
     }
 
+    /**
+     * Server-Sent Events: "notification" events for new blog replies and announcements
+     * GET /api/notifications/stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return notificationService.openStream();
+    }
+
     @GetMapping("/unread-count")
     public ResponseEntity<Map<String, Long>> getUnreadCount() {
         return ResponseEntity.ok(notificationService.getMyUnreadCount());
@@ -46,15 +57,31 @@ public class NotificationController {
 
     @PutMapping("/read-all")
     public ResponseEntity<?> markAllRead() {
-        notificationService.markAllRead();
-        return ResponseEntity.ok(Map.of("message", "All notifications marked as read"));
+        int updated = notificationService.markAllRead();
+        return ResponseEntity.ok(Map.of("message", "All notifications marked as read", "updated", updated));
+    }
+
+    @PutMapping("/read-up-to/{id}")
+    public ResponseEntity<?> markReadUpTo(@PathVariable Long id) {
+        int updated = notificationService.markReadUpTo(id);
+        return ResponseEntity.ok(Map.of("message", "Notifications marked as read", "updated", updated));
+    }
+
+    @DeleteMapping("/read")
+    public ResponseEntity<?> deleteRead(@RequestParam(defaultValue = "30") int olderThanDays) {
+        try {
+            int deleted = notificationService.deleteRead(olderThanDays);
+            return ResponseEntity.ok(Map.of("message", "Read notifications deleted", "deleted", deleted));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 
     @PostMapping("/announcements")
     public ResponseEntity<?> createAnnouncement(@Valid @RequestBody AnnouncementRequest request) {
         try {
-            notificationService.createAnnouncement(request.getTitle(), request.getContent());
-            return ResponseEntity.ok(Map.of("message", "Announcement published"));
+            Long announcementId = notificationService.createAnnouncement(request.getTitle(), request.getContent());
+            return ResponseEntity.ok(Map.of("message", "Announcement published", "announcementId", announcementId));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
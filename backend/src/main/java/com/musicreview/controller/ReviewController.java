@@ -2,6 +2,7 @@ package com.musicreview.controller;
 
 import com.musicreview.dto.review.ReviewRequest;
 import com.musicreview.dto.review.ReviewResponse;
+import com.musicreview.dto.review.ReviewThreadResponse;
 import com.musicreview.service.ReviewService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +34,22 @@ public class ReviewController {
         return ResponseEntity.ok(reviewService.getRecentReviews(pageable));
     }
 
+    /**
+     * Get recent reviews as a cursor feed
+     * GET /api/reviews/feed?cursor=xxx&size=20
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<?> getRecentReviewFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            return ResponseEntity.ok(reviewService.getRecentReviewFeed(cursor, Math.min(Math.max(size, 1), 50)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * Get reviews for an album
      * GET /api/reviews/album/{albumId}
@@ -47,6 +64,21 @@ public class ReviewController {
         return ResponseEntity.ok(reviewService.getReviewsByAlbum(albumId, pageable));
     }
 
+    /**
+     * Get reviews for an album with reply counts and the first replies of each
+     * GET /api/reviews/album/{albumId}/threads?page=0&size=20&replies=3
+     */
+    @GetMapping("/album/{albumId}/threads")
+    public ResponseEntity<Page<ReviewThreadResponse>> getReviewThreadsByAlbum(
+            @PathVariable Long albumId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replies
+    ) {
+        Pageable pageable = PageRequest.of(page, size);
+        return ResponseEntity.ok(reviewService.getReviewThreadsByAlbum(albumId, pageable, Math.min(Math.max(replies, 0), 20)));
+    }
+
     /**
      * Get current user's reviews
      * GET /api/reviews/my
@@ -102,7 +134,7 @@ public class ReviewController {
     }
 
     /**
-     * Get album stats (average rating, review count)
+     * Get album stats (average rating, review count, rating histogram)
      * GET /api/reviews/stats/{albumId}
      */
     @GetMapping("/stats/{albumId}")
@@ -111,7 +143,8 @@ public class ReviewController {
         long reviewCount = reviewService.getReviewCount(albumId);
         return ResponseEntity.ok(Map.of(
                 "averageRating", avgRating != null ? avgRating : 0,
-                "reviewCount", reviewCount
+                "reviewCount", reviewCount,
+                "ratingHistogram", reviewService.getRatingHistogram(albumId)
         ));
     }
 }
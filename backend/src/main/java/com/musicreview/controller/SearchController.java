@@ -0,0 +1,45 @@
+package com.musicreview.controller;
+
+import com.musicreview.dto.search.SearchResponse;
+import com.musicreview.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Search albums, artists, tracks and blog posts in one request
+     * GET /api/search?q=xxx&types=album,artist,track,blog&limit=20
+     */
+    @GetMapping
+    public ResponseEntity<?> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String types,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        Set<String> requestedTypes = SearchService.ALL_TYPES;
+        if (types != null && !types.isBlank()) {
+            requestedTypes = Arrays.stream(types.split(","))
+                    .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                    .filter(type -> !type.isEmpty())
+                    .collect(Collectors.toSet());
+            if (!SearchService.ALL_TYPES.containsAll(requestedTypes)) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Unknown search type: " + types));
+            }
+        }
+        SearchResponse response = searchService.search(query, requestedTypes, Math.min(Math.max(limit, 1), 50));
+        return ResponseEntity.ok(response);
+    }
+}
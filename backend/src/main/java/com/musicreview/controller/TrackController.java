@@ -0,0 +1,52 @@
+package com.musicreview.controller;
+
+import com.musicreview.dto.track.TrackSummaryResponse;
+import com.musicreview.service.TrackService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/tracks")
+@RequiredArgsConstructor
+public class TrackController {
+
+    private final TrackService trackService;
+
+    /**
+     * Search songs by title (returns the album and artist of each match)
+     * GET /api/tracks/search?q=xxx&limit=20
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<TrackSummaryResponse>> searchTracks(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(trackService.searchTracks(query, Math.min(Math.max(limit, 1), 50)));
+    }
+
+    /**
+     * Get the track list of an album
+     * GET /api/tracks/album/{albumId}
+     */
+    @GetMapping("/album/{albumId}")
+    public ResponseEntity<List<TrackSummaryResponse>> getTracksByAlbum(@PathVariable Long albumId) {
+        return ResponseEntity.ok(trackService.getTracksByAlbum(albumId));
+    }
+
+    /**
+     * Get a track with its album and artist
+     * GET /api/tracks/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getTrackById(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(trackService.getTrackById(id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(404).body(Map.of("error", e.getMessage()));
+        }
+    }
+}
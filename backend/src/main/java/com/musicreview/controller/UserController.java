@@ -3,10 +3,9 @@ package com.musicreview.controller;
 import com.musicreview.dto.user.UserProfileRequest;
 import com.musicreview.dto.user.UserProfileResponse;
 import com.musicreview.entity.User;
-import com.musicreview.repository.FavoriteRepository;
-import com.musicreview.repository.ReviewRepository;
 import com.musicreview.repository.UserRepository;
 import com.musicreview.service.AuthService;
+import com.musicreview.service.UserStatsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,9 +19,8 @@ import java.util.Map;
 public class UserController {
 
     private final UserRepository userRepository;
-    private final ReviewRepository reviewRepository;
-    private final FavoriteRepository favoriteRepository;
     private final AuthService authService;
+    private final UserStatsService userStatsService;
 
     /**
      * Get current user profile
@@ -32,9 +30,7 @@ public class UserController {
     public ResponseEntity<?> getCurrentUserProfile() {
         try {
             User user = authService.getCurrentUser();
-            int reviewCount = reviewRepository.countByUserId(user.getId());
-            int favoriteCount = favoriteRepository.countByUserId(user.getId());
-            return ResponseEntity.ok(UserProfileResponse.fromEntity(user, reviewCount, favoriteCount));
+            return ResponseEntity.ok(UserProfileResponse.fromEntity(user, userStatsService.getStats(user.getId())));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -57,10 +53,7 @@ public class UserController {
             }
             
             User saved = userRepository.save(user);
-            // Get counts to include in response
-            int reviewCount = reviewRepository.countByUserId(saved.getId());
-            int favoriteCount = favoriteRepository.countByUserId(saved.getId());
-            return ResponseEntity.ok(UserProfileResponse.fromEntity(saved, reviewCount, favoriteCount));
+            return ResponseEntity.ok(UserProfileResponse.fromEntity(saved, userStatsService.getStats(saved.getId())));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -75,9 +68,7 @@ public class UserController {
         try {
             User user = userRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("User not found"));
-            int reviewCount = reviewRepository.countByUserId(id);
-            int favoriteCount = favoriteRepository.countByUserId(id);
-            return ResponseEntity.ok(UserProfileResponse.fromEntity(user, reviewCount, favoriteCount));
+            return ResponseEntity.ok(UserProfileResponse.fromEntity(user, userStatsService.getStats(id)));
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
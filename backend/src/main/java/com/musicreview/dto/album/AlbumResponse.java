@@ -1,9 +1,9 @@
 package com.musicreview.dto.album;
 
 import com.musicreview.entity.Album;
+import com.musicreview.entity.AlbumStats;
 import com.musicreview.entity.Genre;
 import com.musicreview.entity.Track;
-import com.musicreview.entity.Review;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,11 +13,12 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AlbumResponse {
@@ -27,6 +28,8 @@ public class AlbumResponse {
     private String titleInitial;
     private Integer releaseYear;
     private String coverUrl;
+    private String coverThumbUrl; // generated 300px variant, null until ready
+    private String coverDetailUrl; // generated 600px variant, null until ready
     private String description;
     private LocalDateTime createdAt;
 
@@ -47,6 +50,8 @@ public class AlbumResponse {
     private Double averageRating;
     private Integer reviewCount;
     private Integer favoriteCount;
+    private Map<String, Integer> ratingHistogram; // half-star bucket ("0.0".."5.0") -> review count, detail only
+    private Double rankingScore; // top / trending lists only
 
     public AlbumResponse(Long id,
                          String title,
@@ -64,6 +69,18 @@ public class AlbumResponse {
         this.artistName = artistName;
     }
 
+    public AlbumResponse(Long id,
+                         String title,
+                         String titleInitial,
+                         Integer releaseYear,
+                         String coverUrl,
+                         LocalDateTime createdAt,
+                         Long artistId,
+                         String artistName) {
+        this(id, title, titleInitial, releaseYear, coverUrl, artistId, artistName);
+        this.createdAt = createdAt;
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -81,6 +98,10 @@ public class AlbumResponse {
     }
 
     public static AlbumResponse fromEntity(Album album) {
+        return fromEntity(album, null);
+    }
+
+    public static AlbumResponse fromEntity(Album album, AlbumStats stats) {
         AlbumResponse.AlbumResponseBuilder builder = AlbumResponse.builder()
                 .id(album.getId())
                 .title(album.getTitle())
@@ -125,45 +146,27 @@ public class AlbumResponse {
         }
         builder.genres(genreSet);
 
-        // Safely get review stats
-        Double avgRating = null;
-        int reviewCount = 0;
-        try {
-            if (album.getReviews() != null && !album.getReviews().isEmpty()) {
-                List<Review> reviews = new ArrayList<>(album.getReviews());
-                reviewCount = reviews.size();
-                double sum = 0;
-                int count = 0;
-                for (Review r : reviews) {
-                    if (r.getRating() != null) {
-                        sum += r.getRating().doubleValue();
-                        count++;
-                    }
-                }
-                if (count > 0) {
-                    avgRating = Math.round(sum / count * 10.0) / 10.0;
-                }
-            }
-        } catch (Exception e) {
-            // Ignore lazy loading errors
-        }
-        builder.averageRating(avgRating);
-        builder.reviewCount(reviewCount);
-
-        // Safely get favorite count
-        int favoriteCount = 0;
-        try {
-            if (album.getFavorites() != null) {
-                favoriteCount = album.getFavorites().size();
-            }
-        } catch (Exception e) {
-            // Ignore lazy loading errors
-        }
-        builder.favoriteCount(favoriteCount);
+        // Counters come from the denormalized album_stats row, never from the review/favorite collections
+        AlbumStats albumStats = stats != null ? stats : AlbumStats.empty(album.getId());
+        builder.averageRating(albumStats.getAverageRating());
+        builder.reviewCount(albumStats.getReviewCount());
+        builder.favoriteCount(albumStats.getFavoriteCount());
 
         return builder.build();
     }
 
+    /**
+     * Copy of this response with counters taken from the given stats row (list pages share cached instances)
+     */
+    public AlbumResponse withStats(AlbumStats stats) {
+        AlbumStats albumStats = stats != null ? stats : AlbumStats.empty(id);
+        return toBuilder()
+                .averageRating(albumStats.getAverageRating())
+                .reviewCount(albumStats.getReviewCount())
+                .favoriteCount(albumStats.getFavoriteCount())
+                .build();
+    }
+
     public static AlbumResponse fromEntitySimple(Album album) {
         return AlbumResponse.builder()
                 .id(album.getId())
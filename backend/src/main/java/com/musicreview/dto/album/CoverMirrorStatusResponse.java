@@ -0,0 +1,34 @@
+package com.musicreview.dto.album;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverMirrorStatusResponse {
+
+    private boolean enabled;
+    private Map<String, Long> albumsByStatus; // MIRRORED / FAILED / SKIPPED -> album count
+    private int inFlight;
+    private List<Failure> recentFailures;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Failure {
+        private Long albumId;
+        private String sourceUrl;
+        private Integer attempts;
+        private String error;
+        private LocalDateTime updatedAt;
+    }
+}
@@ -0,0 +1,34 @@
+package com.musicreview.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated feed. There is no total count; pass nextCursor back to
+ * fetch the following page while hasNext is true.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * Build a page from a query that fetched size + 1 rows; the extra row only signals that more exist
+     */
+    public static <T> CursorPage<T> fromOverfetch(List<T> rows, int size, Function<T, FeedCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? List.copyOf(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+}
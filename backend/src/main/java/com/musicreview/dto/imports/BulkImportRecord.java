@@ -0,0 +1,53 @@
+package com.musicreview.dto.imports;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.musicreview.dto.album.TrackDTO;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One NDJSON line of a bulk catalog import.
+ * {"type":"artist","name":...} creates an artist; album lines (the default) name their artist
+ * and carry genres by name and the full track list.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BulkImportRecord {
+
+    public static final String TYPE_ARTIST = "artist";
+    public static final String TYPE_ALBUM = "album";
+
+    private String type;
+
+    // Artist lines
+    private String name;
+    private String country;
+    private Integer formedYear;
+    private String genre;
+    private String photoUrl;
+
+    // Album lines
+    private String artist;
+    private String title;
+    private Integer releaseYear;
+    private String coverUrl;
+    private List<String> genres;
+    private List<TrackDTO> tracks;
+
+    private String description;
+
+    /** Line of the record in the uploaded file (set by the reader) */
+    private long line;
+
+    public boolean isArtist() {
+        return TYPE_ARTIST.equalsIgnoreCase(type);
+    }
+
+    /**
+     * Artist name this record belongs to
+     */
+    public String artistName() {
+        return isArtist() ? name : artist;
+    }
+}
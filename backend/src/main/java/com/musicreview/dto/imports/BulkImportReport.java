@@ -0,0 +1,34 @@
+package com.musicreview.dto.imports;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportReport {
+
+    private long rowsRead;
+    private long artistsCreated;
+    private long albumsCreated;
+    private long tracksCreated;
+    private long duplicatesSkipped;
+    private long errorCount;
+    private List<RowError> errors; // first errors only, see errorCount for the total
+    private boolean aborted;
+    private long elapsedMs;
+    private double rowsPerSecond;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
@@ -0,0 +1,19 @@
+package com.musicreview.dto.imports;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobRequest {
+
+    @NotBlank(message = "Source is required")
+    private String source; // musicbrainz | netease
+
+    private String mbid; // MusicBrainz release id
+
+    private String url; // NetEase album URL or id
+}
@@ -0,0 +1,27 @@
+package com.musicreview.dto.imports;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponse {
+
+    private String id;
+    private String source;
+    private String reference;
+    private String status; // QUEUED, RUNNING, RETRYING, SUCCEEDED, FAILED, CANCELLED
+    private int attempts;
+    private int maxAttempts;
+    private String message;
+    private String error;
+    private ImportedAlbumResponse result;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.musicreview.dto.imports;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One MusicBrainz release in the import search results
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportSearchResult {
+
+    private String mbid;
+    private String title;
+    private Integer trackCount;
+    private String date;
+    private String country;
+    private String status;
+    private String artistName;
+    private String artistMbid;
+    private String type; // release group primary type
+}
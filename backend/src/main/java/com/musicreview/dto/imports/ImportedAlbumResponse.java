@@ -0,0 +1,73 @@
+package com.musicreview.dto.imports;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Album metadata fetched from MusicBrainz or NetEase, in the shape the album form is filled from
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportedAlbumResponse {
+
+    private String mbid;
+    private String title;
+    private String date;
+    private String country;
+    private String barcode;
+    private Integer releaseYear;
+    private String coverUrl;
+    private String description;
+    private ImportedArtist artist;
+
+    @Builder.Default
+    private List<ImportedTrack> tracks = new ArrayList<>();
+
+    private int trackCount;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportedArtist {
+        private String name;
+        private String mbid;
+        private String photoUrl;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportedTrack {
+        private int trackNumber;
+        private String title;
+        private Integer duration; // in seconds
+        private Integer minutes;
+        private Integer seconds;
+
+        /**
+         * Track entry from an upstream length in milliseconds (may be null)
+         */
+        public static ImportedTrack of(int trackNumber, String title, Integer lengthMillis) {
+            ImportedTrack track = ImportedTrack.builder()
+                    .trackNumber(trackNumber)
+                    .title(title)
+                    .build();
+            if (lengthMillis != null) {
+                int durationSeconds = lengthMillis / 1000;
+                track.setDuration(durationSeconds);
+                track.setMinutes(durationSeconds / 60);
+                track.setSeconds(durationSeconds % 60);
+            }
+            return track;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.musicreview.dto.review;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.musicreview.dto.reply.ReplyResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A review (serialized with its fields inline) plus its reply count and first replies
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewThreadResponse {
+
+    @JsonUnwrapped
+    private ReviewResponse review;
+    private long replyCount;
+    private List<ReplyResponse> replies;
+}
@@ -0,0 +1,20 @@
+package com.musicreview.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResponse {
+    private String query;
+    private List<SearchResultItem> items;
+    private List<String> timedOutSources; // sources that missed the time budget and were left out
+    private List<String> degradedSources; // sources whose index is still building (database fallback or no results)
+    private Long tookMs;
+}
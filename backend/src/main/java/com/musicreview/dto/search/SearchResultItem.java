@@ -0,0 +1,21 @@
+package com.musicreview.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultItem {
+    private String type; // album / artist / track / blog
+    private Long id;
+    private String title;
+    private String subtitle;
+    private String imageUrl;
+    private Long albumId;
+    private Long artistId;
+    private Double score;
+}
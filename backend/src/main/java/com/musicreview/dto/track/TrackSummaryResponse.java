@@ -0,0 +1,38 @@
+package com.musicreview.dto.track;
+
+import com.musicreview.repository.projection.TrackSearchProjection;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrackSummaryResponse {
+    private Long id;
+    private String title;
+    private Integer trackNumber;
+    private Integer duration; // in seconds
+    private Long albumId;
+    private String albumTitle;
+    private String albumCoverUrl;
+    private Long artistId;
+    private String artistName;
+    private Double score; // search results only
+
+    public static TrackSummaryResponse fromProjection(TrackSearchProjection track) {
+        return TrackSummaryResponse.builder()
+                .id(track.getId())
+                .title(track.getTitle())
+                .trackNumber(track.getTrackNumber())
+                .duration(track.getDuration())
+                .albumId(track.getAlbumId())
+                .albumTitle(track.getAlbumTitle())
+                .albumCoverUrl(track.getAlbumCoverUrl())
+                .artistId(track.getArtistId())
+                .artistName(track.getArtistName())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.musicreview.dto.user;
 
 import com.musicreview.entity.User;
+import com.musicreview.entity.UserStats;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,6 +26,8 @@ public class UserProfileResponse {
     // Stats
     private Integer reviewCount;
     private Integer favoriteCount;
+    private Integer blogPostCount;
+    private Integer guessBandWins;
 
     public static UserProfileResponse fromEntity(User user) {
         return UserProfileResponse.builder()
@@ -38,7 +41,7 @@ public class UserProfileResponse {
                 .build();
     }
 
-    public static UserProfileResponse fromEntity(User user, int reviewCount, int favoriteCount) {
+    public static UserProfileResponse fromEntity(User user, UserStats stats) {
         return UserProfileResponse.builder()
                 .id(user.getId())
                 .username(user.getUsername())
@@ -47,8 +50,10 @@ public class UserProfileResponse {
                 .bio(user.getBio())
                 .role(user.getRole())
                 .createdAt(user.getCreatedAt())
-                .reviewCount(reviewCount)
-                .favoriteCount(favoriteCount)
+                .reviewCount(stats.getReviewCount())
+                .favoriteCount(stats.getFavoriteCount())
+                .blogPostCount(stats.getBlogPostCount())
+                .guessBandWins(stats.getGuessBandWins())
                 .build();
     }
 }
@@ -0,0 +1,49 @@
+package com.musicreview.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mirroring state of an album's remote cover. sourceUrl is the cover URL that was processed, so a
+ * changed Album.coverUrl is picked up again; localUrl is the stored copy the variants come from.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "album_cover_mirrors")
+public class AlbumCoverMirror {
+
+    public static final String STATUS_MIRRORED = "MIRRORED";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_SKIPPED = "SKIPPED";
+
+    @Id
+    @Column(name = "album_id")
+    private Long albumId;
+
+    @Column(name = "source_url", nullable = false, length = 255)
+    private String sourceUrl;
+
+    @Column(name = "local_url", length = 255)
+    private String localUrl;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(length = 255)
+    private String error;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.musicreview.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted snapshot of an album's trending score. The score is kept as the natural log of the
+ * decayed activity weight measured against a fixed epoch, so stored values never need rescaling.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "album_rankings")
+public class AlbumRanking {
+
+    @Id
+    @Column(name = "album_id")
+    private Long albumId;
+
+    @Column(name = "trending_log_score", nullable = false)
+    private Double trendingLogScore;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
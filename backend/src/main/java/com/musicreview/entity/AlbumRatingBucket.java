@@ -0,0 +1,42 @@
+package com.musicreview.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * One bar of an album's rating histogram. Buckets are half stars: bucket = rating * 2 (0..10).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(AlbumRatingBucket.Key.class)
+@Table(name = "album_rating_buckets")
+public class AlbumRatingBucket {
+
+    @Id
+    @Column(name = "album_id")
+    private Long albumId;
+
+    @Id
+    @Column(name = "bucket")
+    private Integer bucket;
+
+    @Column(name = "review_count", nullable = false)
+    @Builder.Default
+    private Integer reviewCount = 0;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long albumId;
+        private Integer bucket;
+    }
+}
@@ -0,0 +1,61 @@
+package com.musicreview.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized per-album counters, maintained incrementally by review and favorite writes
+ * so that album pages never aggregate over the reviews/favorites tables.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "album_stats")
+public class AlbumStats {
+
+    @Id
+    @Column(name = "album_id")
+    private Long albumId;
+
+    @Column(name = "review_count", nullable = false)
+    @Builder.Default
+    private Integer reviewCount = 0;
+
+    @Column(name = "rated_count", nullable = false)
+    @Builder.Default
+    private Integer ratedCount = 0;
+
+    @Column(name = "rating_sum", nullable = false, precision = 12, scale = 1)
+    @Builder.Default
+    private BigDecimal ratingSum = BigDecimal.ZERO;
+
+    @Column(name = "favorite_count", nullable = false)
+    @Builder.Default
+    private Integer favoriteCount = 0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static AlbumStats empty(Long albumId) {
+        return AlbumStats.builder().albumId(albumId).build();
+    }
+
+    /**
+     * Average over rated reviews, rounded to one decimal (null when nothing is rated)
+     */
+    public Double getAverageRating() {
+        if (ratedCount == null || ratedCount == 0 || ratingSum == null) {
+            return null;
+        }
+        return ratingSum.divide(BigDecimal.valueOf(ratedCount), 1, RoundingMode.HALF_UP).doubleValue();
+    }
+}
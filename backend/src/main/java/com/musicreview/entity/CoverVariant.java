@@ -0,0 +1,45 @@
+package com.musicreview.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Generated 300px / 600px variants of one cover image. Rows are keyed by the cover URL albums
+ * point at; the variant files themselves are named after the SHA-256 of the source bytes, so the
+ * same image uploaded twice (or shared by several albums) is only resized once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "cover_variants")
+public class CoverVariant {
+
+    public static final String STATUS_READY = "READY";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @Column(name = "source_url", length = 255)
+    private String sourceUrl;
+
+    @Column(name = "content_hash", columnDefinition = "CHAR(64)")
+    private String contentHash;
+
+    @Column(length = 10)
+    private String format;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(length = 255)
+    private String error;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,49 @@
+package com.musicreview.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized per-user activity counters, maintained incrementally by review, favorite, blog post
+ * and guess-band writes so that profile pages never aggregate over those tables.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "user_stats")
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "review_count", nullable = false)
+    @Builder.Default
+    private Integer reviewCount = 0;
+
+    @Column(name = "favorite_count", nullable = false)
+    @Builder.Default
+    private Integer favoriteCount = 0;
+
+    @Column(name = "blog_post_count", nullable = false)
+    @Builder.Default
+    private Integer blogPostCount = 0;
+
+    @Column(name = "guess_band_wins", nullable = false)
+    @Builder.Default
+    private Integer guessBandWins = 0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static UserStats empty(Long userId) {
+        return UserStats.builder().userId(userId).build();
+    }
+}
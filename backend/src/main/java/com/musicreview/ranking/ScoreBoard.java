@@ -0,0 +1,71 @@
+package com.musicreview.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Scores keyed by id, kept in descending score order so that reading the top k entries
+ * costs O(k) and a score change costs O(log n). Ties are broken by ascending id.
+ */
+public class ScoreBoard {
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparingLong(Entry::id);
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final TreeSet<Entry> ordered = new TreeSet<>(ORDER);
+
+    public synchronized void put(long id, double score) {
+        Double previous = scores.put(id, score);
+        if (previous != null) {
+            ordered.remove(new Entry(id, previous));
+        }
+        ordered.add(new Entry(id, score));
+    }
+
+    public synchronized Double get(long id) {
+        return scores.get(id);
+    }
+
+    public synchronized void remove(long id) {
+        Double previous = scores.remove(id);
+        if (previous != null) {
+            ordered.remove(new Entry(id, previous));
+        }
+    }
+
+    /**
+     * Replace every score at once, e.g. after a periodic rebuild
+     */
+    public synchronized void replaceAll(Map<Long, Double> newScores) {
+        scores.clear();
+        ordered.clear();
+        newScores.forEach(this::put);
+    }
+
+    public synchronized List<Entry> top(int k) {
+        List<Entry> result = new ArrayList<>(Math.min(k, ordered.size()));
+        Iterator<Entry> iterator = ordered.iterator();
+        while (result.size() < k && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    public synchronized Map<Long, Double> snapshot() {
+        return new HashMap<>(scores);
+    }
+
+    public synchronized int size() {
+        return scores.size();
+    }
+
+    public record Entry(long id, double score) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.musicreview.repository;
+
+import com.musicreview.entity.AlbumCoverMirror;
+import com.musicreview.repository.projection.CoverMirrorStatusCountProjection;
+import com.musicreview.repository.projection.PendingCoverMirrorProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AlbumCoverMirrorRepository extends JpaRepository<AlbumCoverMirror, Long> {
+
+    /**
+     * Albums with a remote cover that was never mirrored, has changed since, or failed and is due for a retry.
+     * Attempts only count against the URL they were made for; a changed cover starts again from 0.
+     */
+    @Query(value = """
+            SELECT a.id AS albumId, a.cover_url AS coverUrl,
+                   CASE WHEN m.source_url = a.cover_url THEN m.attempts ELSE 0 END AS attempts
+            FROM albums a
+            LEFT JOIN album_cover_mirrors m ON m.album_id = a.id
+            WHERE (a.cover_url LIKE 'http://%' OR a.cover_url LIKE 'https://%')
+              AND (m.album_id IS NULL
+                   OR m.source_url <> a.cover_url
+                   OR (m.status = 'FAILED' AND m.attempts < :maxAttempts AND m.updated_at < :retryBefore))
+            ORDER BY a.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<PendingCoverMirrorProjection> findPending(@Param("maxAttempts") int maxAttempts,
+                                                   @Param("retryBefore") LocalDateTime retryBefore,
+                                                   @Param("limit") int limit);
+
+    Optional<AlbumCoverMirror> findFirstBySourceUrlAndStatus(String sourceUrl, String status);
+
+    @Query("SELECT m.status AS status, COUNT(m) AS total FROM AlbumCoverMirror m GROUP BY m.status")
+    List<CoverMirrorStatusCountProjection> countByStatus();
+
+    @Query("SELECT m FROM AlbumCoverMirror m WHERE m.status = 'FAILED' ORDER BY m.updatedAt DESC")
+    List<AlbumCoverMirror> findRecentFailures(Pageable pageable);
+}
@@ -0,0 +1,16 @@
+package com.musicreview.repository;
+
+import com.musicreview.entity.AlbumRanking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AlbumRankingRepository extends JpaRepository<AlbumRanking, Long> {
+
+    @Modifying
+    @Query("DELETE FROM AlbumRanking r WHERE r.albumId = :albumId")
+    int deleteByAlbumId(@Param("albumId") Long albumId);
+}
@@ -0,0 +1,42 @@
+package com.musicreview.repository;
+
+import com.musicreview.entity.AlbumRatingBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AlbumRatingBucketRepository extends JpaRepository<AlbumRatingBucket, AlbumRatingBucket.Key> {
+
+    List<AlbumRatingBucket> findByAlbumIdOrderByBucketAsc(Long albumId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO album_rating_buckets (album_id, bucket, review_count)
+            VALUES (:albumId, :bucket, GREATEST(:delta, 0))
+            ON DUPLICATE KEY UPDATE review_count = GREATEST(review_count + :delta, 0)
+            """, nativeQuery = true)
+    int applyDelta(@Param("albumId") Long albumId, @Param("bucket") int bucket, @Param("delta") int delta);
+
+    /**
+     * Seed histograms for albums that have no stats row yet; must run before the album_stats backfill
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO album_rating_buckets (album_id, bucket, review_count)
+            SELECT r.album_id, LEAST(GREATEST(ROUND(r.rating * 2), 0), 10), COUNT(*)
+            FROM reviews r
+            WHERE r.rating IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM album_stats s WHERE s.album_id = r.album_id)
+            GROUP BY r.album_id, LEAST(GREATEST(ROUND(r.rating * 2), 0), 10)
+            """, nativeQuery = true)
+    int backfillMissing();
+
+    @Modifying
+    @Query("DELETE FROM AlbumRatingBucket b WHERE b.albumId = :albumId")
+    int deleteByAlbumId(@Param("albumId") Long albumId);
+}
@@ -2,6 +2,7 @@ package com.musicreview.repository;
 
 import com.musicreview.dto.album.AlbumResponse;
 import com.musicreview.entity.Album;
+import com.musicreview.repository.projection.AlbumSearchProjection;
 import com.musicreview.repository.projection.ArtistAlbumCountProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +11,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +36,89 @@ public interface AlbumRepository extends JpaRepository<Album, Long> {
             countQuery = "SELECT COUNT(a.id) FROM Album a")
     Page<AlbumResponse> findAlbumSummaries(Pageable pageable);
 
+    @Query("""
+            SELECT new com.musicreview.dto.album.AlbumResponse(
+                a.id,
+                a.title,
+                a.titleInitial,
+                a.releaseYear,
+                a.coverUrl,
+                a.createdAt,
+                ar.id,
+                ar.name
+            )
+            FROM Album a
+            JOIN a.artist ar
+            ORDER BY a.createdAt DESC, a.id DESC
+            """)
+    List<AlbumResponse> findAlbumFeed(Pageable pageable);
+
+    @Query("""
+            SELECT new com.musicreview.dto.album.AlbumResponse(
+                a.id,
+                a.title,
+                a.titleInitial,
+                a.releaseYear,
+                a.coverUrl,
+                a.createdAt,
+                ar.id,
+                ar.name
+            )
+            FROM Album a
+            JOIN a.artist ar
+            WHERE a.createdAt < :createdAt
+               OR (a.createdAt = :createdAt AND a.id < :id)
+            ORDER BY a.createdAt DESC, a.id DESC
+            """)
+    List<AlbumResponse> findAlbumFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    @Query("""
+            SELECT new com.musicreview.dto.album.AlbumResponse(
+                a.id,
+                a.title,
+                a.titleInitial,
+                a.releaseYear,
+                a.coverUrl,
+                ar.id,
+                ar.name
+            )
+            FROM Album a
+            JOIN a.artist ar
+            WHERE a.id IN :ids
+            """)
+    List<AlbumResponse> findAlbumSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.musicreview.dto.album.AlbumResponse(
+                a.id,
+                a.title,
+                a.titleInitial,
+                a.releaseYear,
+                a.coverUrl,
+                ar.id,
+                ar.name
+            )
+            FROM Album a
+            JOIN a.artist ar
+            WHERE LOWER(a.title) LIKE LOWER(CONCAT('%', :query, '%'))
+            ORDER BY a.title ASC, a.id ASC
+            """)
+    List<AlbumResponse> findAlbumSummariesByTitleContaining(@Param("query") String query, Pageable pageable);
+
+    @Query("SELECT a.id AS id, a.title AS title, a.description AS description, ar.name AS artistName " +
+           "FROM Album a JOIN a.artist ar")
+    List<AlbumSearchProjection> findAllForSearchIndex();
+
+    @Query("SELECT a.id AS id, a.title AS title, a.description AS description, ar.name AS artistName " +
+           "FROM Album a JOIN a.artist ar WHERE ar.id = :artistId")
+    List<AlbumSearchProjection> findForSearchIndexByArtistId(@Param("artistId") Long artistId);
+
+    /**
+     * Album with artist and genres; tracks are left to a second query, since fetching the tracks bag
+     * alongside the genres would repeat every track once per genre
+     */
     @Query("SELECT a FROM Album a " +
            "LEFT JOIN FETCH a.artist " +
            "LEFT JOIN FETCH a.genres " +
@@ -56,6 +142,9 @@ public interface AlbumRepository extends JpaRepository<Album, Long> {
     @Query("SELECT DISTINCT a.releaseYear FROM Album a WHERE a.releaseYear IS NOT NULL ORDER BY a.releaseYear DESC")
     List<Integer> findAllReleaseYears();
 
+    @Query("SELECT DISTINCT a.coverUrl FROM Album a WHERE a.coverUrl LIKE CONCAT(:prefix, '%')")
+    List<String> findDistinctCoverUrlsStartingWith(@Param("prefix") String prefix);
+
     @Query("SELECT g.id AS genreId, COUNT(a.id) AS albumCount FROM Genre g LEFT JOIN g.albums a WHERE g.id IN :genreIds GROUP BY g.id")
     List<com.musicreview.repository.projection.GenreAlbumCountProjection> countByGenreIds(@Param("genreIds") List<Long> genreIds);
 
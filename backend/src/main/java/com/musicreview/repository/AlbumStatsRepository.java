@@ -0,0 +1,64 @@
+package com.musicreview.repository;
+
+import com.musicreview.entity.AlbumStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AlbumStatsRepository extends JpaRepository<AlbumStats, Long> {
+
+    List<AlbumStats> findByAlbumIdIn(Collection<Long> albumIds);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO album_stats (album_id, review_count, rated_count, rating_sum, favorite_count, updated_at)
+            VALUES (:albumId, GREATEST(:reviewDelta, 0), GREATEST(:ratedDelta, 0), GREATEST(:ratingSumDelta, 0), 0, NOW())
+            ON DUPLICATE KEY UPDATE
+                review_count = GREATEST(review_count + :reviewDelta, 0),
+                rated_count = GREATEST(rated_count + :ratedDelta, 0),
+                rating_sum = GREATEST(rating_sum + :ratingSumDelta, 0),
+                updated_at = NOW()
+            """, nativeQuery = true)
+    int applyReviewDelta(@Param("albumId") Long albumId,
+                         @Param("reviewDelta") int reviewDelta,
+                         @Param("ratedDelta") int ratedDelta,
+                         @Param("ratingSumDelta") BigDecimal ratingSumDelta);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO album_stats (album_id, review_count, rated_count, rating_sum, favorite_count, updated_at)
+            VALUES (:albumId, 0, 0, 0, GREATEST(:favoriteDelta, 0), NOW())
+            ON DUPLICATE KEY UPDATE
+                favorite_count = GREATEST(favorite_count + :favoriteDelta, 0),
+                updated_at = NOW()
+            """, nativeQuery = true)
+    int applyFavoriteDelta(@Param("albumId") Long albumId, @Param("favoriteDelta") int favoriteDelta);
+
+    /**
+     * Seed counters for albums that have no stats row yet (e.g. rows created before this table existed)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO album_stats (album_id, review_count, rated_count, rating_sum, favorite_count, updated_at)
+            SELECT a.id,
+                   (SELECT COUNT(*) FROM reviews r WHERE r.album_id = a.id),
+                   (SELECT COUNT(r.rating) FROM reviews r WHERE r.album_id = a.id),
+                   (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.album_id = a.id),
+                   (SELECT COUNT(*) FROM favorites f WHERE f.album_id = a.id),
+                   NOW()
+            FROM albums a
+            WHERE NOT EXISTS (SELECT 1 FROM album_stats s WHERE s.album_id = a.id)
+            """, nativeQuery = true)
+    int backfillMissing();
+
+    @Modifying
+    @Query("DELETE FROM AlbumStats s WHERE s.albumId = :albumId")
+    int deleteByAlbumId(@Param("albumId") Long albumId);
+}
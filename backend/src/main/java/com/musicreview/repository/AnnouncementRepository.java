@@ -0,0 +1,29 @@
+package com.musicreview.repository;
+
+import com.musicreview.entity.Announcement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
+
+    @Query("SELECT a.id FROM Announcement a WHERE a.status <> 'DELIVERED' ORDER BY a.id")
+    List<Long> findUndeliveredIds();
+
+    /**
+     * Take the delivery lease; returns 0 when another node holds it or delivery is done
+     */
+    @Modifying
+    @Query("""
+            UPDATE Announcement a SET a.lockedUntil = :until
+            WHERE a.id = :id AND a.status <> 'DELIVERED'
+              AND (a.lockedUntil IS NULL OR a.lockedUntil < :now)
+            """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+}
@@ -2,6 +2,7 @@ package com.musicreview.repository;
 
 import com.musicreview.dto.artist.ArtistSearchItemResponse;
 import com.musicreview.entity.Artist;
+import com.musicreview.repository.projection.ArtistSearchProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,6 +23,9 @@ public interface ArtistRepository extends JpaRepository<Artist, Long> {
 
     boolean existsByName(String name);
 
+    @Query("SELECT a.id AS id, a.name AS name, a.description AS description FROM Artist a")
+    List<ArtistSearchProjection> findAllForSearchIndex();
+
     @Query("""
             SELECT a FROM Artist a
             WHERE a.name IS NOT NULL
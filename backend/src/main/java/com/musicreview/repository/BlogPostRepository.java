@@ -2,6 +2,7 @@ package com.musicreview.repository;
 
 import com.musicreview.dto.blog.BlogPostResponse;
 import com.musicreview.entity.BlogPost;
+import com.musicreview.repository.projection.BlogSearchProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,10 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
 
     Optional<BlogPost> findByIdAndUserId(Long id, Long userId);
 
+    @Query("SELECT p.id AS id, p.title AS title, p.content AS content, u.username AS username, a.id AS albumId " +
+           "FROM BlogPost p JOIN p.user u LEFT JOIN p.album a")
+    List<BlogSearchProjection> findAllForSearchIndex();
+
     @Query("""
             SELECT new com.musicreview.dto.blog.BlogPostResponse(
                 p.id,
@@ -41,6 +47,50 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
             """)
     Page<BlogPostResponse> findPostResponses(Pageable pageable);
 
+    @Query("""
+            SELECT new com.musicreview.dto.blog.BlogPostResponse(
+                p.id,
+                u.id,
+                u.username,
+                a.id,
+                a.title,
+                a.coverUrl,
+                p.title,
+                p.content,
+                p.createdAt,
+                p.updatedAt
+            )
+            FROM BlogPost p
+            JOIN p.user u
+            LEFT JOIN p.album a
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<BlogPostResponse> findPostFeed(Pageable pageable);
+
+    @Query("""
+            SELECT new com.musicreview.dto.blog.BlogPostResponse(
+                p.id,
+                u.id,
+                u.username,
+                a.id,
+                a.title,
+                a.coverUrl,
+                p.title,
+                p.content,
+                p.createdAt,
+                p.updatedAt
+            )
+            FROM BlogPost p
+            JOIN p.user u
+            LEFT JOIN p.album a
+            WHERE p.createdAt < :createdAt
+               OR (p.createdAt = :createdAt AND p.id < :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<BlogPostResponse> findPostFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
     @Query("""
             SELECT new com.musicreview.dto.blog.BlogPostResponse(
                 p.id,
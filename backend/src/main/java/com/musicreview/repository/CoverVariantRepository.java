@@ -0,0 +1,13 @@
+package com.musicreview.repository;
+
+import com.musicreview.entity.CoverVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CoverVariantRepository extends JpaRepository<CoverVariant, String> {
+
+    List<CoverVariant> findByStatus(String status);
+}
@@ -2,6 +2,7 @@ package com.musicreview.repository;
 
 import com.musicreview.dto.favorite.FavoriteResponse;
 import com.musicreview.entity.Favorite;
+import com.musicreview.repository.projection.AlbumActivityProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,8 +27,6 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 
     long countByAlbumId(Long albumId);
 
-    int countByUserId(Long userId);
-
     @Query("""
             SELECT new com.musicreview.dto.favorite.FavoriteResponse(
                 f.id,
@@ -45,4 +45,7 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
             ORDER BY f.createdAt DESC
             """)
     Page<FavoriteResponse> findFavoriteResponsesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT f.album.id AS albumId, f.createdAt AS createdAt FROM Favorite f WHERE f.createdAt >= :since")
+    List<AlbumActivityProjection> findAlbumActivitySince(@Param("since") LocalDateTime since);
 }
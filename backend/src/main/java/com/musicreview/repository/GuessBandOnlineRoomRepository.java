@@ -1,9 +1,14 @@
 package com.musicreview.repository;
 
 import com.musicreview.entity.GuessBandOnlineRoom;
+import com.musicreview.entity.enums.GuessBandRoomStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -12,5 +17,18 @@ public interface GuessBandOnlineRoomRepository extends JpaRepository<GuessBandOn
     Optional<GuessBandOnlineRoom> findByRoomCode(String roomCode);
 
     Optional<GuessBandOnlineRoom> findByInviteToken(String inviteToken);
+
+    /**
+     * Finish a room unless it is already finished; returns 1 only for the request that finished it
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE GuessBandOnlineRoom r
+            SET r.status = :finished, r.finishedAt = :finishedAt, r.roundStartedAt = NULL, r.updatedAt = :finishedAt
+            WHERE r.id = :id AND r.status <> :finished
+            """)
+    int markFinished(@Param("id") Long id,
+                     @Param("finished") GuessBandRoomStatus finished,
+                     @Param("finishedAt") LocalDateTime finishedAt);
 }
 
@@ -5,22 +5,33 @@ import com.musicreview.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
-
     Optional<Notification> findByIdAndUserId(Long id, Long userId);
 
     long countByUserIdAndIsReadFalse(Long userId);
 
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllReadByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false AND n.id <= :maxId")
+    int markReadUpToId(@Param("userId") Long userId, @Param("maxId") Long maxId);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.user.id = :userId AND n.isRead = true AND n.createdAt < :cutoff")
+    int deleteReadCreatedBefore(@Param("userId") Long userId, @Param("cutoff") LocalDateTime cutoff);
+
     @Query("""
             SELECT new com.musicreview.dto.notification.NotificationResponse(
                 n.id,
@@ -37,7 +48,7 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             FROM Notification n
             LEFT JOIN n.senderUser sender
             WHERE n.user.id = :userId
-            ORDER BY n.createdAt DESC
+            ORDER BY n.createdAt DESC, n.id DESC
             """)
     Page<NotificationResponse> findNotificationResponsesByUserId(@Param("userId") Long userId, Pageable pageable);
 }
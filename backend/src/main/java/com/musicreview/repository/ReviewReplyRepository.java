@@ -1,10 +1,14 @@
 package com.musicreview.repository;
 
 import com.musicreview.entity.ReviewReply;
+import com.musicreview.repository.projection.ReplyPreviewProjection;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +20,28 @@ public interface ReviewReplyRepository extends JpaRepository<ReviewReply, Long>
     int countByReviewId(Long reviewId);
 
     List<ReviewReply> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    /**
+     * The first perReview replies of each review, oldest first, each carrying its review's total
+     * reply count. The first reply is always returned so the count is known even when perReview
+     * is 0; reviews without replies return no rows
+     */
+    @Query(value = """
+            SELECT t.id AS id, t.review_id AS reviewId, t.user_id AS userId, t.username AS username,
+                   t.avatar_url AS userAvatar, t.content AS content, t.created_at AS createdAt,
+                   t.updated_at AS updatedAt, t.reply_count AS replyCount
+            FROM (
+                SELECT rr.id, rr.review_id, rr.user_id, u.username, u.avatar_url, rr.content,
+                       rr.created_at, rr.updated_at,
+                       ROW_NUMBER() OVER (PARTITION BY rr.review_id ORDER BY rr.created_at, rr.id) AS rn,
+                       COUNT(*) OVER (PARTITION BY rr.review_id) AS reply_count
+                FROM review_replies rr
+                JOIN users u ON u.id = rr.user_id
+                WHERE rr.review_id IN (:reviewIds)
+            ) t
+            WHERE t.rn <= :perReview OR t.rn = 1
+            ORDER BY t.review_id, t.rn
+            """, nativeQuery = true)
+    List<ReplyPreviewProjection> findPreviewsByReviewIds(@Param("reviewIds") Collection<Long> reviewIds,
+                                                         @Param("perReview") int perReview);
 }
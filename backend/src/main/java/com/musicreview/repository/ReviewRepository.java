@@ -2,6 +2,7 @@ package com.musicreview.repository;
 
 import com.musicreview.dto.review.ReviewResponse;
 import com.musicreview.entity.Review;
+import com.musicreview.repository.projection.AlbumActivityProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,8 +30,6 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     long countByAlbumId(Long albumId);
 
-    int countByUserId(Long userId);
-
     // Get recent reviews ordered by creation time
     List<Review> findTop10ByOrderByCreatedAtDesc();
 
@@ -124,4 +124,57 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             ORDER BY r.createdAt DESC
             """)
     Page<ReviewResponse> findRecentReviewResponses(Pageable pageable);
+
+    @Query("""
+            SELECT new com.musicreview.dto.review.ReviewResponse(
+                r.id,
+                u.id,
+                u.username,
+                u.avatarUrl,
+                a.id,
+                a.title,
+                a.coverUrl,
+                ar.name,
+                r.rating,
+                r.content,
+                r.createdAt,
+                r.updatedAt
+            )
+            FROM Review r
+            JOIN r.user u
+            JOIN r.album a
+            JOIN a.artist ar
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<ReviewResponse> findRecentReviewFeed(Pageable pageable);
+
+    @Query("""
+            SELECT new com.musicreview.dto.review.ReviewResponse(
+                r.id,
+                u.id,
+                u.username,
+                u.avatarUrl,
+                a.id,
+                a.title,
+                a.coverUrl,
+                ar.name,
+                r.rating,
+                r.content,
+                r.createdAt,
+                r.updatedAt
+            )
+            FROM Review r
+            JOIN r.user u
+            JOIN r.album a
+            JOIN a.artist ar
+            WHERE r.createdAt < :createdAt
+               OR (r.createdAt = :createdAt AND r.id < :id)
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<ReviewResponse> findRecentReviewFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    @Query("SELECT r.album.id AS albumId, r.createdAt AS createdAt FROM Review r WHERE r.createdAt >= :since")
+    List<AlbumActivityProjection> findAlbumActivitySince(@Param("since") LocalDateTime since);
 }
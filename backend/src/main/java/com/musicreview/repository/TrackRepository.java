@@ -1,15 +1,59 @@
 package com.musicreview.repository;
 
 import com.musicreview.entity.Track;
+import com.musicreview.repository.projection.TrackSearchProjection;
+import com.musicreview.repository.projection.TrackTitleProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TrackRepository extends JpaRepository<Track, Long> {
+public interface TrackRepository extends JpaRepository<Track, Long>, TrackRepositoryCustom {
 
     List<Track> findByAlbumIdOrderByTrackNumberAsc(Long albumId);
 
     void deleteByAlbumId(Long albumId);
+
+    @Query("""
+            SELECT t.id AS id, t.title AS title, t.trackNumber AS trackNumber, t.duration AS duration,
+                   a.id AS albumId, a.title AS albumTitle, a.coverUrl AS albumCoverUrl,
+                   ar.id AS artistId, ar.name AS artistName
+            FROM Track t
+            JOIN t.album a
+            JOIN a.artist ar
+            """)
+    List<TrackSearchProjection> findAllForSearchIndex();
+
+    @Query("""
+            SELECT t.id AS id, t.title AS title, t.trackNumber AS trackNumber, t.duration AS duration,
+                   a.id AS albumId, a.title AS albumTitle, a.coverUrl AS albumCoverUrl,
+                   ar.id AS artistId, ar.name AS artistName
+            FROM Track t
+            JOIN t.album a
+            JOIN a.artist ar
+            WHERE t.id IN :ids
+            """)
+    List<TrackSearchProjection> findSearchRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT t.id AS id, t.title AS title, t.trackNumber AS trackNumber, t.duration AS duration,
+                   a.id AS albumId, a.title AS albumTitle, a.coverUrl AS albumCoverUrl,
+                   ar.id AS artistId, ar.name AS artistName
+            FROM Track t
+            JOIN t.album a
+            JOIN a.artist ar
+            WHERE a.id = :albumId
+            ORDER BY t.trackNumber ASC
+            """)
+    List<TrackSearchProjection> findSearchRowsByAlbumId(@Param("albumId") Long albumId);
+
+    @Query("SELECT t.album.id AS albumId, t.title AS title FROM Track t")
+    List<TrackTitleProjection> findAllTitles();
+
+    @Query("SELECT t.album.id AS albumId, t.title AS title FROM Track t WHERE t.album.id IN :albumIds")
+    List<TrackTitleProjection> findTitlesByAlbumIdIn(@Param("albumIds") Collection<Long> albumIds);
 }
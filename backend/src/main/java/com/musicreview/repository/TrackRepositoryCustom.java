@@ -0,0 +1,13 @@
+package com.musicreview.repository;
+
+import com.musicreview.entity.Track;
+
+import java.util.List;
+
+public interface TrackRepositoryCustom {
+
+    /**
+     * Insert new tracks with JDBC batches (IDENTITY ids keep Hibernate from batching inserts)
+     */
+    void insertBatch(List<Track> tracks);
+}
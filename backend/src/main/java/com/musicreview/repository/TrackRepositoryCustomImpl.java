@@ -0,0 +1,38 @@
+package com.musicreview.repository;
+
+import com.musicreview.entity.Track;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TrackRepositoryCustomImpl implements TrackRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertBatch(List<Track> tracks) {
+        if (tracks.isEmpty()) {
+            return;
+        }
+        // With rewriteBatchedStatements the driver sends each batch as one multi-row INSERT.
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tracks (album_id, track_number, title, duration) VALUES (?, ?, ?, ?)",
+                tracks,
+                BATCH_SIZE,
+                (ps, track) -> {
+                    ps.setLong(1, track.getAlbum().getId());
+                    ps.setInt(2, track.getTrackNumber());
+                    ps.setString(3, track.getTitle());
+                    if (track.getDuration() != null) {
+                        ps.setInt(4, track.getDuration());
+                    } else {
+                        ps.setNull(4, Types.INTEGER);
+                    }
+                });
+    }
+}
@@ -0,0 +1,71 @@
+package com.musicreview.repository;
+
+import com.musicreview.entity.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stats (user_id, review_count, favorite_count, blog_post_count, guess_band_wins, updated_at)
+            VALUES (:userId, GREATEST(:reviewDelta, 0), GREATEST(:favoriteDelta, 0), GREATEST(:blogPostDelta, 0),
+                    GREATEST(:winDelta, 0), NOW())
+            ON DUPLICATE KEY UPDATE
+                review_count = GREATEST(review_count + :reviewDelta, 0),
+                favorite_count = GREATEST(favorite_count + :favoriteDelta, 0),
+                blog_post_count = GREATEST(blog_post_count + :blogPostDelta, 0),
+                guess_band_wins = GREATEST(guess_band_wins + :winDelta, 0),
+                updated_at = NOW()
+            """, nativeQuery = true)
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("reviewDelta") int reviewDelta,
+                   @Param("favoriteDelta") int favoriteDelta,
+                   @Param("blogPostDelta") int blogPostDelta,
+                   @Param("winDelta") int winDelta);
+
+    /**
+     * Take an album's reviews and favorites off their authors' counters (the rows themselves are
+     * removed by the album's ON DELETE CASCADE, which never reaches these counters)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE user_stats s
+            LEFT JOIN (SELECT user_id, COUNT(*) AS total FROM reviews WHERE album_id = :albumId GROUP BY user_id) r
+                ON r.user_id = s.user_id
+            LEFT JOIN (SELECT user_id, COUNT(*) AS total FROM favorites WHERE album_id = :albumId GROUP BY user_id) f
+                ON f.user_id = s.user_id
+            SET s.review_count = GREATEST(s.review_count - COALESCE(r.total, 0), 0),
+                s.favorite_count = GREATEST(s.favorite_count - COALESCE(f.total, 0), 0),
+                s.updated_at = NOW()
+            WHERE r.user_id IS NOT NULL OR f.user_id IS NOT NULL
+            """, nativeQuery = true)
+    int subtractAlbumActivity(@Param("albumId") Long albumId);
+
+    /**
+     * Seed counters for users that have no stats row yet (e.g. users created before this table existed).
+     * A finished room is won by the only player holding the top score.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO user_stats (user_id, review_count, favorite_count, blog_post_count, guess_band_wins, updated_at)
+            SELECT u.id,
+                   (SELECT COUNT(*) FROM reviews r WHERE r.user_id = u.id),
+                   (SELECT COUNT(*) FROM favorites f WHERE f.user_id = u.id),
+                   (SELECT COUNT(*) FROM blog_posts b WHERE b.user_id = u.id),
+                   (SELECT COUNT(*)
+                    FROM guess_band_online_players p
+                    JOIN guess_band_online_rooms room ON room.id = p.room_id
+                    WHERE p.user_id = u.id AND room.status = 'FINISHED' AND p.score IS NOT NULL
+                      AND NOT EXISTS (SELECT 1 FROM guess_band_online_players o
+                                      WHERE o.room_id = p.room_id AND o.id <> p.id AND o.score >= p.score)),
+                   NOW()
+            FROM users u
+            WHERE NOT EXISTS (SELECT 1 FROM user_stats s WHERE s.user_id = u.id)
+            """, nativeQuery = true)
+    int backfillMissing();
+}
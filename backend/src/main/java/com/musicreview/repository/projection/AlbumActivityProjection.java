@@ -0,0 +1,8 @@
+package com.musicreview.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface AlbumActivityProjection {
+    Long getAlbumId();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,8 @@
+package com.musicreview.repository.projection;
+
+public interface AlbumSearchProjection {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getArtistName();
+}
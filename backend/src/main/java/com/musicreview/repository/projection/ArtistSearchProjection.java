@@ -0,0 +1,7 @@
+package com.musicreview.repository.projection;
+
+public interface ArtistSearchProjection {
+    Long getId();
+    String getName();
+    String getDescription();
+}
@@ -0,0 +1,9 @@
+package com.musicreview.repository.projection;
+
+public interface BlogSearchProjection {
+    Long getId();
+    String getTitle();
+    String getContent();
+    String getUsername();
+    Long getAlbumId();
+}
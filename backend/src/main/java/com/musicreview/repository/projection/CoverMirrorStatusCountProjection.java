@@ -0,0 +1,6 @@
+package com.musicreview.repository.projection;
+
+public interface CoverMirrorStatusCountProjection {
+    String getStatus();
+    long getTotal();
+}
@@ -0,0 +1,7 @@
+package com.musicreview.repository.projection;
+
+public interface PendingCoverMirrorProjection {
+    Long getAlbumId();
+    String getCoverUrl();
+    Integer getAttempts();
+}
@@ -0,0 +1,15 @@
+package com.musicreview.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ReplyPreviewProjection {
+    Long getId();
+    Long getReviewId();
+    Long getUserId();
+    String getUsername();
+    String getUserAvatar();
+    String getContent();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    Long getReplyCount();
+}
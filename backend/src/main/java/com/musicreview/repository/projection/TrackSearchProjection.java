@@ -0,0 +1,13 @@
+package com.musicreview.repository.projection;
+
+public interface TrackSearchProjection {
+    Long getId();
+    String getTitle();
+    Integer getTrackNumber();
+    Integer getDuration();
+    Long getAlbumId();
+    String getAlbumTitle();
+    String getAlbumCoverUrl();
+    Long getArtistId();
+    String getArtistName();
+}
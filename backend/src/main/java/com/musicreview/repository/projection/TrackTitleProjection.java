@@ -0,0 +1,6 @@
+package com.musicreview.repository.projection;
+
+public interface TrackTitleProjection {
+    Long getAlbumId();
+    String getTitle();
+}
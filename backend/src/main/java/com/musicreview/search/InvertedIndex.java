@@ -0,0 +1,313 @@
+package com.musicreview.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over weighted text fields, keyed by entity id.
+ * Query terms match exactly, by prefix (last query term) or, for latin words of four or more
+ * characters, within a small edit distance found through a character trigram dictionary.
+ * Matches are scored by field weight x idf; documents missing query terms are penalized.
+ * Query cost depends on the posting lists touched, not on the number of indexed documents.
+ */
+public class InvertedIndex {
+
+    private static final float CJK_UNIGRAM_FACTOR = 0.5f;
+    private static final float PREFIX_FACTOR = 0.8f;
+    private static final float FUZZY_FACTOR = 0.6f;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+    private static final int MAX_FUZZY_CANDIDATES = 200;
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    private final TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    private final Map<Long, Set<String>> termsByDoc = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Index (or re-index) a document
+     */
+    public void put(long id, List<Field> fields) {
+        Map<String, Float> weights = new HashMap<>();
+        for (Field field : fields) {
+            for (TextAnalyzer.Term term : TextAnalyzer.indexTerms(field.text())) {
+                float weight = field.weight();
+                if (term.cjk() && term.text().codePointCount(0, term.text().length()) == 1) {
+                    weight *= CJK_UNIGRAM_FACTOR;
+                }
+                // Repeated terms count once per field; the heaviest field wins.
+                weights.merge(term.text(), weight, Math::max);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (weights.isEmpty()) {
+                return;
+            }
+            weights.forEach((term, weight) -> {
+                Map<Long, Float> docs = postings.computeIfAbsent(term, t -> {
+                    for (String gram : trigrams(t)) {
+                        termsByTrigram.computeIfAbsent(gram, g -> new HashSet<>()).add(t);
+                    }
+                    return new HashMap<>();
+                });
+                docs.put(id, weight);
+            });
+            termsByDoc.put(id, new HashSet<>(weights.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the whole index content, e.g. after a full rebuild
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByTrigram.clear();
+            termsByDoc.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return termsByDoc.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Distinct terms with at least one posting
+     */
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Distinct trigrams in the fuzzy-match dictionary
+     */
+    int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return termsByTrigram.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best matching documents, highest score first
+     */
+    public List<SearchHit> search(String query, int limit) {
+        List<TextAnalyzer.Term> queryTerms = TextAnalyzer.queryTerms(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, float[]> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int docCount = Math.max(termsByDoc.size(), 1);
+            for (int i = 0; i < queryTerms.size(); i++) {
+                TextAnalyzer.Term term = queryTerms.get(i);
+                boolean last = i == queryTerms.size() - 1;
+                Map<Long, Float> best = matchTerm(term, last, docCount);
+                int slot = i;
+                best.forEach((docId, score) -> {
+                    float[] perTerm = scores.computeIfAbsent(docId, d -> new float[queryTerms.size()]);
+                    perTerm[slot] = Math.max(perTerm[slot], score);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(Comparator.comparingDouble(SearchHit::score)
+                .thenComparing(SearchHit::id, Comparator.reverseOrder()));
+        scores.forEach((docId, perTerm) -> {
+            float sum = 0;
+            int matched = 0;
+            for (float score : perTerm) {
+                if (score > 0) {
+                    sum += score;
+                    matched++;
+                }
+            }
+            float coverage = (float) matched / perTerm.length;
+            SearchHit hit = new SearchHit(docId, sum * coverage * coverage);
+            top.offer(hit);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        List<SearchHit> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingDouble(SearchHit::score).reversed().thenComparing(SearchHit::id));
+        return result;
+    }
+
+    private Map<Long, Float> matchTerm(TextAnalyzer.Term term, boolean allowPrefix, int docCount) {
+        Map<Long, Float> best = new HashMap<>();
+        String text = term.text();
+        accumulate(best, text, 1f, docCount);
+
+        if (allowPrefix && text.length() >= (term.cjk() ? 1 : 2)) {
+            NavigableMap<String, Map<Long, Float>> range = postings.subMap(text, false, text + Character.MAX_VALUE, false);
+            int expanded = 0;
+            for (String candidate : range.keySet()) {
+                if (expanded++ >= MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                accumulate(best, candidate, PREFIX_FACTOR, docCount);
+            }
+        }
+
+        if (!term.cjk() && text.length() >= MIN_FUZZY_LENGTH) {
+            int maxDistance = text.length() >= 8 ? 2 : 1;
+            for (String candidate : fuzzyCandidates(text)) {
+                if (!candidate.equals(text) && editDistance(text, candidate, maxDistance) <= maxDistance) {
+                    accumulate(best, candidate, FUZZY_FACTOR, docCount);
+                }
+            }
+        }
+        return best;
+    }
+
+    private void accumulate(Map<Long, Float> best, String term, float factor, int docCount) {
+        Map<Long, Float> docs = postings.get(term);
+        if (docs == null || docs.isEmpty()) {
+            return;
+        }
+        float idf = (float) Math.log(1 + (double) docCount / docs.size());
+        docs.forEach((docId, weight) -> best.merge(docId, weight * idf * factor, Math::max));
+    }
+
+    private List<String> fuzzyCandidates(String text) {
+        Map<String, Integer> shared = new HashMap<>();
+        List<String> grams = trigrams(text);
+        for (String gram : grams) {
+            Set<String> terms = termsByTrigram.get(gram);
+            if (terms != null) {
+                for (String term : terms) {
+                    shared.merge(term, 1, Integer::sum);
+                }
+            }
+        }
+        int minShared = Math.max(1, (int) Math.ceil(grams.size() * 0.4));
+        return shared.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minShared)
+                .filter(entry -> Math.abs(entry.getKey().length() - text.length()) <= 2)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(MAX_FUZZY_CANDIDATES)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void removeLocked(long id) {
+        Set<String> terms = termsByDoc.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, Float> docs = postings.get(term);
+            if (docs == null) {
+                continue;
+            }
+            docs.remove(id);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+                for (String gram : trigrams(term)) {
+                    Set<String> gramTerms = termsByTrigram.get(gram);
+                    if (gramTerms != null) {
+                        gramTerms.remove(term);
+                        if (gramTerms.isEmpty()) {
+                            termsByTrigram.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<String> trigrams(String term) {
+        if (term.length() < 3 || TextAnalyzer.isCjk(term.codePointAt(0))) {
+            return List.of();
+        }
+        String padded = "^" + term + "$";
+        List<String> grams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Optimal string alignment distance, giving up early once it exceeds max
+     */
+    static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] prevPrev = new int[b.length() + 1];
+        int[] prev = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(prev[j] + 1, current[j - 1] + 1), prev[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], prevPrev[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = prevPrev;
+            prevPrev = prev;
+            prev = current;
+            current = recycled;
+        }
+        return prev[b.length()];
+    }
+
+    public record Field(String text, float weight) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.musicreview.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Character n-gram index for short titles. Latin words are split into padded trigrams and
+ * CJK text into bigrams (plus single characters), so fragments and slightly misspelled
+ * titles still match. Documents are scored by the Dice coefficient of shared grams and must
+ * share at least half of the query's grams.
+ */
+public class NGramIndex {
+
+    private static final double MIN_QUERY_COVERAGE = 0.5;
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> gramsByDoc = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long id, String text) {
+        Set<String> grams = grams(text);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (grams.isEmpty()) {
+                return;
+            }
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+            }
+            gramsByDoc.put(id, grams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return gramsByDoc.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        Set<String> queryGrams = grams(query);
+        if (queryGrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int minShared = Math.max(1, (int) Math.ceil(queryGrams.size() * MIN_QUERY_COVERAGE));
+
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(Comparator.comparingDouble(SearchHit::score)
+                .thenComparing(SearchHit::id, Comparator.reverseOrder()));
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> shared = new HashMap<>();
+            for (String gram : queryGrams) {
+                Set<Long> docs = postings.get(gram);
+                if (docs != null) {
+                    for (Long docId : docs) {
+                        shared.merge(docId, 1, Integer::sum);
+                    }
+                }
+            }
+            shared.forEach((docId, count) -> {
+                if (count < minShared) {
+                    return;
+                }
+                int docGrams = gramsByDoc.get(docId).size();
+                float dice = 2f * count / (queryGrams.size() + docGrams);
+                top.offer(new SearchHit(docId, dice));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SearchHit> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingDouble(SearchHit::score).reversed().thenComparing(SearchHit::id));
+        return result;
+    }
+
+    static Set<String> grams(String text) {
+        String normalized = TextAnalyzer.normalize(text);
+        Set<String> grams = new LinkedHashSet<>();
+        StringBuilder word = new StringBuilder();
+        List<String> cjkRun = new ArrayList<>();
+        int i = 0;
+        while (i < normalized.length()) {
+            int codePoint = normalized.codePointAt(i);
+            if (TextAnalyzer.isCjk(codePoint)) {
+                addWordGrams(word, grams);
+                cjkRun.add(new String(Character.toChars(codePoint)));
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                addCjkGrams(cjkRun, grams);
+                word.appendCodePoint(codePoint);
+            } else {
+                addWordGrams(word, grams);
+                addCjkGrams(cjkRun, grams);
+            }
+            i += Character.charCount(codePoint);
+        }
+        addWordGrams(word, grams);
+        addCjkGrams(cjkRun, grams);
+        return grams;
+    }
+
+    private static void addWordGrams(StringBuilder word, Set<String> grams) {
+        if (word.length() == 0) {
+            return;
+        }
+        String padded = " " + word + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        word.setLength(0);
+    }
+
+    private static void addCjkGrams(List<String> run, Set<String> grams) {
+        for (int i = 0; i < run.size(); i++) {
+            grams.add(run.get(i));
+            if (i + 1 < run.size()) {
+                grams.add(run.get(i) + run.get(i + 1));
+            }
+        }
+        run.clear();
+    }
+
+    private void removeLocked(long id) {
+        Set<String> grams = gramsByDoc.remove(id);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Set<Long> docs = postings.get(gram);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.musicreview.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Holder for an in-memory index that is periodically rebuilt from the database and swapped in
+ * whole, so readers never see a half-built index. Writes that land while a rebuild is running
+ * are applied to the current index and replayed onto the new one before the swap.
+ */
+public class RebuildableIndex<T> {
+
+    private final Object rebuildLock = new Object();
+    private final Object writeLock = new Object();
+    private volatile T current;
+    // Writes applied since the running rebuild started; null when no rebuild is running
+    private List<Consumer<T>> writesDuringRebuild;
+
+    public RebuildableIndex(T initial) {
+        this.current = initial;
+    }
+
+    public T get() {
+        return current;
+    }
+
+    /**
+     * Apply a write to the current index (and to the one being rebuilt, if any)
+     */
+    public void update(Consumer<T> write) {
+        synchronized (writeLock) {
+            write.accept(current);
+            if (writesDuringRebuild != null) {
+                writesDuringRebuild.add(write);
+            }
+        }
+    }
+
+    /**
+     * Build a fresh index without holding any lock readers or writers need, then swap it in
+     */
+    public void rebuild(Supplier<T> builder) {
+        synchronized (rebuildLock) {
+            synchronized (writeLock) {
+                writesDuringRebuild = new ArrayList<>();
+            }
+            T fresh = null;
+            try {
+                fresh = builder.get();
+            } finally {
+                synchronized (writeLock) {
+                    if (fresh != null) {
+                        for (Consumer<T> write : writesDuringRebuild) {
+                            write.accept(fresh);
+                        }
+                        current = fresh;
+                    }
+                    writesDuringRebuild = null;
+                }
+            }
+        }
+    }
+}
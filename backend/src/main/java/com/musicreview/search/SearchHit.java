@@ -0,0 +1,4 @@
+package com.musicreview.search;
+
+public record SearchHit(long id, float score) {
+}
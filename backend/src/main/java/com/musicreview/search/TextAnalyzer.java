@@ -0,0 +1,107 @@
+package com.musicreview.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Turns text into index terms:
+ * - case, width and accents are folded ("Björk" / "ＢＪＯＲＫ" -> "bjork")
+ * - latin letters and digits form word terms
+ * - CJK runs become overlapping bigrams; single CJK characters become unigrams
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private TextAnalyzer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Terms of a document field. CJK runs contribute both bigrams and unigrams so that
+     * one-character queries still match.
+     */
+    public static List<Term> indexTerms(String text) {
+        return analyze(text, true);
+    }
+
+    /**
+     * Terms of a query. CJK runs of two or more characters contribute bigrams only.
+     */
+    public static List<Term> queryTerms(String text) {
+        return analyze(text, false);
+    }
+
+    public static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+
+    private static List<Term> analyze(String text, boolean forIndex) {
+        String normalized = normalize(text);
+        List<Term> terms = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        List<String> cjkRun = new ArrayList<>();
+
+        int i = 0;
+        while (i < normalized.length()) {
+            int codePoint = normalized.codePointAt(i);
+            if (isCjk(codePoint)) {
+                flushWord(word, terms);
+                cjkRun.add(new String(Character.toChars(codePoint)));
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                flushCjk(cjkRun, terms, forIndex);
+                word.appendCodePoint(codePoint);
+            } else {
+                flushWord(word, terms);
+                flushCjk(cjkRun, terms, forIndex);
+            }
+            i += Character.charCount(codePoint);
+        }
+        flushWord(word, terms);
+        flushCjk(cjkRun, terms, forIndex);
+        return terms;
+    }
+
+    private static void flushWord(StringBuilder word, List<Term> terms) {
+        if (word.length() > 0) {
+            terms.add(new Term(word.toString(), false));
+            word.setLength(0);
+        }
+    }
+
+    private static void flushCjk(List<String> run, List<Term> terms, boolean forIndex) {
+        if (run.isEmpty()) {
+            return;
+        }
+        if (run.size() == 1) {
+            terms.add(new Term(run.get(0), true));
+        } else {
+            for (int i = 0; i + 1 < run.size(); i++) {
+                terms.add(new Term(run.get(i) + run.get(i + 1), true));
+            }
+            if (forIndex) {
+                for (String character : run) {
+                    terms.add(new Term(character, true));
+                }
+            }
+        }
+        run.clear();
+    }
+
+    public record Term(String text, boolean cjk) {
+    }
+}
@@ -0,0 +1,297 @@
+package com.musicreview.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicreview.cache.LocalLruCache;
+import com.musicreview.dto.album.AlbumResponse;
+import com.musicreview.util.TransactionHooks;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for the public album catalog pages (all / by initial / by genre / by year)
+ * and the release year list. Entries live in a bounded local LRU and, when enabled, in Redis so
+ * that other nodes can reuse them. Album writes invalidate only the query namespaces they touch.
+ * Redis keys embed a per-namespace version (plus a global one) that invalidation increments, so a
+ * page loaded before a commit is written under the old version and never served afterwards.
+ */
+@Service
+public class AlbumCatalogCacheService {
+
+    public static final String NS_ALL = "all";
+    public static final String NS_YEARS = "years";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AlbumCatalogCacheService.class);
+    private static final String REDIS_VALUE_PREFIX = "album:catalog:v:";
+    private static final String REDIS_VERSION_PREFIX = "album:catalog:ver:";
+    private static final String REDIS_GLOBAL_VERSION_KEY = "album:catalog:ver";
+    private static final long REDIS_RETRY_AFTER_FAILURE_MILLIS = 30_000;
+
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final long redisTtlSeconds;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LocalLruCache<String, Object> localCache;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private volatile long redisSuspendedUntil = 0;
+
+    public AlbumCatalogCacheService(
+            @Value("${app.album-cache.enabled:true}") boolean enabled,
+            @Value("${app.album-cache.max-entries:2000}") int maxEntries,
+            @Value("${app.album-cache.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${app.album-cache.redis.enabled:true}") boolean redisEnabled,
+            @Value("${app.album-cache.redis.ttl-seconds:600}") long redisTtlSeconds,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            ObjectMapper objectMapper,
+            ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.redisTtlSeconds = redisTtlSeconds;
+        this.redisTemplate = redisTemplateProvider.getIfAvailable();
+        this.objectMapper = objectMapper;
+        this.localCache = new LocalLruCache<>(maxEntries, Duration.ofSeconds(localTtlSeconds));
+        meterRegistryProvider.ifAvailable(this::registerMetrics);
+    }
+
+    public static String initialNamespace(String initial) {
+        return "initial:" + initial;
+    }
+
+    public static String genreNamespace(Long genreId) {
+        return "genre:" + genreId;
+    }
+
+    public static String yearNamespace(Integer year) {
+        return "year:" + year;
+    }
+
+    public Page<AlbumResponse> getPage(String namespace, Pageable pageable, Supplier<Page<AlbumResponse>> loader) {
+        String key = namespace + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize();
+        return getOrLoad(namespace, key, loader, new Codec<>() {
+            @Override
+            public String encode(Page<AlbumResponse> value) throws IOException {
+                return objectMapper.writeValueAsString(new CachedPage(value.getContent(), value.getTotalElements()));
+            }
+
+            @Override
+            public Page<AlbumResponse> decode(String raw) throws IOException {
+                CachedPage cached = objectMapper.readValue(raw, CachedPage.class);
+                return new PageImpl<>(cached.content(), pageable, cached.totalElements());
+            }
+        });
+    }
+
+    public List<Integer> getReleaseYears(Supplier<List<Integer>> loader) {
+        return getOrLoad(NS_YEARS, NS_YEARS + "|", loader, new Codec<>() {
+            @Override
+            public String encode(List<Integer> value) throws IOException {
+                return objectMapper.writeValueAsString(value);
+            }
+
+            @Override
+            public List<Integer> decode(String raw) throws IOException {
+                return objectMapper.readValue(raw, new TypeReference<List<Integer>>() {});
+            }
+        });
+    }
+
+    /**
+     * Drop every cached page of the given namespaces. Inside a transaction the eviction is
+     * deferred until commit so that concurrent readers cannot re-cache the pre-commit state.
+     */
+    public void invalidate(Collection<String> namespaces) {
+        Set<String> targets = new LinkedHashSet<>(namespaces);
+        if (!targets.isEmpty()) {
+            TransactionHooks.afterCommit(() -> evict(targets));
+        }
+    }
+
+    /**
+     * Drop the whole catalog cache, e.g. when an artist rename changes names shown on every page.
+     */
+    public void invalidateAll() {
+        TransactionHooks.afterCommit(this::evictAll);
+    }
+
+    private <T> T getOrLoad(String namespace, String key, Supplier<T> loader, Codec<T> codec) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        @SuppressWarnings("unchecked")
+        T local = (T) localCache.get(key);
+        if (local != null) {
+            return local;
+        }
+
+        long generation = generation(namespace).get();
+        // Versions are read before loading: an invalidation committed after this point bumps them
+        String redisKey = redisValueKey(namespace, key);
+        boolean loaded = false;
+        T value = redisKey == null ? null : readRedis(redisKey, codec);
+        if (value != null) {
+            redisHits.increment();
+        } else {
+            loads.increment();
+            value = loader.get();
+            loaded = true;
+        }
+
+        // Skip the puts if the namespace was invalidated while we were loading.
+        if (value != null && generation(namespace).get() == generation) {
+            localCache.put(key, value);
+            if (loaded && redisKey != null) {
+                writeRedis(redisKey, value, codec);
+            }
+        }
+        return value;
+    }
+
+    private void evictAll() {
+        localCache.clear();
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        if (!isRedisUsable()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().increment(REDIS_GLOBAL_VERSION_KEY);
+        } catch (Exception e) {
+            suspendRedis("clear", e);
+        }
+    }
+
+    private void evict(Set<String> namespaces) {
+        for (String namespace : namespaces) {
+            generation(namespace).incrementAndGet();
+            String prefix = namespace + "|";
+            localCache.invalidateIf(key -> key.startsWith(prefix));
+        }
+        if (!isRedisUsable()) {
+            return;
+        }
+        try {
+            for (String namespace : namespaces) {
+                redisTemplate.opsForValue().increment(REDIS_VERSION_PREFIX + namespace);
+            }
+        } catch (Exception e) {
+            suspendRedis("invalidate", e);
+        }
+    }
+
+    /**
+     * Redis key of a page under the current global and namespace versions (null when Redis is not usable);
+     * entries of older versions are unreachable and simply expire
+     */
+    private String redisValueKey(String namespace, String key) {
+        if (!isRedisUsable()) {
+            return null;
+        }
+        try {
+            List<String> versions = redisTemplate.opsForValue()
+                    .multiGet(List.of(REDIS_GLOBAL_VERSION_KEY, REDIS_VERSION_PREFIX + namespace));
+            String global = versions == null || versions.get(0) == null ? "0" : versions.get(0);
+            String local = versions == null || versions.get(1) == null ? "0" : versions.get(1);
+            return REDIS_VALUE_PREFIX + global + "." + local + ":" + key;
+        } catch (Exception e) {
+            suspendRedis("read", e);
+            return null;
+        }
+    }
+
+    private <T> T readRedis(String redisKey, Codec<T> codec) {
+        if (!isRedisUsable()) {
+            return null;
+        }
+        try {
+            String raw = redisTemplate.opsForValue().get(redisKey);
+            return raw == null ? null : codec.decode(raw);
+        } catch (Exception e) {
+            suspendRedis("read", e);
+            return null;
+        }
+    }
+
+    private <T> void writeRedis(String redisKey, T value, Codec<T> codec) {
+        if (value == null || !isRedisUsable()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey, codec.encode(value), redisTtlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            suspendRedis("write", e);
+        }
+    }
+
+    private boolean isRedisUsable() {
+        return redisEnabled && redisTemplate != null && System.currentTimeMillis() >= redisSuspendedUntil;
+    }
+
+    private void suspendRedis(String operation, Exception e) {
+        redisSuspendedUntil = System.currentTimeMillis() + REDIS_RETRY_AFTER_FAILURE_MILLIS;
+        LOG.warn("Redis unavailable for album catalog cache {}, using local cache only: {}", operation, e.getMessage());
+    }
+
+    private AtomicLong generation(String namespace) {
+        return generations.computeIfAbsent(namespace, ns -> new AtomicLong());
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("album.catalog.cache.requests", localCache, LocalLruCache::getHitCount)
+                .tag("result", "local_hit")
+                .register(registry);
+        FunctionCounter.builder("album.catalog.cache.requests", redisHits, LongAdder::sum)
+                .tag("result", "redis_hit")
+                .register(registry);
+        FunctionCounter.builder("album.catalog.cache.requests", loads, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("album.catalog.cache.evictions", localCache, LocalLruCache::getEvictionCount)
+                .register(registry);
+        Gauge.builder("album.catalog.cache.size", localCache, LocalLruCache::size)
+                .register(registry);
+        Gauge.builder("album.catalog.cache.hit.ratio", this, AlbumCatalogCacheService::hitRatio)
+                .register(registry);
+    }
+
+    private double hitRatio() {
+        double hits = localCache.getHitCount() + redisHits.sum();
+        double total = hits + loads.sum();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private interface Codec<T> {
+        String encode(T value) throws IOException;
+
+        T decode(String raw) throws IOException;
+    }
+
+    private record CachedPage(List<AlbumResponse> content, long totalElements) {
+    }
+}
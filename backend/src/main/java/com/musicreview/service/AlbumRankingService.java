@@ -0,0 +1,305 @@
+package com.musicreview.service;
+
+import com.musicreview.entity.AlbumRanking;
+import com.musicreview.entity.AlbumStats;
+import com.musicreview.ranking.ScoreBoard;
+import com.musicreview.repository.AlbumRankingRepository;
+import com.musicreview.repository.AlbumStatsRepository;
+import com.musicreview.repository.FavoriteRepository;
+import com.musicreview.repository.ReviewRepository;
+import com.musicreview.repository.projection.AlbumActivityProjection;
+import com.musicreview.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory album rankings:
+ * - top rated: Bayesian average (C * m + sum) / (C + n), with m the catalog-wide mean rating
+ * - trending: review / favorite activity decayed exponentially with a configurable half-life
+ * Both boards are updated after each committed review or favorite change and read in O(k).
+ * Trending scores are flushed to album_rankings periodically and reloaded on startup; top rated
+ * scores are rebuilt from album_stats.
+ */
+@Service
+public class AlbumRankingService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AlbumRankingService.class);
+
+    public static final double REVIEW_WEIGHT = 3.0;
+    public static final double RATING_CHANGE_WEIGHT = 1.0;
+    public static final double FAVORITE_WEIGHT = 2.0;
+
+    /** Fixed reference instant for trending log scores (2024-01-01T00:00:00Z) */
+    private static final long EPOCH_SECONDS = 1_704_067_200L;
+    /** Trending entries whose decayed weight falls below this are dropped */
+    private static final double MIN_TRENDING_WEIGHT = 0.05;
+
+    private final AlbumStatsRepository albumStatsRepository;
+    private final AlbumRankingRepository albumRankingRepository;
+    private final ReviewRepository reviewRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final double priorWeight;
+    private final double decayPerSecond;
+    private final int seedWindowDays;
+
+    private final ScoreBoard topRated = new ScoreBoard();
+    private final ScoreBoard trending = new ScoreBoard();
+    private final Map<Long, RatingTotals> ratingsByAlbum = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyTrending = ConcurrentHashMap.newKeySet();
+    private final Object totalsLock = new Object();
+    private long totalRated;
+    private BigDecimal totalRatingSum = BigDecimal.ZERO;
+
+    public AlbumRankingService(
+            AlbumStatsRepository albumStatsRepository,
+            AlbumRankingRepository albumRankingRepository,
+            ReviewRepository reviewRepository,
+            FavoriteRepository favoriteRepository,
+            @Value("${app.ranking.prior-weight:10}") double priorWeight,
+            @Value("${app.ranking.trending-half-life-hours:72}") double halfLifeHours,
+            @Value("${app.ranking.seed-window-days:30}") int seedWindowDays
+    ) {
+        this.albumStatsRepository = albumStatsRepository;
+        this.albumRankingRepository = albumRankingRepository;
+        this.reviewRepository = reviewRepository;
+        this.favoriteRepository = favoriteRepository;
+        this.priorWeight = priorWeight;
+        this.decayPerSecond = Math.log(2) / (halfLifeHours * 3600);
+        this.seedWindowDays = seedWindowDays;
+    }
+
+    /**
+     * Top k albums by Bayesian average rating
+     */
+    public List<ScoreBoard.Entry> getTopRated(int k) {
+        return topRated.top(k);
+    }
+
+    /**
+     * Top k albums by trending score, scores expressed as the decayed weight at the current time
+     */
+    public List<ScoreBoard.Entry> getTrending(int k) {
+        double nowExponent = decayPerSecond * (nowSeconds() - EPOCH_SECONDS);
+        List<ScoreBoard.Entry> result = new ArrayList<>();
+        for (ScoreBoard.Entry entry : trending.top(k)) {
+            result.add(new ScoreBoard.Entry(entry.id(), Math.exp(entry.score() - nowExponent)));
+        }
+        return result;
+    }
+
+    /**
+     * A review was created / re-rated / deleted; applied once the surrounding transaction commits
+     */
+    public void onReviewActivity(Long albumId, double trendingWeight) {
+        TransactionHooks.afterCommit(() -> {
+            refreshRating(albumId);
+            bumpTrending(albumId, trendingWeight, nowSeconds());
+        });
+    }
+
+    /**
+     * A favorite was added or removed; applied once the surrounding transaction commits
+     */
+    public void onFavoriteActivity(Long albumId, double trendingWeight) {
+        TransactionHooks.afterCommit(() -> bumpTrending(albumId, trendingWeight, nowSeconds()));
+    }
+
+    public void removeAlbum(Long albumId) {
+        albumRankingRepository.deleteByAlbumId(albumId);
+        TransactionHooks.afterCommit(() -> {
+            topRated.remove(albumId);
+            trending.remove(albumId);
+            dirtyTrending.remove(albumId);
+            RatingTotals previous = ratingsByAlbum.remove(albumId);
+            if (previous != null) {
+                adjustTotals(-previous.ratedCount(), previous.ratingSum().negate());
+            }
+        });
+    }
+
+    /**
+     * Load rankings once album_stats has been backfilled
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(10)
+    public void loadRankings() {
+        try {
+            rebuildTopRated();
+            loadTrending();
+            LOG.info("Album rankings loaded: {} rated, {} trending", topRated.size(), trending.size());
+        } catch (Exception e) {
+            LOG.warn("Failed to load album rankings: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recompute every Bayesian score from album_stats so that drift in the global mean is applied
+     */
+    @Scheduled(fixedDelayString = "${app.ranking.rebuild-interval-ms:900000}",
+            initialDelayString = "${app.ranking.rebuild-interval-ms:900000}")
+    public void rebuildTopRated() {
+        Map<Long, RatingTotals> totals = new HashMap<>();
+        long rated = 0;
+        BigDecimal sum = BigDecimal.ZERO;
+        for (AlbumStats stats : albumStatsRepository.findAll()) {
+            int ratedCount = stats.getRatedCount() != null ? stats.getRatedCount() : 0;
+            if (ratedCount <= 0) {
+                continue;
+            }
+            BigDecimal ratingSum = stats.getRatingSum() != null ? stats.getRatingSum() : BigDecimal.ZERO;
+            totals.put(stats.getAlbumId(), new RatingTotals(ratedCount, ratingSum));
+            rated += ratedCount;
+            sum = sum.add(ratingSum);
+        }
+        synchronized (totalsLock) {
+            ratingsByAlbum.clear();
+            ratingsByAlbum.putAll(totals);
+            totalRated = rated;
+            totalRatingSum = sum;
+        }
+        double mean = globalMean();
+        Map<Long, Double> scores = new HashMap<>();
+        totals.forEach((albumId, t) -> scores.put(albumId, bayesian(t, mean)));
+        topRated.replaceAll(scores);
+    }
+
+    /**
+     * Flush changed trending scores and drop entries that have decayed away
+     */
+    @Scheduled(fixedDelayString = "${app.ranking.persist-interval-ms:60000}")
+    public void persistTrending() {
+        double floor = Math.log(MIN_TRENDING_WEIGHT) + decayPerSecond * (nowSeconds() - EPOCH_SECONDS);
+        List<Long> expired = new ArrayList<>();
+        trending.snapshot().forEach((albumId, logScore) -> {
+            if (logScore < floor) {
+                trending.remove(albumId);
+                expired.add(albumId);
+            }
+        });
+
+        List<AlbumRanking> changed = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Long albumId : List.copyOf(dirtyTrending)) {
+            dirtyTrending.remove(albumId);
+            Double logScore = trending.get(albumId);
+            if (logScore != null) {
+                changed.add(AlbumRanking.builder()
+                        .albumId(albumId)
+                        .trendingLogScore(logScore)
+                        .updatedAt(now)
+                        .build());
+            }
+        }
+
+        try {
+            if (!changed.isEmpty()) {
+                albumRankingRepository.saveAll(changed);
+            }
+            if (!expired.isEmpty()) {
+                albumRankingRepository.deleteAllByIdInBatch(expired);
+            }
+        } catch (Exception e) {
+            changed.forEach(ranking -> dirtyTrending.add(ranking.getAlbumId()));
+            LOG.warn("Failed to persist album trending scores: {}", e.getMessage());
+        }
+    }
+
+    private void loadTrending() {
+        List<AlbumRanking> persisted = albumRankingRepository.findAll();
+        if (!persisted.isEmpty()) {
+            Map<Long, Double> scores = new HashMap<>();
+            persisted.forEach(ranking -> scores.put(ranking.getAlbumId(), ranking.getTrendingLogScore()));
+            trending.replaceAll(scores);
+            return;
+        }
+
+        // First start: seed from recent activity so the board is not empty until new events arrive.
+        LocalDateTime since = LocalDateTime.now().minusDays(seedWindowDays);
+        for (AlbumActivityProjection activity : reviewRepository.findAlbumActivitySince(since)) {
+            bumpTrending(activity.getAlbumId(), REVIEW_WEIGHT, toEpochSeconds(activity.getCreatedAt()));
+        }
+        for (AlbumActivityProjection activity : favoriteRepository.findAlbumActivitySince(since)) {
+            bumpTrending(activity.getAlbumId(), FAVORITE_WEIGHT, toEpochSeconds(activity.getCreatedAt()));
+        }
+    }
+
+    private void refreshRating(Long albumId) {
+        AlbumStats stats = albumStatsRepository.findById(albumId).orElse(null);
+        int ratedCount = stats != null && stats.getRatedCount() != null ? stats.getRatedCount() : 0;
+        BigDecimal ratingSum = stats != null && stats.getRatingSum() != null ? stats.getRatingSum() : BigDecimal.ZERO;
+
+        RatingTotals current = ratedCount > 0 ? new RatingTotals(ratedCount, ratingSum) : null;
+        RatingTotals previous = current != null ? ratingsByAlbum.put(albumId, current) : ratingsByAlbum.remove(albumId);
+        adjustTotals(
+                (current != null ? current.ratedCount() : 0) - (previous != null ? previous.ratedCount() : 0),
+                (current != null ? current.ratingSum() : BigDecimal.ZERO)
+                        .subtract(previous != null ? previous.ratingSum() : BigDecimal.ZERO));
+
+        if (current != null) {
+            topRated.put(albumId, bayesian(current, globalMean()));
+        } else {
+            topRated.remove(albumId);
+        }
+    }
+
+    private void bumpTrending(Long albumId, double weight, long atEpochSeconds) {
+        if (albumId == null || weight <= 0) {
+            return;
+        }
+        double eventLogScore = Math.log(weight) + decayPerSecond * (atEpochSeconds - EPOCH_SECONDS);
+        synchronized (trending) {
+            Double previous = trending.get(albumId);
+            trending.put(albumId, previous == null ? eventLogScore : logAddExp(previous, eventLogScore));
+        }
+        dirtyTrending.add(albumId);
+    }
+
+    private void adjustTotals(long ratedDelta, BigDecimal sumDelta) {
+        synchronized (totalsLock) {
+            totalRated += ratedDelta;
+            totalRatingSum = totalRatingSum.add(sumDelta);
+        }
+    }
+
+    private double globalMean() {
+        synchronized (totalsLock) {
+            return totalRated > 0 ? totalRatingSum.doubleValue() / totalRated : 0;
+        }
+    }
+
+    private double bayesian(RatingTotals totals, double mean) {
+        return (priorWeight * mean + totals.ratingSum().doubleValue()) / (priorWeight + totals.ratedCount());
+    }
+
+    private static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static long toEpochSeconds(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toEpochSecond() : nowSeconds();
+    }
+
+    private record RatingTotals(int ratedCount, BigDecimal ratingSum) {
+    }
+}
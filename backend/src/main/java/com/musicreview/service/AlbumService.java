@@ -3,25 +3,37 @@ package com.musicreview.service;
 import com.musicreview.dto.album.AlbumRequest;
 import com.musicreview.dto.album.AlbumResponse;
 import com.musicreview.dto.album.TrackDTO;
+import com.musicreview.dto.common.CursorPage;
+import com.musicreview.dto.common.FeedCursor;
 import com.musicreview.entity.Album;
 import com.musicreview.entity.Artist;
 import com.musicreview.entity.Genre;
 import com.musicreview.entity.Track;
 import com.musicreview.entity.User;
+import com.musicreview.ranking.ScoreBoard;
+import com.musicreview.search.SearchHit;
 import com.musicreview.repository.AlbumRepository;
 import com.musicreview.repository.ArtistRepository;
 import com.musicreview.repository.GenreRepository;
 import com.musicreview.repository.TrackRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -29,25 +41,53 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AlbumService {
 
+    private static final int MAX_SEARCH_RESULTS = 500;
+
     private final AlbumRepository albumRepository;
     private final ArtistRepository artistRepository;
     private final GenreRepository genreRepository;
     private final TrackRepository trackRepository;
     private final AuthService authService;
+    private final AlbumCatalogCacheService catalogCache;
+    private final AlbumStatsService albumStatsService;
+    private final UserStatsService userStatsService;
+    private final AlbumRankingService albumRankingService;
+    private final CatalogSearchService catalogSearchService;
+    private final TrackSearchService trackSearchService;
+    private final CoverVariantService coverVariantService;
+    private final EntityManager entityManager;
 
     /**
      * Get all albums
      */
     public Page<AlbumResponse> getAllAlbums(Pageable pageable) {
-        return albumRepository.findAlbumSummaries(pageable);
+        return decorate(catalogCache.getPage(AlbumCatalogCacheService.NS_ALL, pageable,
+                () -> albumRepository.findAlbumSummaries(pageable)));
+    }
+
+    /**
+     * Get newest albums with keyset pagination (no total count)
+     */
+    public CursorPage<AlbumResponse> getAlbumFeed(String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<AlbumResponse> rows = after == null
+                ? albumRepository.findAlbumFeed(limit)
+                : albumRepository.findAlbumFeedAfter(after.createdAt(), after.id(), limit);
+        CursorPage<AlbumResponse> page = CursorPage.fromOverfetch(rows, size,
+                album -> new FeedCursor(album.getCreatedAt(), album.getId()));
+        page.setContent(decorate(page.getContent()));
+        return page;
     }
 
     /**
      * Get albums by title initial (A-Z, #)
      */
     public Page<AlbumResponse> getAlbumsByInitial(String initial, Pageable pageable) {
-        return albumRepository.findByTitleInitialOrderByTitleAsc(initial.toUpperCase(), pageable)
-                .map(AlbumResponse::fromEntitySimple);
+        String normalizedInitial = initial.toUpperCase();
+        return decorate(catalogCache.getPage(AlbumCatalogCacheService.initialNamespace(normalizedInitial), pageable,
+                () -> albumRepository.findByTitleInitialOrderByTitleAsc(normalizedInitial, pageable)
+                        .map(AlbumResponse::fromEntitySimple)));
     }
 
     /**
@@ -57,46 +97,76 @@ public class AlbumService {
     public AlbumResponse getAlbumById(Long id) {
         Album album = albumRepository.findByIdWithDetails(id)
                 .orElseThrow(() -> new RuntimeException("Album not found with id: " + id));
-        return AlbumResponse.fromEntity(album);
+        AlbumResponse response = coverVariantService.attachVariants(AlbumResponse.fromEntity(album, albumStatsService.getStats(id)));
+        response.setRatingHistogram(albumStatsService.getRatingHistogram(id));
+        return response;
     }
 
     /**
      * Get albums by artist
      */
     public Page<AlbumResponse> getAlbumsByArtist(Long artistId, Pageable pageable) {
-        return albumRepository.findByArtistIdOrderByReleaseYearDesc(artistId, pageable)
-                .map(AlbumResponse::fromEntitySimple);
+        return decorate(albumRepository.findByArtistIdOrderByReleaseYearDesc(artistId, pageable)
+                .map(AlbumResponse::fromEntitySimple));
     }
 
     /**
      * Get albums by genre
      */
     public Page<AlbumResponse> getAlbumsByGenre(Long genreId, Pageable pageable) {
-        return albumRepository.findByGenreId(genreId, pageable)
-                .map(AlbumResponse::fromEntitySimple);
+        return decorate(catalogCache.getPage(AlbumCatalogCacheService.genreNamespace(genreId), pageable,
+                () -> albumRepository.findByGenreId(genreId, pageable)
+                        .map(AlbumResponse::fromEntitySimple)));
     }
 
     /**
      * Get albums by release year
      */
     public Page<AlbumResponse> getAlbumsByYear(Integer year, Pageable pageable) {
-        return albumRepository.findByReleaseYear(year, pageable)
-                .map(AlbumResponse::fromEntitySimple);
+        return decorate(catalogCache.getPage(AlbumCatalogCacheService.yearNamespace(year), pageable,
+                () -> albumRepository.findByReleaseYear(year, pageable)
+                        .map(AlbumResponse::fromEntitySimple)));
     }
 
     /**
      * Get all available release years
      */
     public List<Integer> getAllReleaseYears() {
-        return albumRepository.findAllReleaseYears();
+        return catalogCache.getReleaseYears(albumRepository::findAllReleaseYears);
     }
 
     /**
      * Search albums by title
      */
     public Page<AlbumResponse> searchAlbums(String query, Pageable pageable) {
-        return albumRepository.findByTitleContainingIgnoreCase(query, pageable)
-                .map(AlbumResponse::fromEntitySimple);
+        if (!catalogSearchService.isReady()) {
+            return decorate(albumRepository.findByTitleContainingIgnoreCase(query, pageable)
+                    .map(AlbumResponse::fromEntitySimple));
+        }
+        List<SearchHit> hits = catalogSearchService.searchAlbums(query, MAX_SEARCH_RESULTS);
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> pageIds = hits.subList(from, to).stream().map(SearchHit::id).toList();
+        Map<Long, AlbumResponse> byId = summariesById(pageIds);
+        List<AlbumResponse> content = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(decorate(content), pageable, hits.size());
+    }
+
+    /**
+     * Get albums ranked by Bayesian average rating
+     */
+    public List<AlbumResponse> getTopAlbums(int limit) {
+        return rankedSummaries(albumRankingService.getTopRated(limit));
+    }
+
+    /**
+     * Get albums ranked by recent review / favorite activity
+     */
+    public List<AlbumResponse> getTrendingAlbums(int limit) {
+        return rankedSummaries(albumRankingService.getTrending(limit));
     }
 
     /**
@@ -112,13 +182,7 @@ public class AlbumService {
         User currentUser = authService.getCurrentUser();
 
         // Get genres
-        Set<Genre> genres = new HashSet<>();
-        if (request.getGenreIds() != null && !request.getGenreIds().isEmpty()) {
-            genres = request.getGenreIds().stream()
-                    .map(genreId -> genreRepository.findById(genreId)
-                            .orElseThrow(() -> new RuntimeException("Genre not found with id: " + genreId)))
-                    .collect(Collectors.toSet());
-        }
+        Set<Genre> genres = resolveGenres(request.getGenreIds());
 
         // Create album
         Album album = Album.builder()
@@ -132,22 +196,21 @@ public class AlbumService {
                 .createdBy(currentUser)
                 .build();
 
-        // Attach tracks (dedupe by trackNumber + title)
-        List<TrackDTO> dedupedTracks = dedupeTracks(request.getTracks());
-        if (!dedupedTracks.isEmpty()) {
-            for (TrackDTO trackDTO : dedupedTracks) {
-                Track track = Track.builder()
-                        .album(album)
-                        .trackNumber(trackDTO.getTrackNumber())
-                        .title(trackDTO.getTitle())
-                        .duration(trackDTO.getDuration())
-                        .build();
-                album.getTracks().add(track);
-            }
+        Album savedAlbum = albumRepository.save(album);
+
+        // Insert tracks in JDBC batches (dedupe by trackNumber + title)
+        List<Track> newTracks = new ArrayList<>();
+        for (TrackDTO trackDTO : dedupeTracks(request.getTracks())) {
+            newTracks.add(newTrack(savedAlbum, trackDTO));
         }
+        trackRepository.insertBatch(newTracks);
+        savedAlbum = reloadAlbum(savedAlbum.getId());
 
-        Album savedAlbum = albumRepository.save(album);
-        return AlbumResponse.fromEntity(savedAlbum);
+        catalogCache.invalidate(catalogNamespaces(savedAlbum));
+        catalogSearchService.indexAlbum(savedAlbum);
+        trackSearchService.indexAlbum(savedAlbum);
+        coverVariantService.scheduleVariants(savedAlbum.getCoverUrl());
+        return coverVariantService.attachVariants(AlbumResponse.fromEntity(savedAlbum));
     }
 
     /**
@@ -158,18 +221,15 @@ public class AlbumService {
         Album album = albumRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Album not found with id: " + id));
 
+        Set<String> staleNamespaces = catalogNamespaces(album);
+        String previousCoverUrl = album.getCoverUrl();
+
         // Get artist
         Artist artist = artistRepository.findById(request.getArtistId())
                 .orElseThrow(() -> new RuntimeException("Artist not found with id: " + request.getArtistId()));
 
         // Get genres
-        Set<Genre> genres = new HashSet<>();
-        if (request.getGenreIds() != null && !request.getGenreIds().isEmpty()) {
-            genres = request.getGenreIds().stream()
-                    .map(genreId -> genreRepository.findById(genreId)
-                            .orElseThrow(() -> new RuntimeException("Genre not found with id: " + genreId)))
-                    .collect(Collectors.toSet());
-        }
+        Set<Genre> genres = resolveGenres(request.getGenreIds());
 
         // Update album
         album.setTitle(request.getTitle());
@@ -180,25 +240,21 @@ public class AlbumService {
         album.setDescription(request.getDescription());
         album.setGenres(genres);
 
-        // Update tracks (dedupe by trackNumber + title)
+        // Update tracks (dedupe by trackNumber + title), touching only rows that changed
         if (request.getTracks() != null) {
-            // Hard delete existing rows first to avoid stale ORM state causing duplicated inserts.
-            trackRepository.deleteByAlbumId(album.getId());
-            album.getTracks().clear();
-            List<TrackDTO> dedupedTracks = dedupeTracks(request.getTracks());
-            for (TrackDTO trackDTO : dedupedTracks) {
-                Track track = Track.builder()
-                        .album(album)
-                        .trackNumber(trackDTO.getTrackNumber())
-                        .title(trackDTO.getTitle())
-                        .duration(trackDTO.getDuration())
-                        .build();
-                album.getTracks().add(track);
-            }
+            syncTracks(album, dedupeTracks(request.getTracks()));
         }
 
-        Album savedAlbum = albumRepository.save(album);
-        return AlbumResponse.fromEntity(savedAlbum);
+        Album savedAlbum = reloadAlbum(albumRepository.save(album).getId());
+        staleNamespaces.addAll(catalogNamespaces(savedAlbum));
+        catalogCache.invalidate(staleNamespaces);
+        catalogSearchService.indexAlbum(savedAlbum);
+        trackSearchService.indexAlbum(savedAlbum);
+        if (!Objects.equals(previousCoverUrl, savedAlbum.getCoverUrl())) {
+            coverVariantService.scheduleVariants(savedAlbum.getCoverUrl());
+        }
+        return coverVariantService.attachVariants(
+                AlbumResponse.fromEntity(savedAlbum, albumStatsService.getStats(savedAlbum.getId())));
     }
 
     /**
@@ -212,10 +268,68 @@ public class AlbumService {
             throw new RuntimeException("Only user 'Huan' can delete albums");
         }
         
-        if (!albumRepository.existsById(id)) {
-            throw new RuntimeException("Album not found with id: " + id);
+        Album album = albumRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Album not found with id: " + id));
+        Set<String> staleNamespaces = catalogNamespaces(album);
+        userStatsService.removeAlbumActivity(id);
+        albumRepository.delete(album);
+        albumStatsService.removeAlbum(id);
+        catalogCache.invalidate(staleNamespaces);
+        catalogSearchService.removeAlbum(id);
+        trackSearchService.removeAlbum(id);
+    }
+
+    /**
+     * Cached catalog queries an album appears in (or whose result depends on it)
+     */
+    private Set<String> catalogNamespaces(Album album) {
+        Set<String> namespaces = new HashSet<>();
+        namespaces.add(AlbumCatalogCacheService.NS_ALL);
+        namespaces.add(AlbumCatalogCacheService.initialNamespace(album.getTitleInitial()));
+        for (Genre genre : album.getGenres()) {
+            namespaces.add(AlbumCatalogCacheService.genreNamespace(genre.getId()));
+        }
+        if (album.getReleaseYear() != null) {
+            namespaces.add(AlbumCatalogCacheService.yearNamespace(album.getReleaseYear()));
+            namespaces.add(AlbumCatalogCacheService.NS_YEARS);
+        }
+        return namespaces;
+    }
+
+    private List<AlbumResponse> rankedSummaries(List<ScoreBoard.Entry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, AlbumResponse> byId = summariesById(
+                entries.stream().map(ScoreBoard.Entry::id).collect(Collectors.toList()));
+        List<AlbumResponse> ranked = new ArrayList<>();
+        for (ScoreBoard.Entry entry : entries) {
+            AlbumResponse album = byId.get(entry.id());
+            if (album != null) {
+                album.setRankingScore(Math.round(entry.score() * 1000.0) / 1000.0);
+                ranked.add(album);
+            }
+        }
+        return decorate(ranked);
+    }
+
+    /**
+     * Attach live counters and generated cover variant URLs to (possibly cached) summaries
+     */
+    private Page<AlbumResponse> decorate(Page<AlbumResponse> page) {
+        return coverVariantService.attachVariants(albumStatsService.attachStats(page));
+    }
+
+    private List<AlbumResponse> decorate(List<AlbumResponse> albums) {
+        return coverVariantService.attachVariants(albumStatsService.attachStats(albums));
+    }
+
+    private Map<Long, AlbumResponse> summariesById(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
         }
-        albumRepository.deleteById(id);
+        return albumRepository.findAlbumSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(AlbumResponse::getId, album -> album));
     }
 
     /**
@@ -232,6 +346,96 @@ public class AlbumService {
         return "#";
     }
 
+    /**
+     * Load all requested genres in one query
+     */
+    private Set<Genre> resolveGenres(Set<Long> genreIds) {
+        if (genreIds == null || genreIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<Genre> genres = new HashSet<>(genreRepository.findAllById(genreIds));
+        if (genres.size() < genreIds.size()) {
+            Set<Long> foundIds = genres.stream().map(Genre::getId).collect(Collectors.toSet());
+            Long missingId = genreIds.stream().filter(genreId -> !foundIds.contains(genreId)).findFirst().orElse(null);
+            throw new RuntimeException("Genre not found with id: " + missingId);
+        }
+        return genres;
+    }
+
+    /**
+     * Diff the stored tracks against the requested ones: unchanged rows are left alone, matching or
+     * renamed rows are updated in place (batched by Hibernate), the rest is deleted in one statement
+     * and new tracks are inserted in JDBC batches.
+     */
+    private void syncTracks(Album album, List<TrackDTO> requested) {
+        List<Track> removed = new ArrayList<>();
+        Map<String, Track> existingByKey = new LinkedHashMap<>();
+        for (Track track : trackRepository.findByAlbumIdOrderByTrackNumberAsc(album.getId())) {
+            if (existingByKey.putIfAbsent(trackKey(track.getTrackNumber(), track.getTitle()), track) != null) {
+                removed.add(track);
+            }
+        }
+
+        List<TrackDTO> unmatched = new ArrayList<>();
+        for (TrackDTO trackDTO : requested) {
+            Track track = existingByKey.remove(trackKey(trackDTO.getTrackNumber(), trackDTO.getTitle()));
+            if (track == null) {
+                unmatched.add(trackDTO);
+            } else {
+                // Dirty checking turns these into UPDATEs only when a value actually changed
+                track.setTitle(trackDTO.getTitle());
+                track.setDuration(trackDTO.getDuration());
+            }
+        }
+
+        // Rows left at the same track number are treated as renames and reused
+        Map<Integer, Deque<Track>> leftoverByNumber = new HashMap<>();
+        for (Track track : existingByKey.values()) {
+            leftoverByNumber.computeIfAbsent(track.getTrackNumber(), number -> new ArrayDeque<>()).add(track);
+        }
+        List<Track> newTracks = new ArrayList<>();
+        for (TrackDTO trackDTO : unmatched) {
+            Deque<Track> candidates = leftoverByNumber.get(trackDTO.getTrackNumber());
+            Track track = candidates != null ? candidates.poll() : null;
+            if (track == null) {
+                newTracks.add(newTrack(album, trackDTO));
+            } else {
+                track.setTitle(trackDTO.getTitle());
+                track.setDuration(trackDTO.getDuration());
+            }
+        }
+        leftoverByNumber.values().forEach(removed::addAll);
+
+        if (!removed.isEmpty()) {
+            trackRepository.deleteAllInBatch(removed);
+        }
+        trackRepository.insertBatch(newTracks);
+    }
+
+    /**
+     * Flush pending writes and read the album back with artist and genres (tracks load on first
+     * access), so the response and the search indexes see the rows written through JDBC
+     */
+    private Album reloadAlbum(Long albumId) {
+        entityManager.flush();
+        entityManager.clear();
+        return albumRepository.findByIdWithDetails(albumId)
+                .orElseThrow(() -> new RuntimeException("Album not found with id: " + albumId));
+    }
+
+    private Track newTrack(Album album, TrackDTO trackDTO) {
+        return Track.builder()
+                .album(album)
+                .trackNumber(trackDTO.getTrackNumber())
+                .title(trackDTO.getTitle())
+                .duration(trackDTO.getDuration())
+                .build();
+    }
+
+    private String trackKey(Integer trackNumber, String title) {
+        return trackNumber + "|" + (title == null ? "" : title.trim().toLowerCase());
+    }
+
     private List<TrackDTO> dedupeTracks(List<TrackDTO> tracks) {
         if (tracks == null || tracks.isEmpty()) {
             return List.of();
@@ -245,7 +449,7 @@ public class AlbumService {
             if (title.isEmpty() || track.getTrackNumber() == null) {
                 continue;
             }
-            String key = track.getTrackNumber() + "|" + title.toLowerCase();
+            String key = trackKey(track.getTrackNumber(), title);
             unique.putIfAbsent(key, TrackDTO.builder()
                     .trackNumber(track.getTrackNumber())
                     .title(title)
@@ -0,0 +1,175 @@
+package com.musicreview.service;
+
+import com.musicreview.dto.album.AlbumResponse;
+import com.musicreview.entity.AlbumRatingBucket;
+import com.musicreview.entity.AlbumStats;
+import com.musicreview.repository.AlbumRatingBucketRepository;
+import com.musicreview.repository.AlbumStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AlbumStatsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AlbumStatsService.class);
+
+    private static final int MAX_BUCKET = 10;
+
+    private final AlbumStatsRepository albumStatsRepository;
+    private final AlbumRatingBucketRepository ratingBucketRepository;
+    private final AlbumRankingService albumRankingService;
+
+    /**
+     * Get counters for an album (all zero when the album has no activity yet)
+     */
+    public AlbumStats getStats(Long albumId) {
+        return albumStatsRepository.findById(albumId)
+                .orElseGet(() -> AlbumStats.empty(albumId));
+    }
+
+    /**
+     * Rating histogram of an album keyed by half-star label ("0.0" .. "5.0"), zero-filled
+     */
+    public Map<String, Integer> getRatingHistogram(Long albumId) {
+        Map<String, Integer> histogram = new LinkedHashMap<>();
+        for (int bucket = 0; bucket <= MAX_BUCKET; bucket++) {
+            histogram.put(bucketLabel(bucket), 0);
+        }
+        for (AlbumRatingBucket bucket : ratingBucketRepository.findByAlbumIdOrderByBucketAsc(albumId)) {
+            histogram.put(bucketLabel(bucket.getBucket()), bucket.getReviewCount());
+        }
+        return histogram;
+    }
+
+    /**
+     * Attach counters to a page of album summaries with one primary-key lookup
+     */
+    public Page<AlbumResponse> attachStats(Page<AlbumResponse> page) {
+        Map<Long, AlbumStats> statsById = loadStats(page.getContent());
+        return page.map(album -> album.withStats(statsById.get(album.getId())));
+    }
+
+    public List<AlbumResponse> attachStats(List<AlbumResponse> albums) {
+        Map<Long, AlbumStats> statsById = loadStats(albums);
+        return albums.stream()
+                .map(album -> album.withStats(statsById.get(album.getId())))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void recordReviewCreated(Long albumId, BigDecimal rating) {
+        albumStatsRepository.applyReviewDelta(albumId, 1, rating != null ? 1 : 0, orZero(rating));
+        if (rating != null) {
+            ratingBucketRepository.applyDelta(albumId, bucketOf(rating), 1);
+        }
+        albumRankingService.onReviewActivity(albumId, AlbumRankingService.REVIEW_WEIGHT);
+    }
+
+    @Transactional
+    public void recordReviewRatingChanged(Long albumId, BigDecimal oldRating, BigDecimal newRating) {
+        int ratedDelta = (newRating != null ? 1 : 0) - (oldRating != null ? 1 : 0);
+        BigDecimal sumDelta = orZero(newRating).subtract(orZero(oldRating));
+        if (ratedDelta == 0 && sumDelta.signum() == 0) {
+            return;
+        }
+        albumStatsRepository.applyReviewDelta(albumId, 0, ratedDelta, sumDelta);
+
+        Integer oldBucket = oldRating != null ? bucketOf(oldRating) : null;
+        Integer newBucket = newRating != null ? bucketOf(newRating) : null;
+        if (!Objects.equals(oldBucket, newBucket)) {
+            if (oldBucket != null) {
+                ratingBucketRepository.applyDelta(albumId, oldBucket, -1);
+            }
+            if (newBucket != null) {
+                ratingBucketRepository.applyDelta(albumId, newBucket, 1);
+            }
+        }
+        albumRankingService.onReviewActivity(albumId, AlbumRankingService.RATING_CHANGE_WEIGHT);
+    }
+
+    @Transactional
+    public void recordReviewDeleted(Long albumId, BigDecimal rating) {
+        albumStatsRepository.applyReviewDelta(albumId, -1, rating != null ? -1 : 0, orZero(rating).negate());
+        if (rating != null) {
+            ratingBucketRepository.applyDelta(albumId, bucketOf(rating), -1);
+        }
+        albumRankingService.onReviewActivity(albumId, 0);
+    }
+
+    @Transactional
+    public void recordFavoriteAdded(Long albumId) {
+        albumStatsRepository.applyFavoriteDelta(albumId, 1);
+        albumRankingService.onFavoriteActivity(albumId, AlbumRankingService.FAVORITE_WEIGHT);
+    }
+
+    @Transactional
+    public void recordFavoriteRemoved(Long albumId) {
+        albumStatsRepository.applyFavoriteDelta(albumId, -1);
+    }
+
+    @Transactional
+    public void removeAlbum(Long albumId) {
+        ratingBucketRepository.deleteByAlbumId(albumId);
+        albumStatsRepository.deleteByAlbumId(albumId);
+        albumRankingService.removeAlbum(albumId);
+    }
+
+    /**
+     * Seed stats rows for albums that predate the album_stats table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @Transactional
+    public void backfillMissingStats() {
+        try {
+            ratingBucketRepository.backfillMissing();
+            int seeded = albumStatsRepository.backfillMissing();
+            if (seeded > 0) {
+                LOG.info("Seeded album_stats for {} album(s)", seeded);
+            }
+        } catch (Exception e) {
+            LOG.warn("Failed to backfill album_stats: {}", e.getMessage());
+        }
+    }
+
+    private Map<Long, AlbumStats> loadStats(List<AlbumResponse> albums) {
+        List<Long> albumIds = albums.stream()
+                .map(AlbumResponse::getId)
+                .collect(Collectors.toList());
+        if (albumIds.isEmpty()) {
+            return Map.of();
+        }
+        return albumStatsRepository.findByAlbumIdIn(albumIds).stream()
+                .collect(Collectors.toMap(AlbumStats::getAlbumId, Function.identity()));
+    }
+
+    private int bucketOf(BigDecimal rating) {
+        int bucket = rating.multiply(BigDecimal.valueOf(2)).setScale(0, RoundingMode.HALF_UP).intValue();
+        return Math.max(0, Math.min(MAX_BUCKET, bucket));
+    }
+
+    private String bucketLabel(int bucket) {
+        return BigDecimal.valueOf(bucket).divide(BigDecimal.valueOf(2), 1, RoundingMode.UNNECESSARY).toPlainString();
+    }
+
+    private BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
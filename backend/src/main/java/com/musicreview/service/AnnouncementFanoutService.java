@@ -0,0 +1,207 @@
+package com.musicreview.service;
+
+import com.musicreview.entity.Announcement;
+import com.musicreview.entity.enums.NotificationType;
+import com.musicreview.repository.AnnouncementRepository;
+import com.musicreview.util.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the per-user notification rows of an announcement in the background. Each chunk is one
+ * short transaction: advance the announcement's cursor (guarded by its previous value, so two
+ * nodes can never deliver the same range) and copy the next chunk-size users into notifications
+ * with a single INSERT ... SELECT. A restart or crash resumes from the last committed cursor;
+ * undelivered announcements are picked up at startup and on a schedule.
+ */
+@Service
+public class AnnouncementFanoutService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AnnouncementFanoutService.class);
+
+    private final AnnouncementRepository announcementRepository;
+    private final UnreadCounterService unreadCounterService;
+    private final NotificationStreamService notificationStreamService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration lease;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public AnnouncementFanoutService(
+            AnnouncementRepository announcementRepository,
+            UnreadCounterService unreadCounterService,
+            NotificationStreamService notificationStreamService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.announcements.chunk-size:2000}") int chunkSize,
+            @Value("${app.announcements.lease-seconds:60}") long leaseSeconds,
+            @Value("${app.announcements.queue-capacity:100}") int queueCapacity
+    ) {
+        this.announcementRepository = announcementRepository;
+        this.unreadCounterService = unreadCounterService;
+        this.notificationStreamService = notificationStreamService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "announcement-fanout-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue delivery of an announcement; inside a transaction it is queued after commit
+     */
+    public void scheduleDelivery(Long announcementId) {
+        TransactionHooks.afterCommit(() -> submit(announcementId));
+    }
+
+    /**
+     * Resume announcements whose delivery was interrupted (restart, crash, full queue)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.announcements.resume-interval-ms:60000}", initialDelayString = "${app.announcements.resume-interval-ms:60000}")
+    public void resumeUndelivered() {
+        try {
+            for (Long id : announcementRepository.findUndeliveredIds()) {
+                submit(id);
+            }
+        } catch (Exception e) {
+            LOG.warn("Failed to resume announcement delivery: {}", e.getMessage());
+        }
+    }
+
+    private void submit(Long announcementId) {
+        if (!inFlight.add(announcementId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    deliver(announcementId);
+                } catch (RuntimeException e) {
+                    LOG.warn("Announcement {} delivery stopped: {}", announcementId, e.getMessage());
+                } finally {
+                    inFlight.remove(announcementId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(announcementId);
+            LOG.warn("Announcement queue is full, announcement {} will be resumed later", announcementId);
+        }
+    }
+
+    void deliver(Long announcementId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                announcementRepository.claim(announcementId, now, now.plus(lease)));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+        Announcement announcement = announcementRepository.findById(announcementId).orElse(null);
+        if (announcement == null) {
+            return;
+        }
+
+        long cursor = announcement.getLastUserId();
+        long started = System.currentTimeMillis();
+        long delivered = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            Chunk chunk = deliverChunk(announcement, cursor);
+            if (chunk == null) {
+                break;
+            }
+            delivered += chunk.inserted();
+            unreadCounterService.invalidateRange(cursor, chunk.cursor());
+            notificationStreamService.publishToRange(cursor, chunk.cursor(), NotificationStreamService.EVENT_NOTIFICATION, Map.of(
+                    "type", NotificationType.ANNOUNCEMENT.name(),
+                    "title", announcement.getTitle(),
+                    "announcementId", announcementId));
+            if (chunk.done()) {
+                break;
+            }
+            cursor = chunk.cursor();
+        }
+        LOG.info("Announcement {} delivered to {} more user(s) in {} ms",
+                announcementId, delivered, System.currentTimeMillis() - started);
+    }
+
+    private record Chunk(long cursor, int inserted, boolean done) {
+    }
+
+    /**
+     * Deliver to the users after the cursor, up to chunk-size of them; null when another node has
+     * already moved the cursor
+     */
+    private Chunk deliverChunk(Announcement announcement, long cursor) {
+        return transactionTemplate.execute(status -> {
+            List<Long> bounds = jdbcTemplate.queryForList(
+                    "SELECT id FROM users WHERE id > ? AND id <= ? ORDER BY id LIMIT 1 OFFSET ?",
+                    Long.class, cursor, announcement.getMaxUserId(), chunkSize - 1);
+            long upper = bounds.isEmpty() ? announcement.getMaxUserId() : bounds.get(0);
+            boolean last = upper >= announcement.getMaxUserId();
+            LocalDateTime now = LocalDateTime.now();
+
+            // Moving the cursor first locks the announcement row; a second worker blocks here and
+            // then matches no row, so the same range is never inserted twice
+            int moved = jdbcTemplate.update("""
+                    UPDATE announcements
+                    SET last_user_id = ?, status = ?, locked_until = ?, completed_at = ?
+                    WHERE id = ? AND last_user_id = ?
+                    """,
+                    upper,
+                    last ? Announcement.STATUS_DELIVERED : Announcement.STATUS_PENDING,
+                    Timestamp.valueOf(now.plus(lease)),
+                    last ? Timestamp.valueOf(now) : null,
+                    announcement.getId(), cursor);
+            if (moved == 0) {
+                return null;
+            }
+            int inserted = jdbcTemplate.update("""
+                    INSERT INTO notifications (user_id, sender_user_id, type, title, content, is_read, created_at)
+                    SELECT u.id, ?, 'ANNOUNCEMENT', ?, ?, FALSE, ?
+                    FROM users u
+                    WHERE u.id > ? AND u.id <= ?
+                    """,
+                    announcement.getSenderUserId(), announcement.getTitle(), announcement.getContent(),
+                    Timestamp.valueOf(announcement.getCreatedAt()), cursor, upper);
+            jdbcTemplate.update("UPDATE announcements SET delivered_count = delivered_count + ? WHERE id = ?",
+                    inserted, announcement.getId());
+            return new Chunk(upper, inserted, last);
+        });
+    }
+}
@@ -10,26 +10,35 @@ import com.musicreview.repository.AlbumRepository;
 import com.musicreview.repository.ArtistRepository;
 import com.musicreview.repository.GenreRepository;
 import com.musicreview.repository.projection.ArtistAlbumCountProjection;
+import com.musicreview.search.SearchHit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ArtistService {
 
+    private static final int MAX_SEARCH_RESULTS = 500;
+
     private final ArtistRepository artistRepository;
     private final AlbumRepository albumRepository;
     private final GenreRepository genreRepository;
     private final AuthService authService;
+    private final AlbumCatalogCacheService albumCatalogCache;
+    private final CatalogSearchService catalogSearchService;
+    private final TrackSearchService trackSearchService;
 
     /**
      * Get all artists
@@ -61,8 +70,21 @@ public class ArtistService {
      * Search artists by name
      */
     public Page<ArtistResponse> searchArtists(String query, Pageable pageable) {
-        Page<Artist> artists = artistRepository.findByNameContainingIgnoreCase(query, pageable);
-        return mapArtistsWithAlbumCount(artists);
+        if (!catalogSearchService.isReady()) {
+            Page<Artist> artists = artistRepository.findByNameContainingIgnoreCase(query, pageable);
+            return mapArtistsWithAlbumCount(artists);
+        }
+        List<SearchHit> hits = catalogSearchService.searchArtists(query, MAX_SEARCH_RESULTS);
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> pageIds = hits.subList(from, to).stream().map(SearchHit::id).toList();
+        Map<Long, Artist> byId = artistRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Artist::getId, artist -> artist));
+        List<Artist> content = pageIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return mapArtistsWithAlbumCount(new PageImpl<>(content, pageable, hits.size()));
     }
 
     public List<ArtistSearchItemResponse> searchArtistNames(String query, Integer limit) {
@@ -71,7 +93,17 @@ public class ArtistService {
             return List.of();
         }
         int safeLimit = limit == null ? 20 : Math.max(1, Math.min(limit, 50));
-        return artistRepository.searchLiteByNamePrefix(keyword, PageRequest.of(0, safeLimit));
+        if (!catalogSearchService.isReady()) {
+            return artistRepository.searchLiteByNamePrefix(keyword, PageRequest.of(0, safeLimit));
+        }
+        List<ArtistSearchItemResponse> result = new ArrayList<>();
+        for (SearchHit hit : catalogSearchService.searchArtists(keyword, safeLimit)) {
+            String name = catalogSearchService.getArtistName(hit.id());
+            if (name != null) {
+                result.add(new ArtistSearchItemResponse(hit.id(), name));
+            }
+        }
+        return result;
     }
 
     /**
@@ -95,6 +127,7 @@ public class ArtistService {
                 .build();
 
         Artist saved = artistRepository.save(artist);
+        catalogSearchService.indexArtist(saved, false);
         return toArtistResponse(saved, 0);
     }
 
@@ -109,6 +142,12 @@ public class ArtistService {
         String normalizedGenre = normalizeGenre(request.getGenre());
         ensureGenreExists(normalizedGenre);
 
+        // Album list pages and the album search index embed the artist name
+        boolean renamed = !artist.getName().equals(request.getName());
+        if (renamed) {
+            albumCatalogCache.invalidateAll();
+        }
+
         artist.setName(request.getName());
         artist.setNameInitial(extractInitial(request.getName()));
         artist.setCountry(request.getCountry());
@@ -120,6 +159,10 @@ public class ArtistService {
         artist.setPhotoUrl(request.getPhotoUrl());
 
         Artist saved = artistRepository.save(artist);
+        catalogSearchService.indexArtist(saved, renamed);
+        if (renamed) {
+            trackSearchService.renameArtist(saved.getId(), saved.getName());
+        }
         int albumCount = (int) albumRepository.countByArtistId(saved.getId());
         return toArtistResponse(saved, albumCount);
     }
@@ -145,6 +188,7 @@ public class ArtistService {
         }
         
         artistRepository.deleteById(id);
+        catalogSearchService.removeArtist(id);
     }
 
     /**
@@ -2,6 +2,8 @@ package com.musicreview.service;
 
 import com.musicreview.dto.blog.BlogPostRequest;
 import com.musicreview.dto.blog.BlogPostResponse;
+import com.musicreview.dto.common.CursorPage;
+import com.musicreview.dto.common.FeedCursor;
 import com.musicreview.entity.Album;
 import com.musicreview.entity.BlogPost;
 import com.musicreview.entity.User;
@@ -9,10 +11,13 @@ import com.musicreview.repository.AlbumRepository;
 import com.musicreview.repository.BlogPostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class BlogPostService {
@@ -20,11 +25,25 @@ public class BlogPostService {
     private final BlogPostRepository blogPostRepository;
     private final AlbumRepository albumRepository;
     private final AuthService authService;
+    private final BlogSearchService blogSearchService;
+    private final UserStatsService userStatsService;
 
     public Page<BlogPostResponse> getAllPosts(Pageable pageable) {
         return blogPostRepository.findPostResponses(pageable);
     }
 
+    /**
+     * Get blog posts with keyset pagination (no total count)
+     */
+    public CursorPage<BlogPostResponse> getPostFeed(String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<BlogPostResponse> rows = after == null
+                ? blogPostRepository.findPostFeed(limit)
+                : blogPostRepository.findPostFeedAfter(after.createdAt(), after.id(), limit);
+        return CursorPage.fromOverfetch(rows, size, post -> new FeedCursor(post.getCreatedAt(), post.getId()));
+    }
+
     public Page<BlogPostResponse> getMyPosts(Pageable pageable) {
         User currentUser = authService.getCurrentUser();
         return blogPostRepository.findPostResponsesByUserId(currentUser.getId(), pageable);
@@ -46,7 +65,10 @@ public class BlogPostService {
                 .content(request.getContent().trim())
                 .build();
 
-        return BlogPostResponse.fromEntity(blogPostRepository.save(post));
+        BlogPost saved = blogPostRepository.save(post);
+        blogSearchService.indexPost(saved);
+        userStatsService.recordBlogPostCreated(currentUser.getId());
+        return BlogPostResponse.fromEntity(saved);
     }
 
     @Transactional
@@ -60,7 +82,9 @@ public class BlogPostService {
         post.setTitle(request.getTitle().trim());
         post.setContent(request.getContent().trim());
 
-        return BlogPostResponse.fromEntity(blogPostRepository.save(post));
+        BlogPost saved = blogPostRepository.save(post);
+        blogSearchService.indexPost(saved);
+        return BlogPostResponse.fromEntity(saved);
     }
 
     @Transactional
@@ -69,6 +93,8 @@ public class BlogPostService {
         BlogPost post = blogPostRepository.findByIdAndUserId(id, currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("Blog post not found with id: " + id));
         blogPostRepository.delete(post);
+        blogSearchService.removePost(id);
+        userStatsService.recordBlogPostDeleted(currentUser.getId());
     }
 
     private Album resolveAlbum(Long albumId) {
@@ -0,0 +1,121 @@
+package com.musicreview.service;
+
+import com.musicreview.entity.BlogPost;
+import com.musicreview.repository.BlogPostRepository;
+import com.musicreview.repository.projection.BlogSearchProjection;
+import com.musicreview.search.InvertedIndex;
+import com.musicreview.search.RebuildableIndex;
+import com.musicreview.search.SearchHit;
+import com.musicreview.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Full-text search over blog post titles and content, kept in memory like the catalog indexes.
+ * Titles and authors are kept alongside the index so search results need no database round trip.
+ */
+@Service
+@RequiredArgsConstructor
+public class BlogSearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BlogSearchService.class);
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float CONTENT_WEIGHT = 0.5f;
+
+    private final BlogPostRepository blogPostRepository;
+
+    private final RebuildableIndex<PostIndex> index = new RebuildableIndex<>(new PostIndex());
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        return index.get().posts.search(query, limit);
+    }
+
+    public PostSummary getSummary(long postId) {
+        return index.get().summaries.get(postId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        try {
+            index.rebuild(this::loadIndex);
+            ready = true;
+            LOG.info("Blog search index built: {} posts", index.get().posts.size());
+        } catch (Exception e) {
+            LOG.warn("Failed to build blog search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild from the database and swap the result in, so posts written on other nodes show up here
+     */
+    @Scheduled(fixedDelayString = "${app.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.search.rebuild-interval-ms:600000}")
+    public void rebuildIndex() {
+        if (!ready) {
+            buildIndex();
+            return;
+        }
+        try {
+            index.rebuild(this::loadIndex);
+        } catch (Exception e) {
+            LOG.warn("Failed to rebuild blog search index, keeping the current one: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Re-index a post once the current transaction commits
+     */
+    public void indexPost(BlogPost post) {
+        long postId = post.getId();
+        String title = post.getTitle();
+        String content = post.getContent();
+        String username = post.getUser().getUsername();
+        Long albumId = post.getAlbum() != null ? post.getAlbum().getId() : null;
+        TransactionHooks.afterCommit(() -> index.update(current -> current.put(postId, title, content, username, albumId)));
+    }
+
+    public void removePost(Long postId) {
+        TransactionHooks.afterCommit(() -> index.update(current -> {
+            current.posts.remove(postId);
+            current.summaries.remove(postId);
+        }));
+    }
+
+    private PostIndex loadIndex() {
+        PostIndex built = new PostIndex();
+        for (BlogSearchProjection post : blogPostRepository.findAllForSearchIndex()) {
+            built.put(post.getId(), post.getTitle(), post.getContent(), post.getUsername(), post.getAlbumId());
+        }
+        return built;
+    }
+
+    public record PostSummary(String title, String username, Long albumId) {
+    }
+
+    private static final class PostIndex {
+        private final InvertedIndex posts = new InvertedIndex();
+        private final Map<Long, PostSummary> summaries = new ConcurrentHashMap<>();
+
+        private void put(long postId, String title, String content, String username, Long albumId) {
+            posts.put(postId, List.of(
+                    new InvertedIndex.Field(title, TITLE_WEIGHT),
+                    new InvertedIndex.Field(content, CONTENT_WEIGHT)));
+            summaries.put(postId, new PostSummary(title, username, albumId));
+        }
+    }
+}
@@ -0,0 +1,627 @@
+package com.musicreview.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.musicreview.dto.album.TrackDTO;
+import com.musicreview.dto.imports.BulkImportRecord;
+import com.musicreview.dto.imports.BulkImportReport;
+import com.musicreview.entity.User;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bulk catalog import from NDJSON. The request thread parses records one at a time and hands
+ * batches to a single writer thread through a bounded queue, so the upload is never held in
+ * memory and parsing overlaps with the database writes. The writer dedupes artists by name and
+ * albums by (artist, title) against an in-memory index of the catalog and writes each batch
+ * with JDBC batch inserts in one transaction. Stats rows, caches and search indexes are refreshed
+ * on the writer thread after the report is returned.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkImportService.class);
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final List<BulkImportRecord> END_OF_INPUT = List.of();
+    // How long the reader waits on a full queue before checking that the writer is still alive
+    private static final long ENQUEUE_WAIT_MS = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuthService authService;
+    private final AlbumCatalogCacheService catalogCache;
+    private final AlbumStatsService albumStatsService;
+    private final CatalogSearchService catalogSearchService;
+    private final TrackSearchService trackSearchService;
+    private final ObjectReader recordReader;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final ExecutorService writerExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public BulkImportService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            AuthService authService,
+            AlbumCatalogCacheService catalogCache,
+            AlbumStatsService albumStatsService,
+            CatalogSearchService catalogSearchService,
+            TrackSearchService trackSearchService,
+            ObjectMapper objectMapper,
+            @Value("${app.import.batch-size:500}") int batchSize,
+            @Value("${app.import.queue-capacity:4}") int queueCapacity
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.authService = authService;
+        this.catalogCache = catalogCache;
+        this.albumStatsService = albumStatsService;
+        this.catalogSearchService = catalogSearchService;
+        this.trackSearchService = trackSearchService;
+        this.recordReader = objectMapper.readerFor(BulkImportRecord.class);
+        this.batchSize = Math.max(1, batchSize);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.writerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bulk-import-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writerExecutor.shutdownNow();
+    }
+
+    /**
+     * Import an NDJSON stream (only allowed for user "Huan", one import at a time)
+     */
+    public BulkImportReport importNdjson(InputStream input) {
+        User currentUser = authService.getCurrentUser();
+        if (!"Huan".equals(currentUser.getUsername())) {
+            throw new RuntimeException("Only user 'Huan' can run bulk imports");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("Another bulk import is already running");
+        }
+        try {
+            return runImport(input, currentUser.getId());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private BulkImportReport runImport(InputStream input, Long userId) {
+        long started = System.currentTimeMillis();
+        ImportProgress progress = new ImportProgress();
+        BlockingQueue<List<BulkImportRecord>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        CatalogWriter writer = new CatalogWriter(loadCatalogIndex(), userId, progress);
+        Future<?> writing = writerExecutor.submit(() -> writer.drain(queue));
+
+        boolean aborted = false;
+        try {
+            aborted = readRecords(input, queue, writing, progress);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            aborted = true;
+        } finally {
+            try {
+                // A writer that already stopped needs no end marker; get() reports why it stopped
+                enqueue(queue, END_OF_INPUT, writing);
+                writing.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writing.cancel(true);
+                aborted = true;
+            } catch (ExecutionException e) {
+                LOG.error("Bulk import writer failed", e.getCause());
+                progress.error(-1, "Import writer failed, import stopped: " + e.getCause());
+                aborted = true;
+            }
+        }
+
+        if (progress.artistsCreated > 0 || progress.albumsCreated > 0) {
+            try {
+                writerExecutor.execute(this::refreshDerivedState);
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Shutting down, skipped refreshing stats, caches and search indexes after bulk import");
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        BulkImportReport report = progress.toReport(aborted, elapsed);
+        LOG.info("Bulk import finished in {} ms: {} rows, {} artists, {} albums, {} tracks, {} duplicates, {} errors",
+                elapsed, report.getRowsRead(), report.getArtistsCreated(), report.getAlbumsCreated(),
+                report.getTracksCreated(), report.getDuplicatesSkipped(), report.getErrorCount());
+        return report;
+    }
+
+    /**
+     * Parse records and enqueue them in batches; returns true when the input had to be abandoned
+     */
+    private boolean readRecords(InputStream input, BlockingQueue<List<BulkImportRecord>> queue, Future<?> writing,
+                                ImportProgress progress) throws InterruptedException {
+        List<BulkImportRecord> batch = new ArrayList<>(batchSize);
+        boolean aborted = false;
+        try (MappingIterator<BulkImportRecord> records = recordReader.readValues(input)) {
+            while (true) {
+                long line = records.getParser().currentLocation().getLineNr();
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    line = records.getParser().currentTokenLocation().getLineNr();
+                    BulkImportRecord record = records.nextValue();
+                    progress.rowRead();
+                    record.setLine(line);
+                    String problem = validate(record);
+                    if (problem != null) {
+                        progress.error(line, problem);
+                        continue;
+                    }
+                    batch.add(record);
+                    if (batch.size() >= batchSize) {
+                        if (!enqueue(queue, batch, writing)) {
+                            return true;
+                        }
+                        batch = new ArrayList<>(batchSize);
+                    }
+                } catch (JsonMappingException e) {
+                    if (e.getCause() instanceof JsonParseException parseError) {
+                        // The stream itself is broken (e.g. truncated), not just this record
+                        throw parseError;
+                    }
+                    // The iterator skips to the next record after a binding error
+                    progress.rowRead();
+                    progress.error(line, "Invalid record: " + e.getOriginalMessage());
+                }
+            }
+        } catch (JsonParseException e) {
+            progress.error(e.getLocation() != null ? e.getLocation().getLineNr() : -1,
+                    "Malformed JSON, import stopped: " + e.getOriginalMessage());
+            aborted = true;
+        } catch (IOException e) {
+            progress.error(-1, "Failed to read upload: " + e.getMessage());
+            aborted = true;
+        }
+        // Records parsed before a malformed line are still written
+        if (!batch.isEmpty() && !enqueue(queue, batch, writing)) {
+            return true;
+        }
+        return aborted;
+    }
+
+    /**
+     * Hand a batch to the writer; returns false when the writer has stopped and will never take it
+     */
+    private boolean enqueue(BlockingQueue<List<BulkImportRecord>> queue, List<BulkImportRecord> batch, Future<?> writing)
+            throws InterruptedException {
+        while (!queue.offer(batch, ENQUEUE_WAIT_MS, TimeUnit.MILLISECONDS)) {
+            if (writing.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String validate(BulkImportRecord record) {
+        String artistName = record.artistName();
+        if (isBlank(artistName)) {
+            return record.isArtist() ? "Artist name is required" : "Album artist is required";
+        }
+        if (artistName.trim().length() > 100) {
+            return "Artist name is longer than 100 characters";
+        }
+        if (record.isArtist()) {
+            if (record.getPhotoUrl() != null && record.getPhotoUrl().length() > 255) {
+                return "Photo URL is longer than 255 characters";
+            }
+            return null;
+        }
+        if (record.getType() != null && !BulkImportRecord.TYPE_ALBUM.equalsIgnoreCase(record.getType())) {
+            return "Unknown record type: " + record.getType();
+        }
+        if (isBlank(record.getTitle())) {
+            return "Album title is required";
+        }
+        if (record.getTitle().trim().length() > 200) {
+            return "Album title is longer than 200 characters";
+        }
+        if (record.getCoverUrl() != null && record.getCoverUrl().length() > 255) {
+            return "Cover URL is longer than 255 characters";
+        }
+        return null;
+    }
+
+    /**
+     * Imported rows bypass the JPA write path, so stats rows, caches and search indexes are rebuilt here
+     */
+    private void refreshDerivedState() {
+        try {
+            albumStatsService.backfillMissingStats();
+            catalogCache.invalidateAll();
+            catalogSearchService.buildIndexes();
+            trackSearchService.buildIndex();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to refresh derived state after bulk import: {}", e.getMessage());
+        }
+    }
+
+    private CatalogIndex loadCatalogIndex() {
+        CatalogIndex index = new CatalogIndex();
+        jdbcTemplate.query("SELECT id, name FROM artists ORDER BY id",
+                rs -> { index.artistIds.putIfAbsent(normalize(rs.getString("name")), rs.getLong("id")); });
+        jdbcTemplate.query("SELECT artist_id, title FROM albums",
+                rs -> { index.albumKeys.add(albumKey(rs.getLong("artist_id"), rs.getString("title"))); });
+        jdbcTemplate.query("SELECT id, name FROM genres",
+                rs -> { index.genreIds.put(normalize(rs.getString("name")), rs.getLong("id")); });
+        return index;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+
+    private static String albumKey(long artistId, String title) {
+        return artistId + "|" + normalize(title);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    /**
+     * Extract initial letter from name (A-Z, or # for non-letters)
+     */
+    private static String extractInitial(String name) {
+        if (name == null || name.isEmpty()) {
+            return "#";
+        }
+        char first = Character.toUpperCase(name.charAt(0));
+        if (Character.isLetter(first)) {
+            return String.valueOf(first);
+        }
+        return "#";
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    /**
+     * Names and keys of the existing catalog; only touched by the writer thread
+     */
+    private static class CatalogIndex {
+        private final Map<String, Long> artistIds = new HashMap<>();
+        private final Set<String> albumKeys = new HashSet<>();
+        private final Map<String, Long> genreIds = new HashMap<>();
+    }
+
+    private record AlbumRow(BulkImportRecord record, long artistId, List<Long> genreIds, List<TrackDTO> tracks) {
+    }
+
+    private record TrackRow(long albumId, TrackDTO track) {
+    }
+
+    private record GenreLink(long albumId, long genreId) {
+    }
+
+    private record BatchResult(Map<String, Long> artistIds, Set<String> albumKeys, long tracksCreated,
+                               long duplicates, List<BulkImportReport.RowError> errors) {
+    }
+
+    private class CatalogWriter {
+
+        private final CatalogIndex index;
+        private final Long userId;
+        private final ImportProgress progress;
+
+        CatalogWriter(CatalogIndex index, Long userId, ImportProgress progress) {
+            this.index = index;
+            this.userId = userId;
+            this.progress = progress;
+        }
+
+        void drain(BlockingQueue<List<BulkImportRecord>> queue) {
+            while (true) {
+                List<BulkImportRecord> batch;
+                try {
+                    batch = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (batch == END_OF_INPUT) {
+                    return;
+                }
+                writeBatch(batch);
+            }
+        }
+
+        private void writeBatch(List<BulkImportRecord> batch) {
+            BatchResult result;
+            try {
+                result = transactionTemplate.execute(status -> writeInTransaction(batch));
+            } catch (RuntimeException e) {
+                LOG.warn("Bulk import batch of {} rows failed: {}", batch.size(), e.getMessage());
+                for (BulkImportRecord record : batch) {
+                    progress.error(record.getLine(), "Batch write failed: " + e.getMessage());
+                }
+                return;
+            }
+            // Only committed rows become visible to the dedupe index
+            index.artistIds.putAll(result.artistIds());
+            index.albumKeys.addAll(result.albumKeys());
+            progress.batchWritten(result);
+        }
+
+        private BatchResult writeInTransaction(List<BulkImportRecord> batch) {
+            List<BulkImportReport.RowError> errors = new ArrayList<>();
+            long duplicates = 0;
+
+            // 1. Artists that are not in the catalog yet (artist lines win over bare album references)
+            Map<String, BulkImportRecord> newArtists = new LinkedHashMap<>();
+            for (BulkImportRecord record : batch) {
+                String key = normalize(record.artistName());
+                BulkImportRecord pending = newArtists.get(key);
+                if (record.isArtist() && (index.artistIds.containsKey(key) || (pending != null && pending.isArtist()))) {
+                    duplicates++;
+                } else if (!index.artistIds.containsKey(key) && (pending == null || (record.isArtist() && !pending.isArtist()))) {
+                    newArtists.put(key, record);
+                }
+            }
+            Map<String, Long> createdArtists = insertArtists(newArtists);
+
+            // 2. Albums, deduped by (artist, title) against the catalog and the rest of the batch
+            Set<String> createdAlbumKeys = new HashSet<>();
+            List<AlbumRow> albums = new ArrayList<>();
+            for (BulkImportRecord record : batch) {
+                if (record.isArtist()) {
+                    continue;
+                }
+                String artistKey = normalize(record.getArtist());
+                Long artistId = index.artistIds.getOrDefault(artistKey, createdArtists.get(artistKey));
+                String key = albumKey(artistId, record.getTitle());
+                if (index.albumKeys.contains(key) || createdAlbumKeys.contains(key)) {
+                    duplicates++;
+                    continue;
+                }
+                List<Long> genreIds = new ArrayList<>();
+                String unknownGenre = null;
+                if (record.getGenres() != null) {
+                    for (String genreName : record.getGenres()) {
+                        Long genreId = index.genreIds.get(normalize(genreName));
+                        if (genreId == null) {
+                            unknownGenre = genreName;
+                            break;
+                        }
+                        if (!genreIds.contains(genreId)) {
+                            genreIds.add(genreId);
+                        }
+                    }
+                }
+                if (unknownGenre != null) {
+                    errors.add(new BulkImportReport.RowError(record.getLine(), "Genre not found: " + unknownGenre));
+                    continue;
+                }
+                createdAlbumKeys.add(key);
+                albums.add(new AlbumRow(record, artistId, genreIds, dedupeTracks(record.getTracks())));
+            }
+            List<Long> albumIds = insertAlbums(albums);
+
+            // 3. Tracks and genre links of the new albums
+            List<TrackRow> tracks = new ArrayList<>();
+            List<GenreLink> genreLinks = new ArrayList<>();
+            for (int i = 0; i < albums.size(); i++) {
+                long albumId = albumIds.get(i);
+                for (TrackDTO track : albums.get(i).tracks()) {
+                    tracks.add(new TrackRow(albumId, track));
+                }
+                for (Long genreId : albums.get(i).genreIds()) {
+                    genreLinks.add(new GenreLink(albumId, genreId));
+                }
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO tracks (album_id, track_number, title, duration) VALUES (?, ?, ?, ?)",
+                    tracks, batchSize, (ps, row) -> {
+                        ps.setLong(1, row.albumId());
+                        ps.setInt(2, row.track().getTrackNumber());
+                        ps.setString(3, row.track().getTitle());
+                        setNullableInt(ps, 4, row.track().getDuration());
+                    });
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO album_genres (album_id, genre_id) VALUES (?, ?)",
+                    genreLinks, batchSize, (ps, link) -> {
+                        ps.setLong(1, link.albumId());
+                        ps.setLong(2, link.genreId());
+                    });
+
+            return new BatchResult(createdArtists, createdAlbumKeys, tracks.size(), duplicates, errors);
+        }
+
+        private Map<String, Long> insertArtists(Map<String, BulkImportRecord> newArtists) {
+            List<BulkImportRecord> rows = new ArrayList<>(newArtists.values());
+            List<Long> ids = insertReturningKeys(
+                    "INSERT INTO artists (name, name_initial, country, formed_year, genre, description, photo_url) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    rows, (ps, record) -> {
+                        String name = record.artistName().trim();
+                        boolean details = record.isArtist();
+                        ps.setString(1, name);
+                        ps.setString(2, extractInitial(name));
+                        ps.setString(3, details ? record.getCountry() : null);
+                        setNullableInt(ps, 4, details ? record.getFormedYear() : null);
+                        ps.setString(5, details ? record.getGenre() : null);
+                        ps.setString(6, details ? record.getDescription() : null);
+                        ps.setString(7, details ? record.getPhotoUrl() : null);
+                    });
+            Map<String, Long> created = new HashMap<>();
+            int i = 0;
+            for (String key : newArtists.keySet()) {
+                created.put(key, ids.get(i++));
+            }
+            return created;
+        }
+
+        private List<Long> insertAlbums(List<AlbumRow> albums) {
+            return insertReturningKeys(
+                    "INSERT INTO albums (title, title_initial, artist_id, release_year, cover_url, description, created_by) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    albums, (ps, row) -> {
+                        String title = row.record().getTitle().trim();
+                        ps.setString(1, title);
+                        ps.setString(2, extractInitial(title));
+                        ps.setLong(3, row.artistId());
+                        setNullableInt(ps, 4, row.record().getReleaseYear());
+                        ps.setString(5, row.record().getCoverUrl());
+                        ps.setString(6, row.record().getDescription());
+                        if (userId != null) {
+                            ps.setLong(7, userId);
+                        } else {
+                            ps.setNull(7, Types.BIGINT);
+                        }
+                    });
+        }
+
+        /**
+         * Batch insert returning the AUTO_INCREMENT ids in row order
+         */
+        private <T> List<Long> insertReturningKeys(String sql, List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+            if (rows.isEmpty()) {
+                return List.of();
+            }
+            return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+                List<Long> ids = new ArrayList<>(rows.size());
+                try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    for (int start = 0; start < rows.size(); start += batchSize) {
+                        for (T row : rows.subList(start, Math.min(rows.size(), start + batchSize))) {
+                            setter.setValues(ps, row);
+                            ps.addBatch();
+                        }
+                        ps.executeBatch();
+                        try (ResultSet keys = ps.getGeneratedKeys()) {
+                            while (keys.next()) {
+                                ids.add(keys.getLong(1));
+                            }
+                        }
+                    }
+                }
+                if (ids.size() != rows.size()) {
+                    throw new IllegalStateException("Expected " + rows.size() + " generated ids, got " + ids.size());
+                }
+                return ids;
+            });
+        }
+
+        private List<TrackDTO> dedupeTracks(List<TrackDTO> tracks) {
+            if (tracks == null || tracks.isEmpty()) {
+                return List.of();
+            }
+            Map<String, TrackDTO> unique = new LinkedHashMap<>();
+            for (TrackDTO track : tracks) {
+                if (track == null || isBlank(track.getTitle()) || track.getTrackNumber() == null) {
+                    continue;
+                }
+                String title = track.getTitle().trim();
+                if (title.length() > 200) {
+                    title = title.substring(0, 200);
+                }
+                unique.putIfAbsent(track.getTrackNumber() + "|" + title.toLowerCase(), TrackDTO.builder()
+                        .trackNumber(track.getTrackNumber())
+                        .title(title)
+                        .duration(track.getDuration())
+                        .build());
+            }
+            return new ArrayList<>(unique.values());
+        }
+    }
+
+    /**
+     * Counters shared by the reader and the writer thread
+     */
+    private static class ImportProgress {
+
+        private long rowsRead;
+        private long artistsCreated;
+        private long albumsCreated;
+        private long tracksCreated;
+        private long duplicatesSkipped;
+        private long errorCount;
+        private final List<BulkImportReport.RowError> errors = new ArrayList<>();
+
+        synchronized void rowRead() {
+            rowsRead++;
+        }
+
+        synchronized void error(long line, String message) {
+            errorCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new BulkImportReport.RowError(line, message));
+            }
+        }
+
+        synchronized void batchWritten(BatchResult result) {
+            artistsCreated += result.artistIds().size();
+            albumsCreated += result.albumKeys().size();
+            tracksCreated += result.tracksCreated();
+            duplicatesSkipped += result.duplicates();
+            result.errors().forEach(error -> error(error.getLine(), error.getMessage()));
+        }
+
+        synchronized BulkImportReport toReport(boolean aborted, long elapsedMs) {
+            List<BulkImportReport.RowError> sorted = new ArrayList<>(errors);
+            sorted.sort((a, b) -> Long.compare(a.getLine(), b.getLine()));
+            return BulkImportReport.builder()
+                    .rowsRead(rowsRead)
+                    .artistsCreated(artistsCreated)
+                    .albumsCreated(albumsCreated)
+                    .tracksCreated(tracksCreated)
+                    .duplicatesSkipped(duplicatesSkipped)
+                    .errorCount(errorCount)
+                    .errors(sorted)
+                    .aborted(aborted)
+                    .elapsedMs(elapsedMs)
+                    .rowsPerSecond(Math.round(rowsRead * 10000.0 / Math.max(elapsedMs, 1)) / 10.0)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.musicreview.service;
+
+import com.musicreview.entity.Album;
+import com.musicreview.entity.Artist;
+import com.musicreview.entity.Track;
+import com.musicreview.repository.AlbumRepository;
+import com.musicreview.repository.ArtistRepository;
+import com.musicreview.repository.TrackRepository;
+import com.musicreview.repository.projection.AlbumSearchProjection;
+import com.musicreview.repository.projection.ArtistSearchProjection;
+import com.musicreview.repository.projection.TrackTitleProjection;
+import com.musicreview.search.InvertedIndex;
+import com.musicreview.search.RebuildableIndex;
+import com.musicreview.search.SearchHit;
+import com.musicreview.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Full-text search over albums (title, artist name, track titles, description) and artists
+ * (name, description) backed by in-memory inverted indexes. The indexes are built at startup
+ * and kept current by this node's album / artist writes after their transaction commits; a
+ * periodic rebuild picks up writes made on other nodes.
+ * Until the initial build finishes, callers fall back to the database LIKE queries.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogSearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogSearchService.class);
+
+    private static final float ALBUM_TITLE_WEIGHT = 3f;
+    private static final float ALBUM_ARTIST_WEIGHT = 2f;
+    private static final float ALBUM_TRACK_WEIGHT = 1f;
+    private static final float ALBUM_DESCRIPTION_WEIGHT = 0.3f;
+    private static final float ARTIST_NAME_WEIGHT = 3f;
+    private static final float ARTIST_DESCRIPTION_WEIGHT = 0.3f;
+
+    private final AlbumRepository albumRepository;
+    private final ArtistRepository artistRepository;
+    private final TrackRepository trackRepository;
+
+    private final RebuildableIndex<Indexes> indexes = new RebuildableIndex<>(new Indexes());
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<SearchHit> searchAlbums(String query, int limit) {
+        return indexes.get().albums.search(query, limit);
+    }
+
+    public List<SearchHit> searchArtists(String query, int limit) {
+        return indexes.get().artists.search(query, limit);
+    }
+
+    /**
+     * Display name of an indexed artist (lets name suggestions skip the database)
+     */
+    public String getArtistName(long artistId) {
+        return indexes.get().artistNames.get(artistId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexes() {
+        try {
+            long started = System.currentTimeMillis();
+            indexes.rebuild(this::loadIndexes);
+            ready = true;
+            Indexes built = indexes.get();
+            LOG.info("Search indexes built in {} ms: {} albums, {} artists",
+                    System.currentTimeMillis() - started, built.albums.size(), built.artists.size());
+        } catch (Exception e) {
+            LOG.warn("Failed to build search indexes, falling back to database search: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild from the database and swap the result in, so writes made on other nodes show up here
+     */
+    @Scheduled(fixedDelayString = "${app.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.search.rebuild-interval-ms:600000}")
+    public void rebuildIndexes() {
+        if (!ready) {
+            buildIndexes();
+            return;
+        }
+        try {
+            indexes.rebuild(this::loadIndexes);
+        } catch (Exception e) {
+            LOG.warn("Failed to rebuild search indexes, keeping the current ones: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Re-index an album once the current transaction commits
+     */
+    public void indexAlbum(Album album) {
+        List<String> trackTitles = new ArrayList<>();
+        for (Track track : album.getTracks()) {
+            trackTitles.add(track.getTitle());
+        }
+        List<InvertedIndex.Field> fields = albumFields(album.getTitle(), album.getArtist().getName(),
+                trackTitles, album.getDescription());
+        long albumId = album.getId();
+        TransactionHooks.afterCommit(() -> indexes.update(built -> built.albums.put(albumId, fields)));
+    }
+
+    public void removeAlbum(Long albumId) {
+        TransactionHooks.afterCommit(() -> indexes.update(built -> built.albums.remove(albumId)));
+    }
+
+    /**
+     * Re-index an artist; when renamed, its albums are re-indexed too since they carry the artist name
+     */
+    public void indexArtist(Artist artist, boolean renamed) {
+        long artistId = artist.getId();
+        String name = artist.getName();
+        String description = artist.getDescription();
+        TransactionHooks.afterCommit(() -> {
+            Map<Long, List<InvertedIndex.Field>> albumFields = renamed ? loadAlbumFieldsOfArtist(artistId) : Map.of();
+            indexes.update(built -> {
+                putArtist(built, artistId, name, description);
+                albumFields.forEach(built.albums::put);
+            });
+        });
+    }
+
+    public void removeArtist(Long artistId) {
+        TransactionHooks.afterCommit(() -> indexes.update(built -> {
+            built.artists.remove(artistId);
+            built.artistNames.remove(artistId);
+        }));
+    }
+
+    private Indexes loadIndexes() {
+        Indexes built = new Indexes();
+        Map<Long, List<String>> tracksByAlbum = groupTrackTitles(trackRepository.findAllTitles());
+        for (AlbumSearchProjection album : albumRepository.findAllForSearchIndex()) {
+            built.albums.put(album.getId(), albumFields(album.getTitle(), album.getArtistName(),
+                    tracksByAlbum.getOrDefault(album.getId(), List.of()), album.getDescription()));
+        }
+        for (ArtistSearchProjection artist : artistRepository.findAllForSearchIndex()) {
+            putArtist(built, artist.getId(), artist.getName(), artist.getDescription());
+        }
+        return built;
+    }
+
+    private Map<Long, List<InvertedIndex.Field>> loadAlbumFieldsOfArtist(long artistId) {
+        List<AlbumSearchProjection> albums = albumRepository.findForSearchIndexByArtistId(artistId);
+        if (albums.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<String>> tracksByAlbum = groupTrackTitles(
+                trackRepository.findTitlesByAlbumIdIn(albums.stream().map(AlbumSearchProjection::getId).toList()));
+        Map<Long, List<InvertedIndex.Field>> fieldsByAlbum = new HashMap<>();
+        for (AlbumSearchProjection album : albums) {
+            fieldsByAlbum.put(album.getId(), albumFields(album.getTitle(), album.getArtistName(),
+                    tracksByAlbum.getOrDefault(album.getId(), List.of()), album.getDescription()));
+        }
+        return fieldsByAlbum;
+    }
+
+    private void putArtist(Indexes built, long artistId, String name, String description) {
+        built.artists.put(artistId, List.of(
+                new InvertedIndex.Field(name, ARTIST_NAME_WEIGHT),
+                new InvertedIndex.Field(description, ARTIST_DESCRIPTION_WEIGHT)));
+        if (name != null) {
+            built.artistNames.put(artistId, name);
+        }
+    }
+
+    private List<InvertedIndex.Field> albumFields(String title, String artistName, List<String> trackTitles, String description) {
+        List<InvertedIndex.Field> fields = new ArrayList<>(trackTitles.size() + 3);
+        fields.add(new InvertedIndex.Field(title, ALBUM_TITLE_WEIGHT));
+        fields.add(new InvertedIndex.Field(artistName, ALBUM_ARTIST_WEIGHT));
+        for (String trackTitle : trackTitles) {
+            fields.add(new InvertedIndex.Field(trackTitle, ALBUM_TRACK_WEIGHT));
+        }
+        fields.add(new InvertedIndex.Field(description, ALBUM_DESCRIPTION_WEIGHT));
+        return fields;
+    }
+
+    private Map<Long, List<String>> groupTrackTitles(List<TrackTitleProjection> tracks) {
+        Map<Long, List<String>> tracksByAlbum = new HashMap<>();
+        for (TrackTitleProjection track : tracks) {
+            tracksByAlbum.computeIfAbsent(track.getAlbumId(), id -> new ArrayList<>()).add(track.getTitle());
+        }
+        return tracksByAlbum;
+    }
+
+    private static final class Indexes {
+        private final InvertedIndex albums = new InvertedIndex();
+        private final InvertedIndex artists = new InvertedIndex();
+        private final Map<Long, String> artistNames = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,240 @@
+package com.musicreview.service;
+
+import com.musicreview.client.CoverImageClient;
+import com.musicreview.client.UpstreamException;
+import com.musicreview.dto.album.CoverMirrorStatusResponse;
+import com.musicreview.entity.AlbumCoverMirror;
+import com.musicreview.entity.User;
+import com.musicreview.repository.AlbumCoverMirrorRepository;
+import com.musicreview.repository.projection.CoverMirrorStatusCountProjection;
+import com.musicreview.repository.projection.PendingCoverMirrorProjection;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Mirrors remote album covers (NetEase p*.music.126.net by default) to local storage. A periodic
+ * sweep picks albums whose cover was never mirrored, changed, or failed earlier and is due for a
+ * retry; each cover is downloaded once through the rate-limited {@link CoverImageClient} on a small
+ * bounded pool, stored by content hash and handed to {@link CoverVariantService}. Album.coverUrl is
+ * left untouched: the 300/600px variants are exposed as aliases on AlbumResponse, and per-album
+ * progress and failures are kept in album_cover_mirrors.
+ */
+@Service
+public class CoverMirrorService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CoverMirrorService.class);
+
+    private final AlbumCoverMirrorRepository mirrorRepository;
+    private final CoverImageClient coverImageClient;
+    private final FileStorageService fileStorageService;
+    private final CoverVariantService coverVariantService;
+    private final AuthService authService;
+    private final boolean enabled;
+    private final Pattern hostPattern;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final int coverMaxEdge;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public CoverMirrorService(
+            AlbumCoverMirrorRepository mirrorRepository,
+            CoverImageClient coverImageClient,
+            FileStorageService fileStorageService,
+            CoverVariantService coverVariantService,
+            AuthService authService,
+            @Value("${app.covers.mirror.enabled:true}") boolean enabled,
+            @Value("${app.covers.mirror.host-pattern:^https?://(p\\d+|music)\\.music\\.126\\.net/}") String hostPattern,
+            @Value("${app.covers.mirror.threads:2}") int threads,
+            @Value("${app.covers.mirror.batch-size:50}") int batchSize,
+            @Value("${app.covers.mirror.max-attempts:3}") int maxAttempts,
+            @Value("${app.covers.mirror.retry-delay-minutes:60}") long retryDelayMinutes,
+            @Value("${app.files.cover-max-edge:2000}") int coverMaxEdge
+    ) {
+        this.mirrorRepository = mirrorRepository;
+        this.coverImageClient = coverImageClient;
+        this.fileStorageService = fileStorageService;
+        this.coverVariantService = coverVariantService;
+        this.authService = authService;
+        this.enabled = enabled;
+        this.hostPattern = Pattern.compile(hostPattern, Pattern.CASE_INSENSITIVE);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = Duration.ofMinutes(retryDelayMinutes);
+        this.coverMaxEdge = coverMaxEdge;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(this.batchSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cover-mirror-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue the next batch of covers that need mirroring
+     */
+    @Scheduled(fixedDelayString = "${app.covers.mirror.interval-ms:60000}", initialDelayString = "${app.covers.mirror.initial-delay-ms:30000}")
+    public void mirrorPendingCovers() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int queued = queuePending();
+            if (queued > 0) {
+                LOG.info("Queued {} album cover(s) for mirroring", queued);
+            }
+        } catch (Exception e) {
+            LOG.warn("Cover mirror sweep failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Start a sweep right away (only allowed for user "Huan"); returns the number of covers queued
+     */
+    public int runNow() {
+        requireAdmin();
+        return queuePending();
+    }
+
+    /**
+     * Per-status album counts and the latest failures (only allowed for user "Huan")
+     */
+    public CoverMirrorStatusResponse getStatus() {
+        requireAdmin();
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (CoverMirrorStatusCountProjection row : mirrorRepository.countByStatus()) {
+            byStatus.put(row.getStatus(), row.getTotal());
+        }
+        List<CoverMirrorStatusResponse.Failure> failures = mirrorRepository.findRecentFailures(PageRequest.of(0, 20)).stream()
+                .map(mirror -> CoverMirrorStatusResponse.Failure.builder()
+                        .albumId(mirror.getAlbumId())
+                        .sourceUrl(mirror.getSourceUrl())
+                        .attempts(mirror.getAttempts())
+                        .error(mirror.getError())
+                        .updatedAt(mirror.getUpdatedAt())
+                        .build())
+                .toList();
+        return CoverMirrorStatusResponse.builder()
+                .enabled(enabled)
+                .albumsByStatus(byStatus)
+                .inFlight(inFlight.size())
+                .recentFailures(failures)
+                .build();
+    }
+
+    /**
+     * Mirror one album's cover on the calling thread
+     */
+    void mirror(Long albumId, String coverUrl, int previousAttempts) {
+        if (!hostPattern.matcher(coverUrl).find()) {
+            save(albumId, coverUrl, null, AlbumCoverMirror.STATUS_SKIPPED, 0, "Host is not mirrored");
+            return;
+        }
+        int attempts = previousAttempts + 1;
+        try {
+            // Albums sharing a cover reuse the copy that is already stored
+            String localUrl = mirrorRepository.findFirstBySourceUrlAndStatus(coverUrl, AlbumCoverMirror.STATUS_MIRRORED)
+                    .map(AlbumCoverMirror::getLocalUrl)
+                    .orElse(null);
+            if (localUrl == null) {
+                FileStorageService.StoredUpload stored = coverImageClient.download(coverUrl,
+                        body -> fileStorageService.storeImage("album-covers", body, coverMaxEdge));
+                localUrl = CoverVariantService.LOCAL_COVER_PREFIX + stored.filename();
+            }
+            if (coverVariantService.generateFromLocalCopy(coverUrl, localUrl)) {
+                save(albumId, coverUrl, localUrl, AlbumCoverMirror.STATUS_MIRRORED, attempts, null);
+            } else {
+                save(albumId, coverUrl, localUrl, AlbumCoverMirror.STATUS_FAILED, maxAttempts, "Could not generate variants");
+            }
+        } catch (UpstreamException e) {
+            save(albumId, coverUrl, null, AlbumCoverMirror.STATUS_FAILED, e.isRetryable() ? attempts : maxAttempts, e.getMessage());
+        } catch (RuntimeException e) {
+            // Not an image, too large, ... - retrying will not help
+            save(albumId, coverUrl, null, AlbumCoverMirror.STATUS_FAILED, maxAttempts, e.getMessage());
+        }
+    }
+
+    private int queuePending() {
+        LocalDateTime retryBefore = LocalDateTime.now().minus(retryDelay);
+        int queued = 0;
+        for (PendingCoverMirrorProjection pending : mirrorRepository.findPending(maxAttempts, retryBefore, batchSize)) {
+            Long albumId = pending.getAlbumId();
+            if (!inFlight.add(albumId)) {
+                continue;
+            }
+            String coverUrl = pending.getCoverUrl().trim();
+            int attempts = pending.getAttempts() != null ? pending.getAttempts() : 0;
+            try {
+                executor.execute(() -> {
+                    try {
+                        mirror(albumId, coverUrl, attempts);
+                    } finally {
+                        inFlight.remove(albumId);
+                    }
+                });
+                queued++;
+            } catch (RejectedExecutionException e) {
+                // Still working through the previous batch; the rest is picked up by the next sweep
+                inFlight.remove(albumId);
+                break;
+            }
+        }
+        return queued;
+    }
+
+    private void save(Long albumId, String sourceUrl, String localUrl, String status, int attempts, String error) {
+        AlbumCoverMirror mirror = AlbumCoverMirror.builder()
+                .albumId(albumId)
+                .sourceUrl(sourceUrl)
+                .localUrl(localUrl)
+                .status(status)
+                .attempts(attempts)
+                .error(error != null && error.length() > 255 ? error.substring(0, 255) : error)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        try {
+            mirrorRepository.save(mirror);
+        } catch (RuntimeException e) {
+            // e.g. the album was deleted while its cover was being mirrored
+            LOG.warn("Failed to record cover mirror status for album {}: {}", albumId, e.getMessage());
+        }
+        if (AlbumCoverMirror.STATUS_FAILED.equals(status)) {
+            LOG.warn("Mirroring cover of album {} failed (attempt {}): {}", albumId, attempts, error);
+        }
+    }
+
+    private void requireAdmin() {
+        User currentUser = authService.getCurrentUser();
+        if (!"Huan".equals(currentUser.getUsername())) {
+            throw new RuntimeException("Only user 'Huan' can manage cover mirroring");
+        }
+    }
+}
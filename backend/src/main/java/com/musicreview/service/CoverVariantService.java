@@ -0,0 +1,332 @@
+package com.musicreview.service;
+
+import com.musicreview.dto.album.AlbumResponse;
+import com.musicreview.entity.CoverVariant;
+import com.musicreview.repository.AlbumRepository;
+import com.musicreview.repository.CoverVariantRepository;
+import com.musicreview.util.TransactionHooks;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates 300px (lists) and 600px (detail page) variants of album covers in the background,
+ * replacing the hand-run scripts/generate_cover_webp.py. Work for uploaded covers is queued when a
+ * cover is uploaded or an album's cover URL changes and runs on a small bounded pool; remote covers
+ * are handed over by {@link CoverMirrorService} once it has stored a local copy. Variant
+ * files are named {sha256 of source}_{size}.{format}; WebP is used when an ImageIO WebP writer is
+ * on the classpath, JPEG otherwise. Ready variants are kept in memory so album responses can be
+ * decorated without a query.
+ */
+@Service
+public class CoverVariantService {
+
+    public static final int THUMB_SIZE = 300;
+    public static final int DETAIL_SIZE = 600;
+    public static final String LOCAL_COVER_PREFIX = "/api/files/album-covers/";
+    public static final String VARIANT_URL_PREFIX = "/api/files/cover-variants/";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CoverVariantService.class);
+    private static final int[] SIZES = {THUMB_SIZE, DETAIL_SIZE};
+
+    private final CoverVariantRepository coverVariantRepository;
+    private final AlbumRepository albumRepository;
+    private final FileStorageService fileStorageService;
+    private final float quality;
+    private final String format;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CoverVariant> readyBySource = new ConcurrentHashMap<>();
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public CoverVariantService(
+            CoverVariantRepository coverVariantRepository,
+            AlbumRepository albumRepository,
+            FileStorageService fileStorageService,
+            @Value("${app.covers.threads:2}") int threads,
+            @Value("${app.covers.queue-capacity:100}") int queueCapacity,
+            @Value("${app.covers.quality:0.85}") float quality
+    ) {
+        this.coverVariantRepository = coverVariantRepository;
+        this.albumRepository = albumRepository;
+        this.fileStorageService = fileStorageService;
+        this.quality = quality;
+        this.format = ImageIO.getImageWritersByFormatName("webp").hasNext() ? "webp" : "jpg";
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cover-variants-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Load ready variants and queue uploaded covers that have none yet
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingVariants() {
+        try {
+            reloadReadyVariants();
+            for (String coverUrl : albumRepository.findDistinctCoverUrlsStartingWith(LOCAL_COVER_PREFIX)) {
+                if (!readyBySource.containsKey(coverUrl)) {
+                    scheduleVariants(coverUrl);
+                }
+            }
+        } catch (Exception e) {
+            LOG.warn("Failed to backfill cover variants: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Pick up variants generated by other instances
+     */
+    @Scheduled(fixedDelayString = "${app.covers.refresh-interval-ms:300000}", initialDelayString = "${app.covers.refresh-interval-ms:300000}")
+    public void reloadReadyVariants() {
+        Map<String, CoverVariant> loaded = new ConcurrentHashMap<>();
+        for (CoverVariant variant : coverVariantRepository.findByStatus(CoverVariant.STATUS_READY)) {
+            loaded.put(variant.getSourceUrl(), variant);
+        }
+        readyBySource.keySet().retainAll(loaded.keySet());
+        readyBySource.putAll(loaded);
+    }
+
+    /**
+     * Queue variant generation for an uploaded cover. Inside a transaction the job is queued after
+     * commit; covers that already have variants (or are being processed) are ignored.
+     */
+    public void scheduleVariants(String coverUrl) {
+        String sourceUrl = coverUrl == null ? "" : coverUrl.trim();
+        // Remote covers are downloaded by CoverMirrorService, which generates their variants itself
+        if (!sourceUrl.startsWith(LOCAL_COVER_PREFIX) || readyBySource.containsKey(sourceUrl)) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> submit(sourceUrl));
+    }
+
+    /**
+     * URL of the given variant size, or null while it has not been generated
+     */
+    public String variantUrl(String coverUrl, int size) {
+        CoverVariant variant = coverUrl == null ? null : readyBySource.get(coverUrl.trim());
+        if (variant == null) {
+            return null;
+        }
+        return VARIANT_URL_PREFIX + variantFileName(variant.getContentHash(), size, variant.getFormat());
+    }
+
+    public AlbumResponse attachVariants(AlbumResponse album) {
+        if (album != null) {
+            album.setCoverThumbUrl(variantUrl(album.getCoverUrl(), THUMB_SIZE));
+            album.setCoverDetailUrl(variantUrl(album.getCoverUrl(), DETAIL_SIZE));
+        }
+        return album;
+    }
+
+    public List<AlbumResponse> attachVariants(List<AlbumResponse> albums) {
+        albums.forEach(this::attachVariants);
+        return albums;
+    }
+
+    public Page<AlbumResponse> attachVariants(Page<AlbumResponse> page) {
+        page.getContent().forEach(this::attachVariants);
+        return page;
+    }
+
+    private void submit(String sourceUrl) {
+        if (!inFlight.add(sourceUrl)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(sourceUrl, sourceUrl);
+                } finally {
+                    inFlight.remove(sourceUrl);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(sourceUrl);
+            LOG.warn("Cover variant queue is full, skipping {}", sourceUrl);
+        }
+    }
+
+    /**
+     * Generate variants for a cover URL from a locally stored copy, on the caller's thread
+     * (used for mirrored remote covers); returns true when the variants are ready
+     */
+    public boolean generateFromLocalCopy(String sourceUrl, String localCoverUrl) {
+        return generate(sourceUrl.trim(), localCoverUrl);
+    }
+
+    private boolean generate(String sourceUrl, String localCoverUrl) {
+        if (!localCoverUrl.startsWith(LOCAL_COVER_PREFIX)) {
+            record(sourceUrl, null, CoverVariant.STATUS_FAILED, "Not a stored cover: " + localCoverUrl);
+            return false;
+        }
+        String fileName = localCoverUrl.substring(LOCAL_COVER_PREFIX.length()).replaceAll("[^a-zA-Z0-9._-]", "");
+        try {
+            if (fileName.isEmpty() || fileName.startsWith(".") || !fileStorageService.exists("album-covers", fileName)) {
+                record(sourceUrl, null, CoverVariant.STATUS_FAILED, "Source file not found");
+                return false;
+            }
+            // Uploads are already named after their content hash
+            String hash;
+            if (fileName.matches("[0-9a-f]{64}\\.[a-z0-9]+")) {
+                hash = fileName.substring(0, 64);
+            } else {
+                try (InputStream input = fileStorageService.open("album-covers", fileName)) {
+                    hash = FileStorageService.sha256(input);
+                }
+            }
+            BufferedImage image = null;
+            for (int size : SIZES) {
+                String variantName = variantFileName(hash, size, format);
+                if (fileStorageService.exists("cover-variants", variantName)) {
+                    continue;
+                }
+                if (image == null) {
+                    try (InputStream input = fileStorageService.open("album-covers", fileName)) {
+                        image = ImageIO.read(input);
+                    }
+                    if (image == null) {
+                        record(sourceUrl, hash, CoverVariant.STATUS_FAILED, "Unsupported image format");
+                        return false;
+                    }
+                }
+                write(scaleToFit(image, size), variantName);
+            }
+            record(sourceUrl, hash, CoverVariant.STATUS_READY, null);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to generate cover variants for {}: {}", sourceUrl, e.getMessage());
+            record(sourceUrl, null, CoverVariant.STATUS_FAILED, e.getMessage());
+            return false;
+        }
+    }
+
+    private void record(String sourceUrl, String hash, String status, String error) {
+        CoverVariant variant = CoverVariant.builder()
+                .sourceUrl(sourceUrl)
+                .contentHash(hash)
+                .format(hash != null ? format : null)
+                .status(status)
+                .error(error != null && error.length() > 255 ? error.substring(0, 255) : error)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        try {
+            coverVariantRepository.save(variant);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to record cover variant status for {}: {}", sourceUrl, e.getMessage());
+        }
+        if (CoverVariant.STATUS_READY.equals(status)) {
+            readyBySource.put(sourceUrl, variant);
+        } else {
+            readyBySource.remove(sourceUrl);
+        }
+    }
+
+    /**
+     * Downscale so the longer edge fits the target size (never upscale), halving first so the
+     * bilinear pass does not skip source pixels. Alpha is flattened onto white for JPEG.
+     */
+    private BufferedImage scaleToFit(BufferedImage source, int size) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) size / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Encode to a staging file and hand it to the store, so readers never see a partial variant
+     */
+    private void write(BufferedImage image, String variantName) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format.equals("jpg") ? "jpeg" : format);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for " + format);
+        }
+        ImageWriter writer = writers.next();
+        Path temp = fileStorageService.createStagingFile();
+        try {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null && param.getCompressionTypes() != null) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            fileStorageService.store("cover-variants", variantName, temp);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String variantFileName(String hash, int size, String format) {
+        return hash + "_" + size + "." + format;
+    }
+}
@@ -19,6 +19,8 @@ public class FavoriteService {
     private final FavoriteRepository favoriteRepository;
     private final AlbumRepository albumRepository;
     private final AuthService authService;
+    private final AlbumStatsService albumStatsService;
+    private final UserStatsService userStatsService;
 
     /**
      * Get current user's favorites
@@ -59,6 +61,8 @@ public class FavoriteService {
                 .build();
 
         Favorite saved = favoriteRepository.save(favorite);
+        albumStatsService.recordFavoriteAdded(albumId);
+        userStatsService.recordFavoriteAdded(currentUser.getId());
         return FavoriteResponse.fromEntity(saved);
     }
 
@@ -74,12 +78,14 @@ public class FavoriteService {
         }
 
         favoriteRepository.deleteByUserIdAndAlbumId(currentUser.getId(), albumId);
+        albumStatsService.recordFavoriteRemoved(albumId);
+        userStatsService.recordFavoriteRemoved(currentUser.getId());
     }
 
     /**
      * Get favorite count for album
      */
     public long getFavoriteCount(Long albumId) {
-        return favoriteRepository.countByAlbumId(albumId);
+        return albumStatsService.getStats(albumId).getFavoriteCount();
     }
 }
@@ -0,0 +1,455 @@
+package com.musicreview.service;
+
+import com.musicreview.cache.LocalLruCache;
+import com.musicreview.storage.BlobStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Stores uploaded files in the configured {@link BlobStore} under "{directory}/{filename}" and
+ * describes them for HTTP caching. Files whose name starts with a SHA-256 of their content never
+ * change, so their ETag comes from the name and they are served as immutable; for other
+ * (UUID-named) files the content hash is computed once per size/mtime and kept in a small LRU.
+ * <p>
+ * Uploads are streamed through a SHA-256 digest into a local staging file and stored as
+ * {sha256}.{ext}, so an image that is already stored is detected without uploading it again.
+ * Dimensions are read from the image header; oversize images are decoded with source subsampling
+ * (memory bounded by the target size, not the upload) and scaled down before they are stored.
+ * When the store can presign requests, clients may upload straight to it and downloads of
+ * immutable files can be redirected to it, so file bytes do not pass through the backend.
+ */
+@Service
+public class FileStorageService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileStorageService.class);
+
+    private static final Pattern UNSAFE_CHARS = Pattern.compile("[^a-zA-Z0-9._-]");
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("^([0-9a-f]{64}(?:_\\d+)?)\\.[a-z0-9]+$");
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "jpeg", "jpg",
+            "png", "png",
+            "gif", "gif",
+            "bmp", "bmp",
+            "webp", "webp");
+
+    private static final String INCOMING_PREFIX = "incoming/";
+    private static final Pattern INCOMING_KEY = Pattern.compile("^incoming/[0-9a-f-]{36}$");
+
+    private final BlobStore blobStore;
+    private final Path stagingDir;
+    private final CacheControl revalidatedCacheControl;
+    private final LocalLruCache<String, String> hashCache;
+    private final long maxImagePixels;
+    private final Duration presignTtl;
+    private final boolean redirectDownloads;
+
+    /**
+     * A stored file ready to serve; redirectUrl is set when clients should fetch it from the store directly
+     */
+    public record StoredFile(String key, Resource resource, String etag, long lastModified, MediaType contentType,
+                             CacheControl cacheControl, URI redirectUrl) {
+    }
+
+    public record DirectUpload(String key, BlobStore.PresignedPost request) {
+    }
+
+    public record StoredUpload(String filename, String hash, int width, int height, boolean duplicate) {
+    }
+
+    private record ImageInfo(String format, int width, int height) {
+    }
+
+    public FileStorageService(
+            BlobStore blobStore,
+            @Value("${app.storage.staging-dir:${file.upload-dir:uploads}/.staging}") String stagingDir,
+            @Value("${app.files.cache-max-age-seconds:86400}") long cacheMaxAgeSeconds,
+            @Value("${app.files.hash-cache-size:10000}") int hashCacheSize,
+            @Value("${app.files.max-image-pixels:40000000}") long maxImagePixels,
+            @Value("${app.storage.presign-ttl-seconds:900}") long presignTtlSeconds,
+            @Value("${app.storage.redirect-downloads:false}") boolean redirectDownloads
+    ) {
+        this.blobStore = blobStore;
+        this.stagingDir = Paths.get(stagingDir);
+        this.revalidatedCacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAgeSeconds)).cachePublic();
+        this.hashCache = new LocalLruCache<>(hashCacheSize, null);
+        this.maxImagePixels = maxImagePixels;
+        this.presignTtl = Duration.ofSeconds(presignTtlSeconds);
+        this.redirectDownloads = redirectDownloads;
+    }
+
+    /**
+     * Store an uploaded image as {sha256}.{ext}, scaling it down when either edge exceeds maxEdge.
+     * Throws IllegalArgumentException when the upload is not a readable image or is too large.
+     */
+    public StoredUpload storeImage(String directory, InputStream upload, int maxEdge) throws IOException {
+        Path temp = createStagingFile();
+        try {
+            MessageDigest digest = newSha256();
+            try (InputStream input = new DigestInputStream(upload, digest)) {
+                Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            ImageInfo info = readImageInfo(temp);
+            if (info == null) {
+                throw new IllegalArgumentException("Only image files are allowed");
+            }
+            if ((long) info.width() * info.height() > maxImagePixels) {
+                throw new IllegalArgumentException("Image dimensions are too large");
+            }
+
+            String hash;
+            int width = info.width();
+            int height = info.height();
+            // GIFs are kept as uploaded so animations survive; WebP has no JDK encoder
+            if (Math.max(width, height) > maxEdge && !info.format().equals("gif")
+                    && ImageIO.getImageWritersByFormatName(info.format()).hasNext()) {
+                Path scaled = createStagingFile();
+                try {
+                    BufferedImage image = downscale(temp, maxEdge);
+                    width = image.getWidth();
+                    height = image.getHeight();
+                    hash = writeImage(image, info.format(), scaled);
+                    Files.move(scaled, temp, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(scaled);
+                }
+            } else {
+                hash = HexFormat.of().formatHex(digest.digest());
+            }
+
+            String filename = hash + "." + EXTENSIONS.get(info.format());
+            String key = directory + "/" + filename;
+            boolean duplicate = blobStore.stat(key) != null;
+            if (!duplicate) {
+                blobStore.put(key, temp, contentType(filename).toString());
+            }
+            return new StoredUpload(filename, hash, width, height, duplicate);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Issue a presigned form upload for one image of at most maxBytes; null when the store cannot presign
+     */
+    public DirectUpload createDirectUpload(String contentType, long maxBytes) {
+        String key = INCOMING_PREFIX + UUID.randomUUID();
+        BlobStore.PresignedPost request = blobStore.presignPost(key, contentType, maxBytes, presignTtl);
+        return request != null ? new DirectUpload(key, request) : null;
+    }
+
+    /**
+     * Process an image the client uploaded to a presigned URL exactly like a regular upload, then
+     * drop the incoming object. Throws IllegalArgumentException for unknown or oversize uploads.
+     */
+    public StoredUpload completeDirectUpload(String directory, String key, long maxBytes, int maxEdge) throws IOException {
+        if (key == null || !INCOMING_KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid upload key");
+        }
+        try {
+            BlobStore.BlobInfo info = blobStore.stat(key);
+            if (info == null) {
+                throw new IllegalArgumentException("Upload not found");
+            }
+            if (info.size() > maxBytes) {
+                throw new IllegalArgumentException("File size must be less than " + maxBytes / (1024 * 1024) + "MB");
+            }
+            try (InputStream input = blobStore.open(key)) {
+                return storeImage(directory, input, maxEdge);
+            }
+        } finally {
+            blobStore.delete(key);
+        }
+    }
+
+    /**
+     * Delete direct uploads that were never completed. An upload URL cannot be used after
+     * presign-ttl, so anything in incoming/ older than twice that has been abandoned.
+     */
+    @Scheduled(fixedDelayString = "${app.storage.incoming-sweep-interval-ms:3600000}",
+            initialDelayString = "${app.storage.incoming-sweep-interval-ms:3600000}")
+    public void sweepIncoming() {
+        long cutoff = System.currentTimeMillis() - presignTtl.multipliedBy(2).toMillis();
+        int removed = 0;
+        try {
+            for (BlobStore.BlobInfo info : blobStore.list(INCOMING_PREFIX)) {
+                if (info.lastModified() < cutoff && INCOMING_KEY.matcher(info.key()).matches()) {
+                    blobStore.delete(info.key());
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to sweep abandoned uploads: {}", e.getMessage());
+        }
+        if (removed > 0) {
+            LOG.info("Removed {} abandoned direct upload(s)", removed);
+        }
+    }
+
+    /**
+     * Look up a stored file by directory and name (directory traversal is stripped); null when missing
+     */
+    public StoredFile find(String directory, String filename) throws IOException {
+        String safeFilename = UNSAFE_CHARS.matcher(filename == null ? "" : filename).replaceAll("");
+        if (safeFilename.isEmpty() || safeFilename.startsWith(".")) {
+            return null;
+        }
+        String key = directory + "/" + safeFilename;
+        BlobStore.BlobInfo info = blobStore.stat(key);
+        if (info == null) {
+            return null;
+        }
+
+        var contentAddressed = CONTENT_ADDRESSED.matcher(safeFilename);
+        MediaType contentType = contentType(safeFilename);
+        if (contentAddressed.matches()) {
+            // The URL never changes for an immutable file within a signing window, so the redirect
+            // can be cached for as long as the URL is guaranteed to stay valid
+            BlobStore.PresignedRequest redirect = redirectDownloads ? blobStore.presignGet(key, presignTtl) : null;
+            if (redirect != null) {
+                return new StoredFile(key, null, contentAddressed.group(1), info.lastModified(), contentType,
+                        CacheControl.maxAge(presignTtl.dividedBy(2)).cachePublic(), redirect.url());
+            }
+            return new StoredFile(key, blobStore.resource(info), contentAddressed.group(1), info.lastModified(),
+                    contentType, IMMUTABLE, null);
+        }
+
+        String cacheKey = key + "|" + info.size() + "|" + info.lastModified();
+        String etag = hashCache.get(cacheKey);
+        if (etag == null) {
+            try (InputStream input = blobStore.open(key)) {
+                etag = sha256(input);
+            }
+            hashCache.put(cacheKey, etag);
+        }
+        return new StoredFile(key, blobStore.resource(info), etag, info.lastModified(), contentType,
+                revalidatedCacheControl, null);
+    }
+
+    public boolean exists(String directory, String filename) throws IOException {
+        return blobStore.stat(directory + "/" + filename) != null;
+    }
+
+    /**
+     * Stream a stored file; throws NoSuchFileException when it does not exist
+     */
+    public InputStream open(String directory, String filename) throws IOException {
+        return blobStore.open(directory + "/" + filename);
+    }
+
+    /**
+     * Store a finished local file (e.g. a generated variant) under the given name
+     */
+    public void store(String directory, String filename, Path source) throws IOException {
+        blobStore.put(directory + "/" + filename, source, contentType(filename).toString());
+    }
+
+    /**
+     * New empty file in the local staging directory; callers delete it when done
+     */
+    public Path createStagingFile() throws IOException {
+        Files.createDirectories(stagingDir);
+        return Files.createTempFile(stagingDir, "upload-", ".tmp");
+    }
+
+    /**
+     * Hex SHA-256 of a file, read in fixed-size chunks
+     */
+    public static String sha256(Path file) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return sha256(input);
+        }
+    }
+
+    /**
+     * Hex SHA-256 of a stream, read in fixed-size chunks (the stream is not closed)
+     */
+    public static String sha256(InputStream input) throws IOException {
+        MessageDigest digest = newSha256();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MediaType contentType(String filename) {
+        return MediaTypeFactory.getMediaType(filename).orElse(MediaType.IMAGE_JPEG);
+    }
+
+    /**
+     * Format and dimensions from the image header, without decoding pixels; null if unreadable
+     */
+    private ImageInfo readImageInfo(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers != null && readers.hasNext()) {
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(input, true, true);
+                    String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+                    if (format.equals("jpg")) {
+                        format = "jpeg";
+                    }
+                    if (EXTENSIONS.containsKey(format)) {
+                        return new ImageInfo(format, reader.getWidth(0), reader.getHeight(0));
+                    }
+                    return null;
+                } catch (IOException | RuntimeException e) {
+                    return null;
+                } finally {
+                    reader.dispose();
+                }
+            }
+        }
+        return readWebpInfo(file);
+    }
+
+    /**
+     * The JDK has no WebP reader, so WebP dimensions are taken from the RIFF header (VP8 / VP8L / VP8X)
+     */
+    private ImageInfo readWebpInfo(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(30).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file)) {
+            while (header.hasRemaining() && channel.read(header) > 0) {
+                // fill the header buffer
+            }
+        }
+        if (header.position() < 30 || header.getInt(0) != 0x46464952 || header.getInt(8) != 0x50424557) {
+            return null;
+        }
+        String chunk = new String(new byte[]{header.get(12), header.get(13), header.get(14), header.get(15)},
+                StandardCharsets.US_ASCII);
+        int width;
+        int height;
+        switch (chunk) {
+            case "VP8X" -> {
+                width = 1 + ((header.get(24) & 0xff) | (header.get(25) & 0xff) << 8 | (header.get(26) & 0xff) << 16);
+                height = 1 + ((header.get(27) & 0xff) | (header.get(28) & 0xff) << 8 | (header.get(29) & 0xff) << 16);
+            }
+            case "VP8L" -> {
+                int bits = header.getInt(21);
+                width = 1 + (bits & 0x3fff);
+                height = 1 + ((bits >>> 14) & 0x3fff);
+            }
+            case "VP8 " -> {
+                width = header.getShort(26) & 0x3fff;
+                height = header.getShort(28) & 0x3fff;
+            }
+            default -> {
+                return null;
+            }
+        }
+        return new ImageInfo("webp", width, height);
+    }
+
+    /**
+     * Decode every n-th source pixel so the decoded image is at most about twice the target size,
+     * then finish with one bilinear pass
+     */
+    private BufferedImage downscale(Path file, int maxEdge) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            ImageReader reader = ImageIO.getImageReaders(input).next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int subsampling = Math.max(1, Math.max(width, height) / (maxEdge * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                double scale = (double) maxEdge / Math.max(decoded.getWidth(), decoded.getHeight());
+                int targetWidth = Math.max(1, (int) Math.round(decoded.getWidth() * scale));
+                int targetHeight = Math.max(1, (int) Math.round(decoded.getHeight() * scale));
+                int type = decoded.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+                BufferedImage scaled = new BufferedImage(targetWidth, targetHeight, type);
+                Graphics2D graphics = scaled.createGraphics();
+                try {
+                    graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                    graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                    graphics.drawImage(decoded, 0, 0, targetWidth, targetHeight, null);
+                } finally {
+                    graphics.dispose();
+                }
+                return scaled;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Encode an image to the target file and return the SHA-256 of the written bytes
+     */
+    private String writeImage(BufferedImage image, String format, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        MessageDigest digest = newSha256();
+        try (OutputStream output = new DigestOutputStream(Files.newOutputStream(target), digest);
+             ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (format.equals("jpeg")) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(0.9f);
+            }
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
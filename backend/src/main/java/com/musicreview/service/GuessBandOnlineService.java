@@ -35,6 +35,7 @@ public class GuessBandOnlineService {
     private final QuestionBankRepository questionBankRepository;
     private final ArtistRepository artistRepository;
     private final AuthService authService;
+    private final UserStatsService userStatsService;
 
     @Transactional
     public GuessBandOnlineJoinResponse createRoom(GuessBandOnlineCreateRoomRequest request) {
@@ -172,13 +173,13 @@ public class GuessBandOnlineService {
         int currentRound = room.getCurrentRound() == null ? 0 : room.getCurrentRound();
         int totalRounds = room.getTotalRounds() == null ? DEFAULT_TOTAL_ROUNDS : room.getTotalRounds();
         if (currentRound >= totalRounds) {
-            finishRoom(room, players, determineWinnerDisplayName(players));
+            finishRoom(room, players, determineWinner(players));
             return buildRoomResponse(room, request.getPlayerToken());
         }
 
         List<Artist> candidates = loadRoomCandidates(room);
         if (candidates.isEmpty()) {
-            finishRoom(room, players, determineWinnerDisplayName(players));
+            finishRoom(room, players, determineWinner(players));
             return buildRoomResponse(room, request.getPlayerToken());
         }
 
@@ -445,7 +446,7 @@ public class GuessBandOnlineService {
         int totalRounds = room.getTotalRounds() == null ? DEFAULT_TOTAL_ROUNDS : room.getTotalRounds();
 
         if (currentRound >= totalRounds) {
-            finishRoom(room, players, determineWinnerDisplayName(players));
+            finishRoom(room, players, determineWinner(players));
             return;
         }
         room.setRoundStartedAt(null);
@@ -477,6 +478,14 @@ public class GuessBandOnlineService {
     }
 
     private String determineWinnerDisplayName(List<GuessBandOnlinePlayer> players) {
+        GuessBandOnlinePlayer winner = determineWinner(players);
+        return winner != null ? winner.getDisplayName() : null;
+    }
+
+    /**
+     * The only player holding the top score, or null on a tie
+     */
+    private GuessBandOnlinePlayer determineWinner(List<GuessBandOnlinePlayer> players) {
         if (players == null || players.isEmpty()) {
             return null;
         }
@@ -494,10 +503,10 @@ public class GuessBandOnlineService {
         if (topPlayers.size() != 1) {
             return null;
         }
-        return topPlayers.get(0).getDisplayName();
+        return topPlayers.get(0);
     }
 
-    private void finishRoom(GuessBandOnlineRoom room, List<GuessBandOnlinePlayer> players, String winnerDisplayName) {
+    private void finishRoom(GuessBandOnlineRoom room, List<GuessBandOnlinePlayer> players, GuessBandOnlinePlayer winner) {
         if (room.getStatus() == GuessBandRoomStatus.FINISHED) {
             return;
         }
@@ -506,10 +515,17 @@ public class GuessBandOnlineService {
                 ? playerRepository.findByRoomIdOrderBySeatIndexAsc(room.getId())
                 : players;
 
+        // Concurrent requests can all see the room in progress; only the one whose conditional
+        // update finishes it records the match and credits the win. The entity mirrors the row
+        // either way, so a later flush of this room never writes it back as in progress.
+        LocalDateTime finishedAt = LocalDateTime.now();
+        boolean finishedHere = roomRepository.markFinished(room.getId(), GuessBandRoomStatus.FINISHED, finishedAt) == 1;
         room.setStatus(GuessBandRoomStatus.FINISHED);
-        room.setFinishedAt(LocalDateTime.now());
+        room.setFinishedAt(finishedAt);
         room.setRoundStartedAt(null);
-        roomRepository.save(room);
+        if (!finishedHere) {
+            return;
+        }
 
         int totalGuesses = guessRepository.countByRoomId(room.getId());
 
@@ -530,12 +546,15 @@ public class GuessBandOnlineService {
                 .questionBank(room.getQuestionBank())
                 .hostDisplayName(hostDisplayName)
                 .guestDisplayName(guestDisplayName)
-                .winnerDisplayName(winnerDisplayName)
+                .winnerDisplayName(winner != null ? winner.getDisplayName() : null)
                 .totalGuesses(totalGuesses)
                 .startedAt(room.getStartedAt())
                 .finishedAt(room.getFinishedAt())
                 .build();
         matchRecordRepository.save(record);
+        if (winner != null && winner.getUser() != null) {
+            userStatsService.recordGuessBandWin(winner.getUser().getId());
+        }
     }
 
     private GuessBandOnlineRoomResponse buildRoomResponse(GuessBandOnlineRoom room, String playerToken) {
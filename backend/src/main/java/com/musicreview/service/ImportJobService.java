@@ -0,0 +1,307 @@
+package com.musicreview.service;
+
+import com.musicreview.client.UpstreamException;
+import com.musicreview.dto.imports.ImportJobRequest;
+import com.musicreview.dto.imports.ImportJobResponse;
+import com.musicreview.dto.imports.ImportedAlbumResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs MusicBrainz / NetEase imports as background jobs so request threads never wait on a slow
+ * upstream. Jobs run on a small bounded pool; retryable upstream failures are retried with
+ * exponential backoff (the worker is released while waiting). Clients poll a job by id and may
+ * cancel it. Finished jobs are kept in memory for a while and then dropped.
+ */
+@Service
+public class ImportJobService {
+
+    public static final String SOURCE_MUSICBRAINZ = "musicbrainz";
+    public static final String SOURCE_NETEASE = "netease";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImportJobService.class);
+
+    private final ImportService importService;
+    private final int maxPending;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final Duration retention;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public ImportJobService(
+            ImportService importService,
+            @Value("${app.import.jobs.threads:2}") int threads,
+            @Value("${app.import.jobs.max-pending:50}") int maxPending,
+            @Value("${app.import.jobs.max-attempts:3}") int maxAttempts,
+            @Value("${app.import.jobs.initial-backoff-ms:2000}") long initialBackoffMillis,
+            @Value("${app.import.jobs.retention-minutes:60}") long retentionMinutes
+    ) {
+        this.importService = importService;
+        this.maxPending = maxPending;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "import-job-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue an import job
+     */
+    public ImportJobResponse submit(ImportJobRequest request) {
+        String source = request.getSource() == null ? "" : request.getSource().trim().toLowerCase(Locale.ROOT);
+        String reference;
+        Supplier<ImportedAlbumResponse> task;
+        if (SOURCE_MUSICBRAINZ.equals(source)) {
+            reference = request.getMbid() == null ? "" : request.getMbid().trim();
+            if (reference.isEmpty()) {
+                throw new RuntimeException("MusicBrainz release id is required");
+            }
+            String mbid = reference;
+            task = () -> importService.getMusicBrainzRelease(mbid);
+        } else if (SOURCE_NETEASE.equals(source)) {
+            reference = request.getUrl() == null ? "" : request.getUrl().trim();
+            if (importService.extractNeteaseAlbumId(reference) == null) {
+                throw new RuntimeException("Invalid NetEase Music URL");
+            }
+            String url = reference;
+            task = () -> importService.importFromNetease(url);
+        } else {
+            throw new RuntimeException("Unknown import source: " + request.getSource());
+        }
+
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            throw new IllegalStateException("Too many import jobs in progress, please try again later");
+        }
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), source, reference, task);
+        jobs.put(job.id, job);
+        job.schedule(executor.submit(() -> runAttempt(job)));
+        return job.toResponse();
+    }
+
+    /**
+     * Get the current state of a job
+     */
+    public ImportJobResponse getJob(String id) {
+        return findJob(id).toResponse();
+    }
+
+    /**
+     * Cancel a queued or running job (finished jobs are left as they are)
+     */
+    public ImportJobResponse cancel(String id) {
+        ImportJob job = findJob(id);
+        if (job.cancel()) {
+            pending.decrementAndGet();
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * Drop finished jobs older than the retention period
+     */
+    @Scheduled(fixedDelayString = "${app.import.jobs.purge-interval-ms:600000}")
+    public void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinishedBefore(cutoff));
+    }
+
+    /**
+     * Jobs counted against max-pending (queued, running or waiting to retry)
+     */
+    int pendingCount() {
+        return pending.get();
+    }
+
+    private ImportJob findJob(String id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new RuntimeException("Import job not found: " + id);
+        }
+        return job;
+    }
+
+    private void runAttempt(ImportJob job) {
+        if (!job.start()) {
+            return;
+        }
+        try {
+            ImportedAlbumResponse result = job.task.get();
+            if (job.succeed(result)) {
+                pending.decrementAndGet();
+            }
+        } catch (UpstreamException e) {
+            if (e.isRetryable() && job.attempts() < maxAttempts) {
+                long delay = backoffMillis(job.attempts());
+                if (job.retrying(e.getMessage(), delay)) {
+                    LOG.info("Import job {} attempt {} failed ({}), retrying in {} ms", job.id, job.attempts(), e.getMessage(), delay);
+                    job.schedule(executor.schedule(() -> runAttempt(job), delay, TimeUnit.MILLISECONDS));
+                }
+                return;
+            }
+            fail(job, e);
+        } catch (RuntimeException e) {
+            fail(job, e);
+        }
+    }
+
+    private void fail(ImportJob job, RuntimeException e) {
+        if (job.fail(e.getMessage())) {
+            pending.decrementAndGet();
+            LOG.warn("Import job {} ({} {}) failed after {} attempt(s): {}",
+                    job.id, job.source, job.reference, job.attempts(), e.getMessage());
+        }
+    }
+
+    /**
+     * Exponential backoff with +-20% jitter
+     */
+    private long backoffMillis(int attempt) {
+        long base = initialBackoffMillis * (1L << Math.min(attempt - 1, 10));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (base * jitter);
+    }
+
+    private class ImportJob {
+
+        private final String id;
+        private final String source;
+        private final String reference;
+        private final Supplier<ImportedAlbumResponse> task;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+
+        private String status = "QUEUED";
+        private int attempts;
+        private String message = "Waiting for a worker";
+        private String error;
+        private ImportedAlbumResponse result;
+        private LocalDateTime updatedAt = createdAt;
+        private Future<?> future;
+
+        ImportJob(String id, String source, String reference, Supplier<ImportedAlbumResponse> task) {
+            this.id = id;
+            this.source = source;
+            this.reference = reference;
+            this.task = task;
+        }
+
+        synchronized void schedule(Future<?> next) {
+            future = next;
+            if (isFinished()) {
+                next.cancel(true);
+            }
+        }
+
+        synchronized boolean start() {
+            if (isFinished()) {
+                return false;
+            }
+            attempts++;
+            update("RUNNING", "Fetching from " + source + " (attempt " + attempts + "/" + maxAttempts + ")");
+            return true;
+        }
+
+        synchronized boolean retrying(String reason, long delayMillis) {
+            if (isFinished()) {
+                return false;
+            }
+            error = reason;
+            update("RETRYING", "Retrying in " + Math.max(1, delayMillis / 1000) + "s");
+            return true;
+        }
+
+        synchronized boolean succeed(ImportedAlbumResponse value) {
+            if (isFinished()) {
+                return false;
+            }
+            result = value;
+            error = null;
+            update("SUCCEEDED", "Done");
+            return true;
+        }
+
+        synchronized boolean fail(String reason) {
+            if (isFinished()) {
+                return false;
+            }
+            error = reason;
+            update("FAILED", "Import failed");
+            return true;
+        }
+
+        synchronized boolean cancel() {
+            if (isFinished()) {
+                return false;
+            }
+            update("CANCELLED", "Cancelled");
+            if (future != null) {
+                future.cancel(true);
+            }
+            return true;
+        }
+
+        synchronized int attempts() {
+            return attempts;
+        }
+
+        synchronized boolean isFinishedBefore(LocalDateTime cutoff) {
+            return isFinished() && updatedAt.isBefore(cutoff);
+        }
+
+        synchronized ImportJobResponse toResponse() {
+            return ImportJobResponse.builder()
+                    .id(id)
+                    .source(source)
+                    .reference(reference)
+                    .status(status)
+                    .attempts(attempts)
+                    .maxAttempts(maxAttempts)
+                    .message(message)
+                    .error(error)
+                    .result(result)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+
+        private boolean isFinished() {
+            return "SUCCEEDED".equals(status) || "FAILED".equals(status) || "CANCELLED".equals(status);
+        }
+
+        private void update(String newStatus, String newMessage) {
+            status = newStatus;
+            message = newMessage;
+            updatedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.musicreview.service;
+
+import com.musicreview.client.MusicBrainzClient;
+import com.musicreview.client.ReleaseJsonParser;
+import com.musicreview.client.UpstreamException;
+import com.musicreview.dto.imports.ImportedAlbumResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Looks up album metadata and track lists on MusicBrainz and NetEase Cloud Music and converts
+ * them into the shape the album form expects. Used by the synchronous import endpoints and by
+ * background import jobs. Responses are read with the streaming {@link ReleaseJsonParser}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    private static final String NETEASE_API = "https://music.163.com/api/album/";
+    private static final String NETEASE_USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+
+    private static final HttpClient NETEASE_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private final MusicBrainzClient musicBrainzClient;
+
+    /**
+     * Search releases on MusicBrainz by album and/or artist name
+     */
+    public Map<String, Object> searchMusicBrainz(String album, String artist, int limit) {
+        // Build search query with exact matching using quotes
+        StringBuilder query = new StringBuilder();
+        if (album != null && !album.trim().isEmpty()) {
+            query.append("release:\"").append(escapeQuery(album.trim())).append("\"");
+        }
+        if (artist != null && !artist.trim().isEmpty()) {
+            if (query.length() > 0) query.append(" AND ");
+            query.append("artist:\"").append(escapeQuery(artist.trim())).append("\"");
+        }
+
+        String body = musicBrainzClient.searchReleases(query.toString(), limit);
+        ReleaseJsonParser.SearchPage page = parse(() -> ReleaseJsonParser.parseMusicBrainzSearch(body));
+        if (page.results().isEmpty()) {
+            return Map.of("results", Collections.emptyList());
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("results", page.results());
+        response.put("count", page.count());
+        return response;
+    }
+
+    /**
+     * Get album details and track list from MusicBrainz
+     */
+    public ImportedAlbumResponse getMusicBrainzRelease(String mbid) {
+        String body = musicBrainzClient.getRelease(mbid);
+        // Cover art URL not set here to avoid VPN-restricted services in China.
+        return parse(() -> ReleaseJsonParser.parseMusicBrainzRelease(body));
+    }
+
+    /**
+     * Import album info from NetEase Cloud Music (may be restricted)
+     */
+    public ImportedAlbumResponse importFromNetease(String url) {
+        String albumId = extractNeteaseAlbumId(url);
+        if (albumId == null) {
+            throw new UpstreamException("Invalid NetEase Music URL", false);
+        }
+
+        String body = fetchNetease(albumId);
+        ReleaseJsonParser.NeteaseAlbum response = parse(() -> ReleaseJsonParser.parseNeteaseAlbum(body));
+        Integer code = response.code();
+        if (code != null && code != 200) {
+            if (code == -462) {
+                throw new UpstreamException("NetEase Music API requires login. Please use MusicBrainz search instead.", false);
+            }
+            throw new UpstreamException("NetEase error code: " + code, false);
+        }
+        if (response.album() == null) {
+            throw new UpstreamException("Album data not found", false);
+        }
+        return response.album();
+    }
+
+    /**
+     * Extract the NetEase album id from a share URL or a bare id
+     */
+    public String extractNeteaseAlbumId(String url) {
+        if (url == null || url.trim().isEmpty()) return null;
+        url = url.trim();
+        if (url.matches("\\d+")) return url;
+
+        Pattern[] patterns = {
+            Pattern.compile("album[?/]id[=/](\\d+)"),
+            Pattern.compile("album/(\\d+)"),
+            Pattern.compile("id=(\\d+)")
+        };
+
+        for (Pattern pattern : patterns) {
+            Matcher matcher = pattern.matcher(url);
+            if (matcher.find()) return matcher.group(1);
+        }
+        return null;
+    }
+
+    private String fetchNetease(String albumId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(NETEASE_API + albumId))
+                .timeout(Duration.ofSeconds(15))
+                .header("User-Agent", NETEASE_USER_AGENT)
+                .header("Referer", "https://music.163.com/")
+                .GET()
+                .build();
+        try {
+            HttpResponse<String> response = NETEASE_CLIENT.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            if (response.statusCode() != 200) {
+                throw new UpstreamException("NetEase Music returned HTTP " + response.statusCode(),
+                        UpstreamException.isRetryableStatus(response.statusCode()));
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new UpstreamException("Failed to connect to NetEase Music API: " + e.getMessage(), true, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamException("NetEase Music request interrupted", false, e);
+        }
+    }
+
+    private <T> T parse(ResponseParser<T> parser) {
+        try {
+            return parser.parse();
+        } catch (IOException e) {
+            throw new UpstreamException("Unexpected response from upstream: " + e.getMessage(), false, e);
+        }
+    }
+
+    private String escapeQuery(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private interface ResponseParser<T> {
+        T parse() throws IOException;
+    }
+}
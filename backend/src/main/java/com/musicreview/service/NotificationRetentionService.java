@@ -0,0 +1,140 @@
+package com.musicreview.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Prunes read notifications older than retain-days. The table is walked in primary key windows of
+ * batch-size ids, each pruned in its own short transaction, so locks never cover more than one
+ * window. Ids grow with created_at, so the walk stops at the first window that starts after the
+ * cutoff. With archive enabled, rows are copied to notifications_archive before being deleted.
+ * Only read rows are removed, so unread counters are unaffected.
+ */
+@Service
+public class NotificationRetentionService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationRetentionService.class);
+    private static final String PRUNABLE = "id > ? AND id <= ? AND is_read = TRUE AND created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int retainDays;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxBatchesPerRun;
+    private final boolean archive;
+    private final AtomicBoolean running = new AtomicBoolean();
+    // Where a pass that hit max-batches-per-run stopped; old unread rows are never pruned, so
+    // restarting from the lowest id every time could keep a pass from ever reaching newer rows
+    private volatile long resumeAfterId = 0;
+
+    public NotificationRetentionService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.notifications.retention.enabled:true}") boolean enabled,
+            @Value("${app.notifications.retention.retain-days:90}") int retainDays,
+            @Value("${app.notifications.retention.batch-size:1000}") int batchSize,
+            @Value("${app.notifications.retention.pause-ms:50}") long pauseMillis,
+            @Value("${app.notifications.retention.max-batches-per-run:500}") int maxBatchesPerRun,
+            @Value("${app.notifications.retention.archive:false}") boolean archive
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.retainDays = Math.max(1, retainDays);
+        this.batchSize = Math.max(1, batchSize);
+        this.pauseMillis = Math.max(0, pauseMillis);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.archive = archive;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.retention.interval-ms:3600000}",
+            initialDelayString = "${app.notifications.retention.initial-delay-ms:300000}")
+    public void scheduledPrune() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            prune();
+        } catch (Exception e) {
+            LOG.warn("Notification retention run failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Run one retention pass; returns the number of notifications removed (0 if a pass is already running)
+     */
+    public long prune() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            return pruneBefore(LocalDateTime.now().minusDays(retainDays));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    long pruneBefore(LocalDateTime cutoff) {
+        Timestamp cutoffTimestamp = Timestamp.valueOf(cutoff);
+        long started = System.currentTimeMillis();
+        long removed = 0;
+        int batches = 0;
+        long cursor = resumeAfterId;
+        boolean finished = false;
+        while (batches < maxBatchesPerRun && !Thread.currentThread().isInterrupted()) {
+            // Jump straight to the next existing row so gaps left by earlier runs cost nothing
+            List<Map<String, Object>> next = jdbcTemplate.queryForList(
+                    "SELECT id, created_at FROM notifications WHERE id > ? ORDER BY id LIMIT 1", cursor);
+            Timestamp createdAt = next.isEmpty() ? null : (Timestamp) next.get(0).get("created_at");
+            if (createdAt == null || !createdAt.before(cutoffTimestamp)) {
+                finished = true;
+                break;
+            }
+            long from = ((Number) next.get(0).get("id")).longValue() - 1;
+            long to = from + batchSize;
+            Integer count = transactionTemplate.execute(status -> pruneWindow(from, to, cutoffTimestamp));
+            removed += count == null ? 0 : count;
+            batches++;
+            cursor = to;
+            if (pauseMillis > 0) {
+                try {
+                    Thread.sleep(pauseMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        resumeAfterId = finished ? 0 : cursor;
+        if (removed > 0) {
+            LOG.info("Notification retention removed {} read notification(s) older than {} in {} batch(es), {} ms",
+                    removed, cutoff, batches, System.currentTimeMillis() - started);
+        }
+        return removed;
+    }
+
+    private int pruneWindow(long fromExclusive, long toInclusive, Timestamp cutoff) {
+        if (archive) {
+            jdbcTemplate.update("""
+                    INSERT INTO notifications_archive (id, user_id, sender_user_id, type, title, content,
+                        related_blog_post_id, related_blog_reply_id, created_at, archived_at)
+                    SELECT id, user_id, sender_user_id, type, title, content,
+                        related_blog_post_id, related_blog_reply_id, created_at, CURRENT_TIMESTAMP
+                    FROM notifications
+                    WHERE\s""" + PRUNABLE, fromExclusive, toInclusive, cutoff);
+        }
+        return jdbcTemplate.update("DELETE FROM notifications WHERE " + PRUNABLE, fromExclusive, toInclusive, cutoff);
+    }
+}
@@ -1,22 +1,23 @@
 package com.musicreview.service;
 
 import com.musicreview.dto.notification.NotificationResponse;
+import com.musicreview.entity.Announcement;
 import com.musicreview.entity.BlogPost;
 import com.musicreview.entity.BlogReply;
 import com.musicreview.entity.Notification;
 import com.musicreview.entity.User;
 import com.musicreview.entity.enums.NotificationType;
+import com.musicreview.repository.AnnouncementRepository;
 import com.musicreview.repository.NotificationRepository;
 import com.musicreview.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Service
@@ -25,6 +26,10 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final AnnouncementRepository announcementRepository;
+    private final AnnouncementFanoutService announcementFanoutService;
+    private final UnreadCounterService unreadCounterService;
+    private final NotificationStreamService notificationStreamService;
     private final AuthService authService;
 
     public Page<NotificationResponse> getMyNotifications(Pageable pageable) {
@@ -32,10 +37,17 @@ public class NotificationService {
         return notificationRepository.findNotificationResponsesByUserId(currentUser.getId(), pageable);
     }
 
+    /**
+     * Server-Sent Events stream of new notifications for the current user
+     */
+    public SseEmitter openStream() {
+        User currentUser = authService.getCurrentUser();
+        return notificationStreamService.subscribe(currentUser.getId());
+    }
+
     public Map<String, Long> getMyUnreadCount() {
         User currentUser = authService.getCurrentUser();
-        long count = notificationRepository.countByUserIdAndIsReadFalse(currentUser.getId());
-        return Map.of("unreadCount", count);
+        return Map.of("unreadCount", unreadCounterService.getUnreadCount(currentUser.getId()));
     }
 
     @Transactional
@@ -43,16 +55,49 @@ public class NotificationService {
         User currentUser = authService.getCurrentUser();
         Notification notification = notificationRepository.findByIdAndUserId(id, currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("Notification not found"));
+        if (Boolean.TRUE.equals(notification.getIsRead())) {
+            return;
+        }
         notification.setIsRead(true);
         notificationRepository.save(notification);
+        unreadCounterService.applyDelta(currentUser.getId(), -1);
+    }
+
+    /**
+     * Mark every unread notification read with one UPDATE; returns the number of rows changed
+     */
+    @Transactional
+    public int markAllRead() {
+        User currentUser = authService.getCurrentUser();
+        int updated = notificationRepository.markAllReadByUserId(currentUser.getId());
+        unreadCounterService.invalidate(currentUser.getId());
+        return updated;
+    }
+
+    /**
+     * Mark unread notifications with id &lt;= maxId read (everything the client has seen)
+     */
+    @Transactional
+    public int markReadUpTo(Long maxId) {
+        User currentUser = authService.getCurrentUser();
+        int updated = notificationRepository.markReadUpToId(currentUser.getId(), maxId);
+        if (updated > 0) {
+            unreadCounterService.applyDelta(currentUser.getId(), -updated);
+        }
+        return updated;
     }
 
+    /**
+     * Delete read notifications older than the given number of days with one DELETE
+     */
     @Transactional
-    public void markAllRead() {
+    public int deleteRead(int olderThanDays) {
+        if (olderThanDays < 0) {
+            throw new RuntimeException("olderThanDays must not be negative");
+        }
         User currentUser = authService.getCurrentUser();
-        List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(currentUser.getId());
-        notifications.forEach(notification -> notification.setIsRead(true));
-        notificationRepository.saveAll(notifications);
+        return notificationRepository.deleteReadCreatedBefore(currentUser.getId(),
+                LocalDateTime.now().minusDays(olderThanDays));
     }
 
     @Transactional
@@ -78,38 +123,32 @@ public class NotificationService {
                 .isRead(false)
                 .build();
         notificationRepository.save(notification);
+        unreadCounterService.applyDelta(postOwner.getId(), 1);
+        notificationStreamService.publishToUser(postOwner.getId(), NotificationStreamService.EVENT_NOTIFICATION, Map.of(
+                "id", notification.getId(),
+                "type", NotificationType.BLOG_REPLY.name(),
+                "title", notification.getTitle()));
     }
 
+    /**
+     * Store the announcement once and return; the per-user rows are written in the background by
+     * {@link AnnouncementFanoutService} in short chunked transactions
+     */
     @Transactional
-    public void createAnnouncement(String title, String content) {
+    public Long createAnnouncement(String title, String content) {
         User sender = authService.getCurrentUser();
         if (!"Huan".equals(sender.getUsername())) {
             throw new RuntimeException("Only Huan can publish announcements");
         }
 
-        int page = 0;
-        int batchSize = 500;
-        while (true) {
-            Page<User> userPage = userRepository.findAllByOrderByIdAsc(PageRequest.of(page, batchSize));
-            if (userPage.isEmpty()) {
-                break;
-            }
-            List<Notification> notifications = new ArrayList<>(userPage.getNumberOfElements());
-            for (User user : userPage.getContent()) {
-                notifications.add(Notification.builder()
-                        .user(user)
-                        .senderUser(sender)
-                        .type(NotificationType.ANNOUNCEMENT)
-                        .title(title.trim())
-                        .content(content.trim())
-                        .isRead(false)
-                        .build());
-            }
-            notificationRepository.saveAll(notifications);
-            if (!userPage.hasNext()) {
-                break;
-            }
-            page++;
-        }
+        Announcement announcement = announcementRepository.save(Announcement.builder()
+                .senderUserId(sender.getId())
+                .title(title.trim())
+                .content(content.trim())
+                .status(Announcement.STATUS_PENDING)
+                .maxUserId(userRepository.findMaxId())
+                .build());
+        announcementFanoutService.scheduleDelivery(announcement.getId());
+        return announcement.getId();
     }
 }
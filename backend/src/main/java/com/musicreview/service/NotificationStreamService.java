@@ -0,0 +1,318 @@
+package com.musicreview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicreview.util.TransactionHooks;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes notification events to connected clients over Server-Sent Events. Each node keeps a
+ * registry of its own open streams by user id. Events are published to a Redis channel so that
+ * every node delivers to the streams it holds; without Redis they are delivered locally only.
+ * Writes to streams run on a small bounded pool so a slow client never blocks the publisher;
+ * events that do not fit the queue, and sends that fail, are counted as dropped (clients re-sync
+ * via the unread count endpoint on reconnect).
+ */
+@Service
+public class NotificationStreamService {
+
+    public static final String EVENT_NOTIFICATION = "notification";
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationStreamService.class);
+    private static final long REDIS_RETRY_AFTER_FAILURE_MILLIS = 30_000;
+
+    /**
+     * An event for one user (userId) or for every user with fromUserId &lt; id &lt;= toUserId
+     */
+    public record StreamEvent(String name, Long userId, Long fromUserId, Long toUserId,
+                              Map<String, Object> data, long publishedAt) {
+
+        boolean targets(Long id) {
+            if (userId != null) {
+                return userId.equals(id);
+            }
+            return id > fromUserId && id <= toUserId;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final boolean redisEnabled;
+    private final String channel;
+    private final long timeoutMillis;
+    private final int maxConnectionsPerUser;
+    private final ThreadPoolExecutor executor;
+    private final Map<Long, Set<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final LongAdder droppedQueueFull = new LongAdder();
+    private final LongAdder droppedSendFailed = new LongAdder();
+    private volatile Timer fanoutTimer;
+    private volatile RedisMessageListenerContainer listenerContainer;
+    private volatile long redisSuspendedUntil = 0;
+
+    public NotificationStreamService(
+            ObjectMapper objectMapper,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            ObjectProvider<RedisConnectionFactory> redisConnectionFactoryProvider,
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${app.notifications.stream.redis.enabled:true}") boolean redisEnabled,
+            @Value("${app.notifications.stream.redis.channel:notifications:events}") String channel,
+            @Value("${app.notifications.stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${app.notifications.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${app.notifications.stream.threads:2}") int threads,
+            @Value("${app.notifications.stream.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplateProvider.getIfAvailable();
+        this.redisConnectionFactory = redisConnectionFactoryProvider.getIfAvailable();
+        this.redisEnabled = redisEnabled;
+        this.channel = channel;
+        this.timeoutMillis = timeoutMillis;
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-stream-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        meterRegistryProvider.ifAvailable(this::registerMetrics);
+    }
+
+    /**
+     * Subscribe to the Redis channel once the application is up (not on the startup path)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startListening() {
+        if (!redisEnabled || redisConnectionFactory == null || redisTemplate == null) {
+            return;
+        }
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        try {
+            container.setConnectionFactory(redisConnectionFactory);
+            container.addMessageListener((message, pattern) -> onRedisMessage(message.getBody()), new ChannelTopic(channel));
+            container.afterPropertiesSet();
+            container.start();
+            listenerContainer = container;
+        } catch (Exception e) {
+            LOG.warn("Failed to subscribe to notification channel, delivering locally only: {}", e.getMessage());
+            try {
+                container.destroy();
+            } catch (Exception ignored) {
+                // nothing was started
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        RedisMessageListenerContainer container = listenerContainer;
+        if (container != null) {
+            try {
+                container.destroy();
+            } catch (Exception e) {
+                LOG.debug("Failed to stop notification listener: {}", e.getMessage());
+            }
+        }
+        executor.shutdownNow();
+        emittersByUser.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    }
+
+    /**
+     * Open a stream for a user; the oldest stream is closed when the user has too many
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Set<SseEmitter> emitters = emittersByUser.compute(userId, (id, existing) -> {
+            Set<SseEmitter> set = existing != null ? existing : new CopyOnWriteArraySet<>();
+            set.add(emitter);
+            return set;
+        });
+        connections.incrementAndGet();
+        Runnable remove = () -> remove(userId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+
+        if (emitters.size() > maxConnectionsPerUser) {
+            emitters.stream().filter(other -> other != emitter).findFirst().ifPresent(oldest -> {
+                remove(userId, oldest);
+                oldest.complete();
+            });
+        }
+        try {
+            emitter.send(SseEmitter.event().name("ready").data(Map.of("connected", true)));
+        } catch (IOException e) {
+            remove.run();
+        }
+        return emitter;
+    }
+
+    /**
+     * Push an event to one user's streams (after commit when called inside a transaction)
+     */
+    public void publishToUser(Long userId, String name, Map<String, Object> data) {
+        publish(new StreamEvent(name, userId, null, null, data, System.currentTimeMillis()));
+    }
+
+    /**
+     * Push an event to the streams of every user with fromUserIdExclusive &lt; id &lt;= toUserIdInclusive
+     */
+    public void publishToRange(long fromUserIdExclusive, long toUserIdInclusive, String name, Map<String, Object> data) {
+        publish(new StreamEvent(name, null, fromUserIdExclusive, toUserIdInclusive, data, System.currentTimeMillis()));
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * Comment lines keep idle connections open through proxies and reveal dead clients. The sends
+     * run on the stream pool like events, so a slow client never holds up the scheduler thread;
+     * a round that does not fit the queue is skipped.
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.stream.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        if (emittersByUser.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Set<SseEmitter>>> targets = new ArrayList<>(emittersByUser.entrySet());
+        try {
+            executor.execute(() -> {
+                for (Map.Entry<Long, Set<SseEmitter>> target : targets) {
+                    for (SseEmitter emitter : target.getValue()) {
+                        try {
+                            emitter.send(SseEmitter.event().comment("ping"));
+                        } catch (IOException | IllegalStateException e) {
+                            remove(target.getKey(), emitter);
+                        }
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Notification stream queue is full, skipped a heartbeat round");
+        }
+    }
+
+    private void publish(StreamEvent event) {
+        TransactionHooks.afterCommit(() -> broadcast(event));
+    }
+
+    private void broadcast(StreamEvent event) {
+        if (isRedisUsable()) {
+            try {
+                redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(event));
+                return;
+            } catch (Exception e) {
+                redisSuspendedUntil = System.currentTimeMillis() + REDIS_RETRY_AFTER_FAILURE_MILLIS;
+                LOG.warn("Redis unavailable for notification events, delivering locally only: {}", e.getMessage());
+            }
+        }
+        deliverLocally(event);
+    }
+
+    private void onRedisMessage(byte[] body) {
+        try {
+            deliverLocally(objectMapper.readValue(new String(body, StandardCharsets.UTF_8), StreamEvent.class));
+        } catch (IOException e) {
+            LOG.warn("Ignoring malformed notification event: {}", e.getMessage());
+        }
+    }
+
+    void deliverLocally(StreamEvent event) {
+        List<Map.Entry<Long, Set<SseEmitter>>> targets = new ArrayList<>();
+        for (Map.Entry<Long, Set<SseEmitter>> entry : emittersByUser.entrySet()) {
+            if (event.targets(entry.getKey())) {
+                targets.add(entry);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                for (Map.Entry<Long, Set<SseEmitter>> target : targets) {
+                    for (SseEmitter emitter : target.getValue()) {
+                        try {
+                            emitter.send(SseEmitter.event().name(event.name()).data(event.data()));
+                        } catch (IOException | IllegalStateException e) {
+                            droppedSendFailed.increment();
+                            remove(target.getKey(), emitter);
+                        }
+                    }
+                }
+                Timer timer = fanoutTimer;
+                if (timer != null) {
+                    timer.record(Math.max(0, System.currentTimeMillis() - event.publishedAt()), TimeUnit.MILLISECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            targets.forEach(target -> droppedQueueFull.add(target.getValue().size()));
+            LOG.warn("Notification stream queue is full, dropped '{}' event for {} user(s)", event.name(), targets.size());
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        // Add and remove both run inside compute for the user's key, so an empty set is never
+        // dropped while another request is adding a stream to it
+        emittersByUser.computeIfPresent(userId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private boolean isRedisUsable() {
+        return redisEnabled && redisTemplate != null && listenerContainer != null
+                && System.currentTimeMillis() >= redisSuspendedUntil;
+    }
+
+    private void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("notifications.stream.connections", connections, AtomicInteger::get)
+                .register(registry);
+        FunctionCounter.builder("notifications.stream.dropped", droppedQueueFull, LongAdder::sum)
+                .tag("reason", "queue_full")
+                .register(registry);
+        FunctionCounter.builder("notifications.stream.dropped", droppedSendFailed, LongAdder::sum)
+                .tag("reason", "send_failed")
+                .register(registry);
+        fanoutTimer = Timer.builder("notifications.stream.fanout.latency")
+                .description("Time from publishing an event to writing it to this node's streams")
+                .register(registry);
+    }
+}
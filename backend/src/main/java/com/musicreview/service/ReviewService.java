@@ -1,18 +1,30 @@
 package com.musicreview.service;
 
+import com.musicreview.dto.common.CursorPage;
+import com.musicreview.dto.common.FeedCursor;
 import com.musicreview.dto.review.ReviewRequest;
+import com.musicreview.dto.reply.ReplyResponse;
 import com.musicreview.dto.review.ReviewResponse;
+import com.musicreview.dto.review.ReviewThreadResponse;
 import com.musicreview.entity.Album;
 import com.musicreview.entity.Review;
 import com.musicreview.entity.User;
 import com.musicreview.repository.AlbumRepository;
+import com.musicreview.repository.ReviewReplyRepository;
 import com.musicreview.repository.ReviewRepository;
+import com.musicreview.repository.projection.ReplyPreviewProjection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
@@ -20,6 +32,9 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final AlbumRepository albumRepository;
     private final AuthService authService;
+    private final AlbumStatsService albumStatsService;
+    private final ReviewReplyRepository replyRepository;
+    private final UserStatsService userStatsService;
 
     /**
      * Get reviews for an album
@@ -28,6 +43,39 @@ public class ReviewService {
         return reviewRepository.findReviewResponsesByAlbumId(albumId, pageable);
     }
 
+    /**
+     * Get reviews for an album with their reply counts and first replies; one query for the page
+     * (plus its count) and one for the replies of every review on it
+     */
+    public Page<ReviewThreadResponse> getReviewThreadsByAlbum(Long albumId, Pageable pageable, int repliesPerReview) {
+        Page<ReviewResponse> reviews = reviewRepository.findReviewResponsesByAlbumId(albumId, pageable);
+        Map<Long, Long> replyCounts = new HashMap<>();
+        Map<Long, List<ReplyResponse>> replies = new HashMap<>();
+        if (reviews.hasContent()) {
+            List<Long> reviewIds = reviews.getContent().stream().map(ReviewResponse::getId).toList();
+            for (ReplyPreviewProjection row : replyRepository.findPreviewsByReviewIds(reviewIds, repliesPerReview)) {
+                replyCounts.put(row.getReviewId(), row.getReplyCount());
+                if (repliesPerReview > 0) {
+                    replies.computeIfAbsent(row.getReviewId(), id -> new ArrayList<>()).add(ReplyResponse.builder()
+                            .id(row.getId())
+                            .reviewId(row.getReviewId())
+                            .userId(row.getUserId())
+                            .username(row.getUsername())
+                            .userAvatar(row.getUserAvatar())
+                            .content(row.getContent())
+                            .createdAt(row.getCreatedAt())
+                            .updatedAt(row.getUpdatedAt())
+                            .build());
+                }
+            }
+        }
+        return reviews.map(review -> ReviewThreadResponse.builder()
+                .review(review)
+                .replyCount(replyCounts.getOrDefault(review.getId(), 0L))
+                .replies(replies.getOrDefault(review.getId(), List.of()))
+                .build());
+    }
+
     /**
      * Get current user's reviews
      */
@@ -68,8 +116,11 @@ public class ReviewService {
                     .rating(request.getRating())
                     .content(request.getContent())
                     .build();
+            albumStatsService.recordReviewCreated(album.getId(), request.getRating());
+            userStatsService.recordReviewCreated(currentUser.getId());
         } else {
             // Update existing review
+            albumStatsService.recordReviewRatingChanged(album.getId(), review.getRating(), request.getRating());
             review.setRating(request.getRating());
             review.setContent(request.getContent());
         }
@@ -94,21 +145,29 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        albumStatsService.recordReviewDeleted(review.getAlbum().getId(), review.getRating());
+        userStatsService.recordReviewDeleted(currentUser.getId());
     }
 
     /**
      * Get average rating for an album
      */
     public Double getAverageRating(Long albumId) {
-        Double avg = reviewRepository.getAverageRatingByAlbumId(albumId);
-        return avg != null ? Math.round(avg * 10.0) / 10.0 : null;
+        return albumStatsService.getStats(albumId).getAverageRating();
     }
 
     /**
      * Get review count for an album
      */
     public long getReviewCount(Long albumId) {
-        return reviewRepository.countByAlbumId(albumId);
+        return albumStatsService.getStats(albumId).getReviewCount();
+    }
+
+    /**
+     * Get rating histogram for an album
+     */
+    public Map<String, Integer> getRatingHistogram(Long albumId) {
+        return albumStatsService.getRatingHistogram(albumId);
     }
 
     /**
@@ -117,4 +176,16 @@ public class ReviewService {
     public Page<ReviewResponse> getRecentReviews(Pageable pageable) {
         return reviewRepository.findRecentReviewResponses(pageable);
     }
+
+    /**
+     * Get recent reviews with keyset pagination (no total count)
+     */
+    public CursorPage<ReviewResponse> getRecentReviewFeed(String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ReviewResponse> rows = after == null
+                ? reviewRepository.findRecentReviewFeed(limit)
+                : reviewRepository.findRecentReviewFeedAfter(after.createdAt(), after.id(), limit);
+        return CursorPage.fromOverfetch(rows, size, review -> new FeedCursor(review.getCreatedAt(), review.getId()));
+    }
 }
@@ -0,0 +1,299 @@
+package com.musicreview.service;
+
+import com.musicreview.dto.album.AlbumResponse;
+import com.musicreview.dto.search.SearchResponse;
+import com.musicreview.dto.search.SearchResultItem;
+import com.musicreview.dto.track.TrackSummaryResponse;
+import com.musicreview.entity.Artist;
+import com.musicreview.repository.AlbumRepository;
+import com.musicreview.repository.ArtistRepository;
+import com.musicreview.search.SearchHit;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Unified search across albums, artists, tracks and blog posts. Each source runs on a small
+ * bounded pool with its own time budget, so the response takes as long as the slowest source
+ * (capped by the budget) instead of the sum. Sources score on different scales (idf-weighted
+ * matches, n-gram similarity), so results are merged by reciprocal rank: 1 / (k + rank within
+ * the source). While the catalog index is building, albums and artists come from the database.
+ */
+@Service
+public class SearchService {
+
+    public static final String TYPE_ALBUM = "album";
+    public static final String TYPE_ARTIST = "artist";
+    public static final String TYPE_TRACK = "track";
+    public static final String TYPE_BLOG = "blog";
+    public static final Set<String> ALL_TYPES = Set.of(TYPE_ALBUM, TYPE_ARTIST, TYPE_TRACK, TYPE_BLOG);
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchService.class);
+
+    /** Reciprocal rank fusion constant; larger values flatten the gap between top ranks */
+    private static final int RRF_K = 60;
+
+    private final CatalogSearchService catalogSearchService;
+    private final BlogSearchService blogSearchService;
+    private final AlbumRepository albumRepository;
+    private final ArtistRepository artistRepository;
+    private final TrackSearchService trackSearchService;
+    private final long sourceTimeoutMillis;
+    private final ExecutorService executor;
+
+    public SearchService(
+            CatalogSearchService catalogSearchService,
+            BlogSearchService blogSearchService,
+            AlbumRepository albumRepository,
+            ArtistRepository artistRepository,
+            TrackSearchService trackSearchService,
+            @Value("${app.search.source-timeout-ms:300}") long sourceTimeoutMillis,
+            @Value("${app.search.threads:8}") int threads,
+            @Value("${app.search.queue-capacity:200}") int queueCapacity
+    ) {
+        this.catalogSearchService = catalogSearchService;
+        this.blogSearchService = blogSearchService;
+        this.albumRepository = albumRepository;
+        this.artistRepository = artistRepository;
+        this.trackSearchService = trackSearchService;
+        this.sourceTimeoutMillis = sourceTimeoutMillis;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "search-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public SearchResponse search(String query, Set<String> types, int limit) {
+        long started = System.currentTimeMillis();
+        String keyword = query == null ? "" : query.trim();
+        if (keyword.isEmpty()) {
+            return SearchResponse.builder()
+                    .query(keyword)
+                    .items(List.of())
+                    .timedOutSources(List.of())
+                    .degradedSources(List.of())
+                    .tookMs(0L)
+                    .build();
+        }
+
+        Map<String, Supplier<List<SearchResultItem>>> sources = new LinkedHashMap<>();
+        if (types.contains(TYPE_ALBUM)) {
+            sources.put(TYPE_ALBUM, () -> searchAlbums(keyword, limit));
+        }
+        if (types.contains(TYPE_ARTIST)) {
+            sources.put(TYPE_ARTIST, () -> searchArtists(keyword, limit));
+        }
+        if (types.contains(TYPE_TRACK)) {
+            sources.put(TYPE_TRACK, () -> searchTracks(keyword, limit));
+        }
+        if (types.contains(TYPE_BLOG)) {
+            sources.put(TYPE_BLOG, () -> searchBlogPosts(keyword, limit));
+        }
+
+        List<String> degraded = new ArrayList<>();
+        if (sources.containsKey(TYPE_ALBUM) && !catalogSearchService.isReady()) {
+            degraded.add(TYPE_ALBUM);
+        }
+        if (sources.containsKey(TYPE_ARTIST) && !catalogSearchService.isReady()) {
+            degraded.add(TYPE_ARTIST);
+        }
+        if (sources.containsKey(TYPE_TRACK) && !trackSearchService.isReady()) {
+            degraded.add(TYPE_TRACK);
+        }
+        if (sources.containsKey(TYPE_BLOG) && !blogSearchService.isReady()) {
+            degraded.add(TYPE_BLOG);
+        }
+
+        Map<String, CompletableFuture<List<SearchResultItem>>> futures = new LinkedHashMap<>();
+        sources.forEach((type, source) -> futures.put(type, submit(type, source)));
+
+        List<SearchResultItem> merged = new ArrayList<>();
+        List<String> timedOut = new ArrayList<>();
+        futures.forEach((type, future) -> {
+            List<SearchResultItem> items = future.join();
+            if (items == null) {
+                timedOut.add(type);
+            } else {
+                merged.addAll(items);
+            }
+        });
+
+        merged.sort(Comparator.comparing(SearchResultItem::getScore, Comparator.reverseOrder()));
+        return SearchResponse.builder()
+                .query(keyword)
+                .items(merged.size() > limit ? List.copyOf(merged.subList(0, limit)) : merged)
+                .timedOutSources(timedOut)
+                .degradedSources(degraded)
+                .tookMs(System.currentTimeMillis() - started)
+                .build();
+    }
+
+    /**
+     * Run one source under the time budget; completes with null when the budget is missed
+     */
+    private CompletableFuture<List<SearchResultItem>> submit(String type, Supplier<List<SearchResultItem>> source) {
+        try {
+            return CompletableFuture.supplyAsync(source, executor)
+                    .exceptionally(e -> {
+                        LOG.warn("Search source {} failed: {}", type, e.getMessage());
+                        return List.of();
+                    })
+                    .completeOnTimeout(null, sourceTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Search pool saturated, skipping source {}", type);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private List<SearchResultItem> searchAlbums(String query, int limit) {
+        if (!catalogSearchService.isReady()) {
+            return ranked(TYPE_ALBUM, albumRepository.findAlbumSummariesByTitleContaining(query, PageRequest.of(0, limit)),
+                    AlbumResponse::getId, this::albumItem);
+        }
+        List<SearchHit> hits = catalogSearchService.searchAlbums(query, limit);
+        Map<Long, AlbumResponse> albums = loadById(hits, albumRepository::findAlbumSummariesByIdIn, AlbumResponse::getId);
+        return toItems(TYPE_ALBUM, hits, albums, this::albumItem);
+    }
+
+    private List<SearchResultItem> searchArtists(String query, int limit) {
+        if (!catalogSearchService.isReady()) {
+            return ranked(TYPE_ARTIST, artistRepository.findByNameContainingIgnoreCase(query, PageRequest.of(0, limit))
+                    .getContent(), Artist::getId, this::artistItem);
+        }
+        List<SearchHit> hits = catalogSearchService.searchArtists(query, limit);
+        Map<Long, Artist> artists = loadById(hits, artistRepository::findAllById, Artist::getId);
+        return toItems(TYPE_ARTIST, hits, artists, this::artistItem);
+    }
+
+    private List<SearchResultItem> searchTracks(String query, int limit) {
+        List<SearchHit> hits = trackSearchService.searchHits(query, limit);
+        Map<Long, TrackSummaryResponse> tracks = new HashMap<>();
+        for (SearchHit hit : hits) {
+            TrackSummaryResponse track = trackSearchService.getTrack(hit.id());
+            if (track != null) {
+                tracks.put(hit.id(), track);
+            }
+        }
+        return toItems(TYPE_TRACK, hits, tracks, (track, builder) -> builder
+                .title(track.getTitle())
+                .subtitle(track.getArtistName() + " - " + track.getAlbumTitle())
+                .imageUrl(track.getAlbumCoverUrl())
+                .albumId(track.getAlbumId())
+                .artistId(track.getArtistId()));
+    }
+
+    private List<SearchResultItem> searchBlogPosts(String query, int limit) {
+        List<SearchResultItem> items = new ArrayList<>();
+        for (SearchHit hit : blogSearchService.search(query, limit)) {
+            BlogSearchService.PostSummary post = blogSearchService.getSummary(hit.id());
+            if (post != null) {
+                items.add(SearchResultItem.builder()
+                        .type(TYPE_BLOG)
+                        .id(hit.id())
+                        .title(post.title())
+                        .subtitle(post.username())
+                        .albumId(post.albumId())
+                        .score(rankScore(items.size() + 1))
+                        .build());
+            }
+        }
+        return items;
+    }
+
+    private <T> Map<Long, T> loadById(List<SearchHit> hits, Function<List<Long>, List<T>> loader, Function<T, Long> idOf) {
+        if (hits.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = hits.stream().map(SearchHit::id).collect(Collectors.toList());
+        return loader.apply(ids).stream().collect(Collectors.toMap(idOf, Function.identity()));
+    }
+
+    private <T> List<SearchResultItem> toItems(String type, List<SearchHit> hits, Map<Long, T> rows, ItemMapper<T> mapper) {
+        List<SearchResultItem> items = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            T row = rows.get(hit.id());
+            if (row != null) {
+                items.add(item(type, hit.id(), items.size() + 1, row, mapper));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Items for rows already in relevance order (database fallback)
+     */
+    private <T> List<SearchResultItem> ranked(String type, List<T> rows, Function<T, Long> idOf, ItemMapper<T> mapper) {
+        List<SearchResultItem> items = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            items.add(item(type, idOf.apply(row), items.size() + 1, row, mapper));
+        }
+        return items;
+    }
+
+    private <T> SearchResultItem item(String type, Long id, int rank, T row, ItemMapper<T> mapper) {
+        SearchResultItem.SearchResultItemBuilder builder = SearchResultItem.builder()
+                .type(type)
+                .id(id)
+                .score(rankScore(rank));
+        return mapper.map(row, builder).build();
+    }
+
+    private SearchResultItem.SearchResultItemBuilder albumItem(AlbumResponse album, SearchResultItem.SearchResultItemBuilder builder) {
+        return builder
+                .title(album.getTitle())
+                .subtitle(album.getArtistName())
+                .imageUrl(album.getCoverUrl())
+                .albumId(album.getId())
+                .artistId(album.getArtistId());
+    }
+
+    private SearchResultItem.SearchResultItemBuilder artistItem(Artist artist, SearchResultItem.SearchResultItemBuilder builder) {
+        return builder
+                .title(artist.getName())
+                .subtitle(artist.getCountry())
+                .imageUrl(artist.getPhotoUrl())
+                .artistId(artist.getId());
+    }
+
+    /**
+     * Reciprocal rank score for the 1-based rank of a hit within its own source
+     */
+    private static double rankScore(int rank) {
+        return Math.round(1_000_000.0 / (RRF_K + rank)) / 1_000_000.0;
+    }
+
+    private interface ItemMapper<T> {
+        SearchResultItem.SearchResultItemBuilder map(T row, SearchResultItem.SearchResultItemBuilder builder);
+    }
+}
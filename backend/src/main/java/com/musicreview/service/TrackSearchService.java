@@ -0,0 +1,173 @@
+package com.musicreview.service;
+
+import com.musicreview.dto.track.TrackSummaryResponse;
+import com.musicreview.entity.Album;
+import com.musicreview.entity.Track;
+import com.musicreview.repository.TrackRepository;
+import com.musicreview.repository.projection.TrackSearchProjection;
+import com.musicreview.search.NGramIndex;
+import com.musicreview.search.RebuildableIndex;
+import com.musicreview.search.SearchHit;
+import com.musicreview.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Song title search: an n-gram index over track titles plus the album / artist each track belongs
+ * to, so "which album has this song" is answered from memory. Built at startup from a projection
+ * query, refreshed after this node's album create / update / delete and artist renames commit,
+ * and rebuilt periodically to pick up writes made on other nodes.
+ */
+@Service
+@RequiredArgsConstructor
+public class TrackSearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TrackSearchService.class);
+
+    private final TrackRepository trackRepository;
+
+    private final RebuildableIndex<TrackIndex> index = new RebuildableIndex<>(new TrackIndex());
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<SearchHit> searchHits(String query, int limit) {
+        return index.get().titles.search(query, limit);
+    }
+
+    /**
+     * Tracks whose title matches the query, each with its album and artist
+     */
+    public List<TrackSummaryResponse> search(String query, int limit) {
+        TrackIndex current = index.get();
+        List<TrackSummaryResponse> result = new ArrayList<>();
+        for (SearchHit hit : current.titles.search(query, limit)) {
+            TrackSummaryResponse track = current.tracks.get(hit.id());
+            if (track != null) {
+                result.add(track.toBuilder().score(Math.round(hit.score() * 1000.0) / 1000.0).build());
+            }
+        }
+        return result;
+    }
+
+    public TrackSummaryResponse getTrack(long trackId) {
+        return index.get().tracks.get(trackId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        try {
+            index.rebuild(this::loadIndex);
+            ready = true;
+            LOG.info("Track search index built: {} tracks", index.get().titles.size());
+        } catch (Exception e) {
+            LOG.warn("Failed to build track search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild from the database and swap the result in, so writes made on other nodes show up here
+     */
+    @Scheduled(fixedDelayString = "${app.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${app.search.rebuild-interval-ms:600000}")
+    public void rebuildIndex() {
+        if (!ready) {
+            buildIndex();
+            return;
+        }
+        try {
+            index.rebuild(this::loadIndex);
+        } catch (Exception e) {
+            LOG.warn("Failed to rebuild track search index, keeping the current one: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Replace the indexed tracks of an album once the current transaction commits
+     */
+    public void indexAlbum(Album album) {
+        long albumId = album.getId();
+        String albumTitle = album.getTitle();
+        String coverUrl = album.getCoverUrl();
+        Long artistId = album.getArtist().getId();
+        String artistName = album.getArtist().getName();
+        List<Track> albumTracks = List.copyOf(album.getTracks());
+        TransactionHooks.afterCommit(() -> {
+            // Track ids are assigned on flush, so they are read only after commit.
+            List<TrackSummaryResponse> summaries = new ArrayList<>();
+            for (Track track : albumTracks) {
+                if (track.getId() == null) {
+                    continue;
+                }
+                summaries.add(TrackSummaryResponse.builder()
+                        .id(track.getId())
+                        .title(track.getTitle())
+                        .trackNumber(track.getTrackNumber())
+                        .duration(track.getDuration())
+                        .albumId(albumId)
+                        .albumTitle(albumTitle)
+                        .albumCoverUrl(coverUrl)
+                        .artistId(artistId)
+                        .artistName(artistName)
+                        .build());
+            }
+            index.update(current -> {
+                current.removeAlbum(albumId);
+                summaries.forEach(current::put);
+            });
+        });
+    }
+
+    public void removeAlbum(Long albumId) {
+        TransactionHooks.afterCommit(() -> index.update(current -> current.removeAlbum(albumId)));
+    }
+
+    public void renameArtist(Long artistId, String artistName) {
+        TransactionHooks.afterCommit(() -> index.update(current -> current.tracks.replaceAll((id, track) ->
+                artistId.equals(track.getArtistId()) ? track.toBuilder().artistName(artistName).build() : track)));
+    }
+
+    private TrackIndex loadIndex() {
+        TrackIndex built = new TrackIndex();
+        for (TrackSearchProjection track : trackRepository.findAllForSearchIndex()) {
+            built.put(TrackSummaryResponse.fromProjection(track));
+        }
+        return built;
+    }
+
+    private static final class TrackIndex {
+        private final NGramIndex titles = new NGramIndex();
+        private final Map<Long, TrackSummaryResponse> tracks = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> trackIdsByAlbum = new ConcurrentHashMap<>();
+
+        private void put(TrackSummaryResponse track) {
+            titles.put(track.getId(), track.getTitle());
+            tracks.put(track.getId(), track);
+            trackIdsByAlbum.computeIfAbsent(track.getAlbumId(), id -> ConcurrentHashMap.newKeySet()).add(track.getId());
+        }
+
+        private void removeAlbum(long albumId) {
+            Set<Long> trackIds = trackIdsByAlbum.remove(albumId);
+            if (trackIds == null) {
+                return;
+            }
+            for (Long trackId : trackIds) {
+                titles.remove(trackId);
+                tracks.remove(trackId);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.musicreview.service;
+
+import com.musicreview.dto.track.TrackSummaryResponse;
+import com.musicreview.repository.TrackRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TrackService {
+
+    private final TrackRepository trackRepository;
+    private final TrackSearchService trackSearchService;
+
+    /**
+     * Search tracks by title
+     */
+    public List<TrackSummaryResponse> searchTracks(String query, int limit) {
+        String keyword = query == null ? "" : query.trim();
+        if (keyword.isEmpty()) {
+            return List.of();
+        }
+        return trackSearchService.search(keyword, limit);
+    }
+
+    /**
+     * Get tracks of an album in track order
+     */
+    public List<TrackSummaryResponse> getTracksByAlbum(Long albumId) {
+        return trackRepository.findSearchRowsByAlbumId(albumId).stream()
+                .map(TrackSummaryResponse::fromProjection)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get a track by ID
+     */
+    public TrackSummaryResponse getTrackById(Long id) {
+        TrackSummaryResponse cached = trackSearchService.getTrack(id);
+        if (cached != null) {
+            return cached;
+        }
+        return trackRepository.findSearchRowsByIdIn(List.of(id)).stream()
+                .findFirst()
+                .map(TrackSummaryResponse::fromProjection)
+                .orElseThrow(() -> new RuntimeException("Track not found with id: " + id));
+    }
+}
@@ -0,0 +1,227 @@
+package com.musicreview.service;
+
+import com.musicreview.cache.LocalLruCache;
+import com.musicreview.repository.NotificationRepository;
+import com.musicreview.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-user unread notification counters for the navbar badge. A counter is loaded from the
+ * database once, then kept current with deltas on create / mark read and dropped on mark all read
+ * and announcement delivery. Counters live in Redis (shared by all nodes) with a local LRU as
+ * fallback; both expire after ttl-seconds, so any drift is reconciled with a fresh COUNT.
+ * Every delta and invalidation bumps a generation; a reader stores the COUNT it ran only if the
+ * generations it sampled beforehand are unchanged, so a read racing mark all read cannot put the
+ * stale count back.
+ */
+@Service
+public class UnreadCounterService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UnreadCounterService.class);
+    private static final String REDIS_KEY_PREFIX = "notif:unread:";
+    private static final String REDIS_GENERATION_PREFIX = "notif:unread:gen:";
+    private static final String REDIS_RANGE_GENERATION_KEY = "notif:unread:gen";
+    private static final long REDIS_RETRY_AFTER_FAILURE_MILLIS = 30_000;
+    private static final int REDIS_DELETE_BATCH = 1000;
+    // Only adjust counters that exist (a missing one is reloaded from the database); a negative
+    // result means the counter drifted, so it is dropped and recounted on the next read
+    private static final DefaultRedisScript<Long> APPLY_DELTA = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if value < 0 then redis.call('DEL', KEYS[1]) return -1 end
+            return value
+            """, Long.class);
+    private static final DefaultRedisScript<Long> INVALIDATE = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+    // Store a counted value unless the user's or the range generation moved since the reader
+    // sampled them (a missing generation is sampled as ""), and never over an existing counter
+    private static final DefaultRedisScript<Long> POPULATE = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[2] then return 0 end
+            if (redis.call('GET', KEYS[3]) or '') ~= ARGV[3] then return 0 end
+            if redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[4], 'NX') then return 1 end
+            return 0
+            """, Long.class);
+
+    private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean redisEnabled;
+    private final long ttlSeconds;
+    private final LocalLruCache<Long, Long> localCounters;
+    // Bumped (under the localCounters lock) by every local delta or invalidation
+    private long localGeneration = 0;
+    private volatile long redisSuspendedUntil = 0;
+
+    public UnreadCounterService(
+            NotificationRepository notificationRepository,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            @Value("${app.notifications.unread.redis.enabled:true}") boolean redisEnabled,
+            @Value("${app.notifications.unread.ttl-seconds:600}") long ttlSeconds,
+            @Value("${app.notifications.unread.max-entries:20000}") int maxEntries
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.redisTemplate = redisTemplateProvider.getIfAvailable();
+        this.redisEnabled = redisEnabled;
+        this.ttlSeconds = ttlSeconds;
+        this.localCounters = new LocalLruCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public long getUnreadCount(Long userId) {
+        List<String> redisState = readRedis(userId);
+        if (redisState != null && redisState.get(0) != null) {
+            return Long.parseLong(redisState.get(0));
+        }
+        // Local counters only see this node's updates, so they are used only while Redis is not
+        long sampledGeneration = 0;
+        if (redisState == null) {
+            synchronized (localCounters) {
+                Long cached = localCounters.get(userId);
+                if (cached != null) {
+                    return cached;
+                }
+                sampledGeneration = localGeneration;
+            }
+        }
+        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        if (redisState != null) {
+            writeRedis(userId, count, redisState.get(1), redisState.get(2));
+        } else {
+            synchronized (localCounters) {
+                if (localGeneration == sampledGeneration) {
+                    localCounters.put(userId, count);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adjust a user's counter once the current transaction commits
+     */
+    public void applyDelta(Long userId, long delta) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (localCounters) {
+                localGeneration++;
+                Long local = localCounters.get(userId);
+                if (local != null) {
+                    if (local + delta < 0) {
+                        localCounters.invalidate(userId);
+                    } else {
+                        localCounters.put(userId, local + delta);
+                    }
+                }
+            }
+            if (isRedisUsable()) {
+                try {
+                    redisTemplate.execute(APPLY_DELTA, List.of(REDIS_KEY_PREFIX + userId, REDIS_GENERATION_PREFIX + userId),
+                            String.valueOf(delta), String.valueOf(ttlSeconds));
+                } catch (Exception e) {
+                    suspendRedis("update", e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Forget a user's counter once the current transaction commits; the next read recounts
+     */
+    public void invalidate(Long userId) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (localCounters) {
+                localGeneration++;
+                localCounters.invalidate(userId);
+            }
+            if (isRedisUsable()) {
+                try {
+                    redisTemplate.execute(INVALIDATE, List.of(REDIS_KEY_PREFIX + userId, REDIS_GENERATION_PREFIX + userId),
+                            String.valueOf(ttlSeconds));
+                } catch (Exception e) {
+                    suspendRedis("invalidate", e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Forget the counters of every user with fromExclusive &lt; id &lt;= toInclusive (announcement delivery)
+     */
+    public void invalidateRange(long fromExclusive, long toInclusive) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (localCounters) {
+                localGeneration++;
+                localCounters.invalidateIf(userId -> userId > fromExclusive && userId <= toInclusive);
+            }
+            if (!isRedisUsable()) {
+                return;
+            }
+            try {
+                // Bumped first, so a reader that sampled it before the deletes cannot store its count
+                redisTemplate.opsForValue().increment(REDIS_RANGE_GENERATION_KEY);
+                List<String> keys = new ArrayList<>(REDIS_DELETE_BATCH);
+                for (long userId = fromExclusive + 1; userId <= toInclusive; userId++) {
+                    keys.add(REDIS_KEY_PREFIX + userId);
+                    if (keys.size() == REDIS_DELETE_BATCH || userId == toInclusive) {
+                        redisTemplate.delete(keys);
+                        keys.clear();
+                    }
+                }
+            } catch (Exception e) {
+                suspendRedis("invalidate", e);
+            }
+        });
+    }
+
+    /**
+     * [counter, user generation, range generation] (missing values as null), or null when Redis is not usable
+     */
+    private List<String> readRedis(Long userId) {
+        if (!isRedisUsable()) {
+            return null;
+        }
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(
+                    REDIS_KEY_PREFIX + userId, REDIS_GENERATION_PREFIX + userId, REDIS_RANGE_GENERATION_KEY));
+            return values != null && values.size() == 3 ? values : null;
+        } catch (Exception e) {
+            suspendRedis("read", e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long userId, long count, String userGeneration, String rangeGeneration) {
+        if (!isRedisUsable()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(POPULATE,
+                    List.of(REDIS_KEY_PREFIX + userId, REDIS_GENERATION_PREFIX + userId, REDIS_RANGE_GENERATION_KEY),
+                    String.valueOf(count), userGeneration == null ? "" : userGeneration,
+                    rangeGeneration == null ? "" : rangeGeneration, String.valueOf(ttlSeconds));
+        } catch (Exception e) {
+            suspendRedis("write", e);
+        }
+    }
+
+    private boolean isRedisUsable() {
+        return redisEnabled && redisTemplate != null && System.currentTimeMillis() >= redisSuspendedUntil;
+    }
+
+    private void suspendRedis(String operation, Exception e) {
+        redisSuspendedUntil = System.currentTimeMillis() + REDIS_RETRY_AFTER_FAILURE_MILLIS;
+        LOG.warn("Redis unavailable for unread counter {}, using local counters only: {}", operation, e.getMessage());
+    }
+}
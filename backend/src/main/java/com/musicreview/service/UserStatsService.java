@@ -0,0 +1,118 @@
+package com.musicreview.service;
+
+import com.musicreview.cache.LocalLruCache;
+import com.musicreview.entity.UserStats;
+import com.musicreview.repository.UserStatsRepository;
+import com.musicreview.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ * Per-user activity counters for profile pages. Writers apply deltas in their own transaction;
+ * reads are served from a short-lived local cache that this node drops after each committed
+ * write, so other nodes converge within ttl-seconds.
+ */
+@Service
+public class UserStatsService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UserStatsService.class);
+
+    private final UserStatsRepository userStatsRepository;
+    private final LocalLruCache<Long, UserStats> cache;
+
+    public UserStatsService(
+            UserStatsRepository userStatsRepository,
+            @Value("${app.users.stats.cache-ttl-seconds:30}") long cacheTtlSeconds,
+            @Value("${app.users.stats.cache-max-entries:10000}") int cacheMaxEntries
+    ) {
+        this.userStatsRepository = userStatsRepository;
+        this.cache = new LocalLruCache<>(cacheMaxEntries, Duration.ofSeconds(cacheTtlSeconds));
+    }
+
+    /**
+     * Get counters for a user (all zero when the user has no activity yet)
+     */
+    public UserStats getStats(Long userId) {
+        UserStats cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        UserStats stats = userStatsRepository.findById(userId)
+                .orElseGet(() -> UserStats.empty(userId));
+        cache.put(userId, stats);
+        return stats;
+    }
+
+    @Transactional
+    public void recordReviewCreated(Long userId) {
+        apply(userId, 1, 0, 0, 0);
+    }
+
+    @Transactional
+    public void recordReviewDeleted(Long userId) {
+        apply(userId, -1, 0, 0, 0);
+    }
+
+    @Transactional
+    public void recordFavoriteAdded(Long userId) {
+        apply(userId, 0, 1, 0, 0);
+    }
+
+    @Transactional
+    public void recordFavoriteRemoved(Long userId) {
+        apply(userId, 0, -1, 0, 0);
+    }
+
+    @Transactional
+    public void recordBlogPostCreated(Long userId) {
+        apply(userId, 0, 0, 1, 0);
+    }
+
+    @Transactional
+    public void recordBlogPostDeleted(Long userId) {
+        apply(userId, 0, 0, -1, 0);
+    }
+
+    @Transactional
+    public void recordGuessBandWin(Long userId) {
+        apply(userId, 0, 0, 0, 1);
+    }
+
+    /**
+     * Must run before the album is deleted, while its reviews and favorites still exist
+     */
+    @Transactional
+    public void removeAlbumActivity(Long albumId) {
+        if (userStatsRepository.subtractAlbumActivity(albumId) > 0) {
+            TransactionHooks.afterCommit(cache::clear);
+        }
+    }
+
+    /**
+     * Seed stats rows for users that predate the user_stats table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillMissingStats() {
+        try {
+            int seeded = userStatsRepository.backfillMissing();
+            if (seeded > 0) {
+                LOG.info("Seeded user_stats for {} user(s)", seeded);
+            }
+        } catch (Exception e) {
+            LOG.warn("Failed to backfill user_stats: {}", e.getMessage());
+        }
+    }
+
+    private void apply(Long userId, int reviewDelta, int favoriteDelta, int blogPostDelta, int winDelta) {
+        userStatsRepository.applyDelta(userId, reviewDelta, favoriteDelta, blogPostDelta, winDelta);
+        TransactionHooks.afterCommit(() -> cache.invalidate(userId));
+    }
+}
@@ -0,0 +1,111 @@
+package com.musicreview.storage;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Storage for uploaded files, addressed by keys such as "album-covers/{sha256}.jpg".
+ * {@link LocalBlobStore} keeps blobs on the local disk; {@link S3BlobStore} talks to any
+ * S3-compatible service so several backend nodes can share one bucket. Reads and writes are
+ * streamed; stores that support it can hand out presigned URLs so clients move the bytes directly.
+ */
+public interface BlobStore {
+
+    Pattern VALID_KEY = Pattern.compile("^[a-zA-Z0-9_-][a-zA-Z0-9._-]*(/[a-zA-Z0-9_-][a-zA-Z0-9._-]*)*$");
+
+    record BlobInfo(String key, long size, long lastModified) {
+    }
+
+    record PresignedRequest(String method, URI url, Map<String, String> headers, Instant expiresAt) {
+    }
+
+    /**
+     * Browser form upload: POST the fields, then the file as the last "file" field, to url
+     */
+    record PresignedPost(URI url, Map<String, String> fields, Instant expiresAt) {
+    }
+
+    /**
+     * Store (or replace) a blob with the content of a local file
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * Size and modification time, or null when the blob does not exist
+     */
+    BlobInfo stat(String key) throws IOException;
+
+    /**
+     * Stream a blob's content; throws NoSuchFileException when it does not exist
+     */
+    InputStream open(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * Resource for serving a blob returned by {@link #stat}; stores with local files override this for range reads
+     */
+    default Resource resource(BlobInfo info) {
+        return new AbstractResource() {
+            @Override
+            public String getDescription() {
+                return "blob [" + info.key() + "]";
+            }
+
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return open(info.key());
+            }
+
+            @Override
+            public long contentLength() {
+                return info.size();
+            }
+
+            @Override
+            public long lastModified() {
+                return info.lastModified();
+            }
+        };
+    }
+
+    /**
+     * Presigned URL for downloading a blob directly, or null when the store cannot issue one
+     */
+    default PresignedRequest presignGet(String key, Duration ttl) {
+        return null;
+    }
+
+    /**
+     * Presigned form upload that only accepts one key, one content type and at most maxBytes, or
+     * null when the store cannot issue one
+     */
+    default PresignedPost presignPost(String key, String contentType, long maxBytes, Duration ttl) {
+        return null;
+    }
+
+    /**
+     * Blobs whose key starts with prefix, used to sweep abandoned direct uploads; stores that
+     * cannot presign uploads may return an empty list
+     */
+    default List<BlobInfo> list(String prefix) throws IOException {
+        return List.of();
+    }
+
+    static String requireValidKey(String key) {
+        if (key == null || !VALID_KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,100 @@
+package com.musicreview.storage;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Blobs on the local file system. "album-covers/9f86d0...jpg" is stored as
+ * album-covers/9f/86/9f86d0...jpg so no directory grows to hundreds of thousands of entries;
+ * files written before sharding (flat album-covers/x.jpg) are still found.
+ */
+public class LocalBlobStore implements BlobStore {
+
+    private static final int SHARD_MIN_NAME_LENGTH = 8;
+
+    private final Path root;
+
+    public LocalBlobStore(Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = shardedPath(BlobStore.requireValidKey(key));
+        Files.createDirectories(target.getParent());
+        // Copy next to the target and rename, so readers never see a partial file
+        Path temp = Files.createTempFile(target.getParent(), ".blob-", ".tmp");
+        try {
+            Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public BlobInfo stat(String key) throws IOException {
+        Path path = locate(key);
+        if (path == null) {
+            return null;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return new BlobInfo(key, attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        Path path = locate(key);
+        if (path == null) {
+            throw new NoSuchFileException(key);
+        }
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(shardedPath(BlobStore.requireValidKey(key)));
+        Files.deleteIfExists(root.resolve(key));
+    }
+
+    @Override
+    public Resource resource(BlobInfo info) {
+        Path path = locateQuietly(info.key());
+        return path != null ? new FileSystemResource(path) : BlobStore.super.resource(info);
+    }
+
+    /**
+     * Sharded location of a key: {dir}/{name[0..2]}/{name[2..4]}/{name}
+     */
+    Path shardedPath(String key) {
+        int slash = key.lastIndexOf('/');
+        String name = key.substring(slash + 1);
+        if (name.length() < SHARD_MIN_NAME_LENGTH) {
+            return root.resolve(key);
+        }
+        Path dir = slash < 0 ? root : root.resolve(key.substring(0, slash));
+        return dir.resolve(name.substring(0, 2)).resolve(name.substring(2, 4)).resolve(name);
+    }
+
+    private Path locate(String key) {
+        BlobStore.requireValidKey(key);
+        return locateQuietly(key);
+    }
+
+    private Path locateQuietly(String key) {
+        Path sharded = shardedPath(key);
+        if (Files.isRegularFile(sharded)) {
+            return sharded;
+        }
+        Path flat = root.resolve(key);
+        return Files.isRegularFile(flat) ? flat : null;
+    }
+}
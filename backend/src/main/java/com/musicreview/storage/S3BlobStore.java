@@ -0,0 +1,379 @@
+package com.musicreview.storage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Blobs in an S3-compatible bucket (AWS S3, MinIO, Ceph RGW, ...). Requests are signed with AWS
+ * Signature Version 4 over the JDK HTTP client, so no SDK is needed. Uploads stream the file with an
+ * unsigned payload and downloads stream the response body. Clients upload directly with a POST
+ * policy that pins the key, content type and size. Presigned URLs are signed for a time
+ * window rather than the current second, so every node hands out the same URL for a blob within
+ * the window and browsers can cache it.
+ */
+public class S3BlobStore implements BlobStore {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+    private static final String EMPTY_SHA256 = "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME;
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final URI endpoint;
+    private final String region;
+    private final String bucket;
+    private final String accessKey;
+    private final String secretKey;
+    private final boolean pathStyle;
+    private final Duration timeout;
+    private final Clock clock;
+    private final HttpClient httpClient;
+
+    public S3BlobStore(String endpoint, String region, String bucket, String accessKey, String secretKey,
+                       boolean pathStyle, Duration timeout, Clock clock) {
+        this.endpoint = URI.create(endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint);
+        this.region = region;
+        this.bucket = bucket;
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        this.pathStyle = pathStyle;
+        this.timeout = timeout;
+        this.clock = clock;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        HttpRequest.Builder request = signedRequest("PUT", key, UNSIGNED_PAYLOAD)
+                .PUT(HttpRequest.BodyPublishers.ofFile(source));
+        if (contentType != null) {
+            request.header("Content-Type", contentType);
+        }
+        HttpResponse<String> response = send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("S3 PUT " + key + " failed with HTTP " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    @Override
+    public BlobInfo stat(String key) throws IOException {
+        HttpRequest request = signedRequest("HEAD", key, EMPTY_SHA256)
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return null;
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("S3 HEAD " + key + " failed with HTTP " + response.statusCode());
+        }
+        long size = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        long lastModified = response.headers().firstValue("Last-Modified")
+                .map(value -> ZonedDateTime.parse(value, HTTP_DATE).toInstant().toEpochMilli())
+                .orElse(0L);
+        return new BlobInfo(key, size, lastModified);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        HttpRequest request = signedRequest("GET", key, EMPTY_SHA256).GET().build();
+        HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() == 200) {
+            return response.body();
+        }
+        response.body().close();
+        if (response.statusCode() == 404) {
+            throw new NoSuchFileException(key);
+        }
+        throw new IOException("S3 GET " + key + " failed with HTTP " + response.statusCode());
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        HttpRequest request = signedRequest("DELETE", key, EMPTY_SHA256).DELETE().build();
+        HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 204 && response.statusCode() != 200 && response.statusCode() != 404) {
+            throw new IOException("S3 DELETE " + key + " failed with HTTP " + response.statusCode());
+        }
+    }
+
+    @Override
+    public PresignedRequest presignGet(String key, Duration ttl) {
+        return presign("GET", key, ttl, Map.of());
+    }
+
+    /**
+     * SigV4 POST policy. Unlike a presigned PUT, the policy pins the content type and bounds the
+     * size with content-length-range, so the store itself rejects anything else.
+     */
+    @Override
+    public PresignedPost presignPost(String key, String contentType, long maxBytes, Duration ttl) {
+        BlobStore.requireValidKey(key);
+        Instant now = clock.instant();
+        String amzDate = AMZ_DATE.format(now);
+        String credential = accessKey + "/" + amzDate.substring(0, 8) + "/" + region + "/s3/aws4_request";
+        Instant expiresAt = now.plus(ttl);
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("key", key);
+        fields.put("Content-Type", contentType);
+        fields.put("X-Amz-Algorithm", ALGORITHM);
+        fields.put("X-Amz-Credential", credential);
+        fields.put("X-Amz-Date", amzDate);
+        List<Object> conditions = new ArrayList<>();
+        conditions.add(Map.of("bucket", bucket));
+        fields.forEach((name, value) -> conditions.add(Map.of(name, value)));
+        conditions.add(List.of("content-length-range", 1, maxBytes));
+        Map<String, Object> policy = new LinkedHashMap<>();
+        policy.put("expiration", expiresAt.truncatedTo(ChronoUnit.SECONDS).toString());
+        policy.put("conditions", conditions);
+        String encodedPolicy;
+        try {
+            encodedPolicy = Base64.getEncoder().encodeToString(JSON.writeValueAsBytes(policy));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        fields.put("Policy", encodedPolicy);
+        fields.put("X-Amz-Signature", sign(amzDate.substring(0, 8), encodedPolicy));
+        return new PresignedPost(bucketUri(), fields, expiresAt);
+    }
+
+    /**
+     * ListObjectsV2, following continuation tokens until every matching key has been read
+     */
+    @Override
+    public List<BlobInfo> list(String prefix) throws IOException {
+        List<BlobInfo> result = new ArrayList<>();
+        String continuationToken = null;
+        do {
+            TreeMap<String, String> query = new TreeMap<>();
+            query.put("list-type", "2");
+            query.put("prefix", prefix);
+            if (continuationToken != null) {
+                query.put("continuation-token", continuationToken);
+            }
+            HttpRequest request = signedRequest("GET", bucketUri(), canonicalQuery(query), EMPTY_SHA256).GET().build();
+            HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream());
+            Document page;
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new IOException("S3 LIST " + prefix + " failed with HTTP " + response.statusCode());
+                }
+                page = parseXml(body);
+            }
+            NodeList contents = page.getElementsByTagName("Contents");
+            for (int i = 0; i < contents.getLength(); i++) {
+                Element object = (Element) contents.item(i);
+                result.add(new BlobInfo(childText(object, "Key"),
+                        Long.parseLong(childText(object, "Size")),
+                        Instant.parse(childText(object, "LastModified")).toEpochMilli()));
+            }
+            boolean truncated = "true".equals(childText(page.getDocumentElement(), "IsTruncated"));
+            continuationToken = truncated ? childText(page.getDocumentElement(), "NextContinuationToken") : null;
+        } while (continuationToken != null);
+        return result;
+    }
+
+    /**
+     * Query-string signed URL. The signing time is rounded down to half the ttl, so the URL stays
+     * the same (and valid for at least half the ttl) until the next window starts.
+     */
+    PresignedRequest presign(String method, String key, Duration ttl, Map<String, String> headers) {
+        long windowSeconds = Math.max(1, ttl.getSeconds() / 2);
+        long now = clock.instant().getEpochSecond();
+        return presignAt(method, key, Instant.ofEpochSecond(now - now % windowSeconds), ttl, headers);
+    }
+
+    PresignedRequest presignAt(String method, String key, Instant signedAt, Duration ttl, Map<String, String> headers) {
+        URI uri = objectUri(BlobStore.requireValidKey(key));
+        String amzDate = AMZ_DATE.format(signedAt);
+        String scope = amzDate.substring(0, 8) + "/" + region + "/s3/aws4_request";
+
+        TreeMap<String, String> query = new TreeMap<>();
+        query.put("X-Amz-Algorithm", ALGORITHM);
+        query.put("X-Amz-Credential", accessKey + "/" + scope);
+        query.put("X-Amz-Date", amzDate);
+        query.put("X-Amz-Expires", String.valueOf(ttl.getSeconds()));
+        query.put("X-Amz-SignedHeaders", "host");
+        String canonicalQuery = canonicalQuery(query);
+
+        String canonicalRequest = method + "\n"
+                + uri.getRawPath() + "\n"
+                + canonicalQuery + "\n"
+                + "host:" + hostHeader(uri) + "\n\n"
+                + "host\n"
+                + UNSIGNED_PAYLOAD;
+        String signature = sign(amzDate, scope, canonicalRequest);
+        URI url = URI.create(uri + "?" + canonicalQuery + "&X-Amz-Signature=" + signature);
+        return new PresignedRequest(method, url, headers, signedAt.plus(ttl));
+    }
+
+    private HttpRequest.Builder signedRequest(String method, String key, String payloadHash) {
+        return signedRequest(method, objectUri(BlobStore.requireValidKey(key)), "", payloadHash);
+    }
+
+    private HttpRequest.Builder signedRequest(String method, URI uri, String canonicalQuery, String payloadHash) {
+        String amzDate = AMZ_DATE.format(clock.instant());
+        String scope = amzDate.substring(0, 8) + "/" + region + "/s3/aws4_request";
+        String signedHeaders = "host;x-amz-content-sha256;x-amz-date";
+        String canonicalRequest = method + "\n"
+                + (uri.getRawPath().isEmpty() ? "/" : uri.getRawPath()) + "\n"
+                + canonicalQuery + "\n"
+                + "host:" + hostHeader(uri) + "\n"
+                + "x-amz-content-sha256:" + payloadHash + "\n"
+                + "x-amz-date:" + amzDate + "\n\n"
+                + signedHeaders + "\n"
+                + payloadHash;
+        String authorization = ALGORITHM + " Credential=" + accessKey + "/" + scope
+                + ", SignedHeaders=" + signedHeaders
+                + ", Signature=" + sign(amzDate, scope, canonicalRequest);
+        return HttpRequest.newBuilder(canonicalQuery.isEmpty() ? uri : URI.create(uri + "?" + canonicalQuery))
+                .timeout(timeout)
+                .header("x-amz-content-sha256", payloadHash)
+                .header("x-amz-date", amzDate)
+                .header("Authorization", authorization);
+    }
+
+    private String sign(String amzDate, String scope, String canonicalRequest) {
+        try {
+            String stringToSign = ALGORITHM + "\n" + amzDate + "\n" + scope + "\n"
+                    + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(canonicalRequest.getBytes(StandardCharsets.UTF_8)));
+            return sign(amzDate.substring(0, 8), stringToSign);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * HMAC of stringToSign with the signing key derived for the given yyyyMMdd date
+     */
+    private String sign(String date, String stringToSign) {
+        try {
+            byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), date);
+            key = hmac(key, region);
+            key = hmac(key, "s3");
+            key = hmac(key, "aws4_request");
+            return HexFormat.of().formatHex(hmac(key, stringToSign));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private URI bucketUri() {
+        String authority = endpoint.getRawAuthority();
+        if (pathStyle) {
+            return URI.create(endpoint.getScheme() + "://" + authority + "/" + bucket);
+        }
+        return URI.create(endpoint.getScheme() + "://" + bucket + "." + authority + "/");
+    }
+
+    private URI objectUri(String key) {
+        String encodedKey = Arrays.stream(key.split("/"))
+                .map(S3BlobStore::encode)
+                .collect(Collectors.joining("/"));
+        String authority = endpoint.getRawAuthority();
+        if (pathStyle) {
+            return URI.create(endpoint.getScheme() + "://" + authority + "/" + bucket + "/" + encodedKey);
+        }
+        return URI.create(endpoint.getScheme() + "://" + bucket + "." + authority + "/" + encodedKey);
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) throws IOException {
+        try {
+            return httpClient.send(request, handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 request interrupted", e);
+        }
+    }
+
+    /**
+     * The Host header the JDK client sends: host, plus the port when it is not the scheme default
+     */
+    private static String hostHeader(URI uri) {
+        return uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static String canonicalQuery(TreeMap<String, String> query) {
+        return query.entrySet().stream()
+                .map(entry -> encode(entry.getKey()) + "=" + encode(entry.getValue()))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static Document parseXml(InputStream input) throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            return factory.newDocumentBuilder().parse(input);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Malformed S3 response", e);
+        }
+    }
+
+    private static String childText(Element parent, String name) {
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element element && name.equals(element.getTagName())) {
+                return element.getTextContent();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * RFC 3986 encoding as SigV4 expects (spaces as %20, '~' left alone)
+     */
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8)
+                .replace("+", "%20")
+                .replace("*", "%2A")
+                .replace("%7E", "~");
+    }
+
+    private static byte[] hmac(byte[] key, String data) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+}
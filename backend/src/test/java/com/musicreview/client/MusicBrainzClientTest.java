@@ -0,0 +1,119 @@
+package com.musicreview.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MusicBrainzClientTest {
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ws/2/release/", exchange -> {
+            hits.incrementAndGet();
+            String path = exchange.getRequestURI().getPath();
+            int status = path.endsWith("/missing") ? 404 : 200;
+            byte[] body = ("{\"path\":\"" + path + "\"}").getBytes(StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(150);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    private MusicBrainzClient client(double requestsPerSecond) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/ws/2";
+        return new MusicBrainzClient(baseUrl, requestsPerSecond, cacheDir.toString(), 24, 5000);
+    }
+
+    @Test
+    void repeatedLookupIsServedFromDiskCache() {
+        String first = client(100).getRelease("abc");
+        // A fresh client shares nothing in memory, only the cache directory
+        String second = client(100).getRelease("abc");
+
+        assertEquals(first, second);
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void identicalConcurrentLookupsAreCoalesced() throws Exception {
+        MusicBrainzClient client = client(100);
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return client.getRelease("same");
+            }));
+        }
+        start.countDown();
+        for (Future<String> result : results) {
+            assertTrue(result.get().contains("/release/same"));
+        }
+        pool.shutdown();
+
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void distinctLookupsAreRateLimited() {
+        MusicBrainzClient client = client(5);
+        long started = System.nanoTime();
+        client.getRelease("one");
+        client.getRelease("two");
+        client.getRelease("three");
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertEquals(3, hits.get());
+        // Three permits at 5/s need at least two 200 ms gaps
+        assertTrue(elapsedMillis >= 390, "elapsed " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void notFoundIsReportedAndNotCached() {
+        MusicBrainzClient client = client(100);
+        assertThrows(RuntimeException.class, () -> client.getRelease("missing"));
+        assertThrows(RuntimeException.class, () -> client.getRelease("missing"));
+
+        assertEquals(2, hits.get());
+    }
+}
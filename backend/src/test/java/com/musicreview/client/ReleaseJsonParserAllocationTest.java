@@ -0,0 +1,186 @@
+package com.musicreview.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicreview.dto.imports.ImportedAlbumResponse;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the streaming release parser with the previous approach (bind the whole response to
+ * nested maps, then copy fields into more maps) on a large multi-disc release.
+ */
+class ReleaseJsonParserAllocationTest {
+
+    private static final int DISCS = 8;
+    private static final int TRACKS_PER_DISC = 40;
+    private static final int WARMUP = 300;
+    private static final int ITERATIONS = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void streamingParserMatchesMapParsing() throws Exception {
+        String json = multiDiscRelease();
+
+        ImportedAlbumResponse album = ReleaseJsonParser.parseMusicBrainzRelease(json);
+        Map<String, Object> legacy = parseWithMaps(json);
+
+        assertEquals(legacy.get("title"), album.getTitle());
+        assertEquals(legacy.get("releaseYear"), album.getReleaseYear());
+        assertEquals(((Map<?, ?>) legacy.get("artist")).get("name"), album.getArtist().getName());
+        assertEquals(DISCS * TRACKS_PER_DISC, album.getTrackCount());
+        List<?> legacyTracks = (List<?>) legacy.get("tracks");
+        for (int i = 0; i < legacyTracks.size(); i++) {
+            Map<?, ?> expected = (Map<?, ?>) legacyTracks.get(i);
+            ImportedAlbumResponse.ImportedTrack actual = album.getTracks().get(i);
+            assertEquals(expected.get("trackNumber"), actual.getTrackNumber());
+            assertEquals(expected.get("title"), actual.getTitle());
+            assertEquals(expected.get("duration"), actual.getDuration());
+        }
+    }
+
+    @Test
+    void streamingParserAllocatesLessThanMapParsing() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        String json = multiDiscRelease();
+
+        long streaming = bytesPerOp(threads, () -> {
+            try {
+                return ReleaseJsonParser.parseMusicBrainzRelease(json);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long maps = bytesPerOp(threads, () -> {
+            try {
+                return parseWithMaps(json);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertTrue(streaming * 2 < maps, String.format(
+                "Release with %d tracks (%d KB): streaming %d B/op should be under half of maps %d B/op",
+                DISCS * TRACKS_PER_DISC, json.length() / 1024, streaming, maps));
+    }
+
+    private long bytesPerOp(com.sun.management.ThreadMXBean threads, Supplier<Object> parse) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = parse.get();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = parse.get();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertTrue(sink != null);
+        return allocated / ITERATIONS;
+    }
+
+    /**
+     * The release parsing the import controller used before the streaming parser
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> parseWithMaps(String json) throws Exception {
+        Map<String, Object> release = objectMapper.readValue(json, Map.class);
+        Map<String, Object> result = new HashMap<>();
+        result.put("mbid", release.get("id"));
+        result.put("title", release.get("title"));
+        result.put("date", release.get("date"));
+        result.put("country", release.get("country"));
+        result.put("barcode", release.get("barcode"));
+        String dateStr = (String) release.get("date");
+        if (dateStr != null && dateStr.length() >= 4) {
+            result.put("releaseYear", Integer.parseInt(dateStr.substring(0, 4)));
+        }
+        List<Map<String, Object>> artistCredits = (List<Map<String, Object>>) release.get("artist-credit");
+        if (artistCredits != null && !artistCredits.isEmpty()) {
+            Map<String, Object> artistInfo = (Map<String, Object>) artistCredits.get(0).get("artist");
+            if (artistInfo != null) {
+                Map<String, Object> artist = new HashMap<>();
+                artist.put("name", artistInfo.get("name"));
+                artist.put("mbid", artistInfo.get("id"));
+                result.put("artist", artist);
+            }
+        }
+        List<Map<String, Object>> tracks = new ArrayList<>();
+        List<Map<String, Object>> media = (List<Map<String, Object>>) release.get("media");
+        if (media != null) {
+            int globalTrackNumber = 1;
+            for (Map<String, Object> medium : media) {
+                List<Map<String, Object>> mediaTracks = (List<Map<String, Object>>) medium.get("tracks");
+                if (mediaTracks != null) {
+                    for (Map<String, Object> track : mediaTracks) {
+                        Map<String, Object> trackInfo = new HashMap<>();
+                        trackInfo.put("trackNumber", globalTrackNumber++);
+                        trackInfo.put("title", track.get("title"));
+                        Object length = track.get("length");
+                        if (length != null) {
+                            int durationSeconds = ((Number) length).intValue() / 1000;
+                            trackInfo.put("duration", durationSeconds);
+                            trackInfo.put("minutes", durationSeconds / 60);
+                            trackInfo.put("seconds", durationSeconds % 60);
+                        }
+                        tracks.add(trackInfo);
+                    }
+                }
+            }
+        }
+        result.put("tracks", tracks);
+        result.put("trackCount", tracks.size());
+        return result;
+    }
+
+    /**
+     * A release shaped like MusicBrainz's ?inc=recordings+artist-credits output
+     */
+    private static String multiDiscRelease() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"id\":\"b84ee12a-09ef-421b-82de-0441a926375b\",\"title\":\"The Complete Sessions\",")
+                .append("\"status\":\"Official\",\"quality\":\"normal\",\"date\":\"1997-05-21\",\"country\":\"GB\",")
+                .append("\"barcode\":\"724385522925\",\"packaging\":\"Box\",\"disambiguation\":\"\",")
+                .append("\"text-representation\":{\"language\":\"eng\",\"script\":\"Latn\"},")
+                .append("\"cover-art-archive\":{\"artwork\":true,\"count\":12,\"front\":true,\"back\":true,\"darkened\":false},")
+                .append("\"release-events\":[{\"date\":\"1997-05-21\",\"area\":{\"id\":\"8a754a16-0027-3a29-b6d7-2b40ea0481ed\",")
+                .append("\"name\":\"United Kingdom\",\"sort-name\":\"United Kingdom\",\"iso-3166-1-codes\":[\"GB\"]}}],")
+                .append("\"artist-credit\":[{\"name\":\"Radiohead\",\"joinphrase\":\"\",\"artist\":{")
+                .append("\"id\":\"a74b1b7f-71a5-4011-9441-d0b5e4122711\",\"name\":\"Radiohead\",\"sort-name\":\"Radiohead\",")
+                .append("\"disambiguation\":\"\",\"type\":\"Group\",\"genres\":[]}}],\"media\":[");
+        for (int disc = 1; disc <= DISCS; disc++) {
+            if (disc > 1) {
+                json.append(',');
+            }
+            json.append("{\"position\":").append(disc).append(",\"format\":\"CD\",\"title\":\"\",\"track-offset\":0,")
+                    .append("\"track-count\":").append(TRACKS_PER_DISC).append(",\"tracks\":[");
+            for (int track = 1; track <= TRACKS_PER_DISC; track++) {
+                if (track > 1) {
+                    json.append(',');
+                }
+                String title = "Track " + disc + "-" + track + " (Live at Maida Vale)";
+                int length = 120_000 + disc * 1_000 + track * 3_517;
+                json.append("{\"id\":\"").append(String.format("%08x-0000-4000-8000-%012x", disc, track)).append("\",")
+                        .append("\"number\":\"").append(track).append("\",\"position\":").append(track).append(',')
+                        .append("\"title\":\"").append(title).append("\",\"length\":").append(length).append(',')
+                        .append("\"recording\":{\"id\":\"").append(String.format("%08x-1111-4000-8000-%012x", disc, track))
+                        .append("\",\"title\":\"").append(title).append("\",\"length\":").append(length)
+                        .append(",\"video\":false,\"disambiguation\":\"live\",\"first-release-date\":\"1997-05-21\"}}");
+            }
+            json.append("]}");
+        }
+        json.append("]}");
+        return json.toString();
+    }
+}
@@ -0,0 +1,161 @@
+package com.musicreview.controller;
+
+import com.musicreview.service.CoverVariantService;
+import com.musicreview.service.FileStorageService;
+import com.musicreview.storage.LocalBlobStore;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FileControllerTest {
+
+    private static final String HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageService fileStorageService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(uploadDir.resolve("album-covers"));
+        Files.createDirectories(uploadDir.resolve("cover-variants"));
+        Files.writeString(uploadDir.resolve("album-covers/legacy.jpg"), "0123456789");
+        Files.writeString(uploadDir.resolve("cover-variants/" + HASH + "_300.jpg"), "thumbnail");
+
+        fileStorageService = new FileStorageService(new LocalBlobStore(uploadDir),
+                uploadDir.resolve(".staging").toString(), 86400, 100, 40_000_000, 900, false);
+        FileController controller = new FileController(mock(CoverVariantService.class), fileStorageService);
+        ReflectionTestUtils.setField(controller, "avatarMaxEdge", 64);
+        ReflectionTestUtils.setField(controller, "coverMaxEdge", 64);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void contentAddressedFilesAreImmutable() throws Exception {
+        mockMvc.perform(get("/api/files/cover-variants/" + HASH + "_300.jpg"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + HASH + "_300\""))
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(header().string("Content-Type", "image/jpeg"))
+                .andExpect(content().string("thumbnail"));
+    }
+
+    @Test
+    void matchingEtagReturnsNotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/files/album-covers/legacy.jpg"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=86400, public"))
+                .andReturn();
+        String etag = first.getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/files/album-covers/legacy.jpg").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void rangeRequestReturnsPartialContent() throws Exception {
+        mockMvc.perform(get("/api/files/album-covers/legacy.jpg").header("Range", "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    void traversalAttemptsAreNotFound() throws Exception {
+        mockMvc.perform(get("/api/files/album-covers/..%2F..%2Fetc%2Fpasswd"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void identicalUploadsShareOneHashNamedFile() throws Exception {
+        byte[] png = png(32, 32);
+        String first = uploadCover(png);
+        String second = uploadCover(png);
+
+        assertEquals(first, second);
+        try (var files = Files.walk(uploadDir.resolve("album-covers"))) {
+            assertEquals(2, files.filter(Files::isRegularFile).count()); // legacy.jpg + one upload
+        }
+        assertTrue(Files.exists(uploadDir.resolve("album-covers").resolve(first.substring(0, 2))
+                .resolve(first.substring(2, 4)).resolve(first)));
+        try (var staging = Files.list(uploadDir.resolve(".staging"))) {
+            assertEquals(0, staging.count()); // no temp files left behind
+        }
+    }
+
+    @Test
+    void oversizeUploadsAreScaledDown() throws Exception {
+        String filename = uploadCover(png(256, 128));
+
+        BufferedImage stored;
+        try (InputStream input = fileStorageService.open("album-covers", filename)) {
+            stored = ImageIO.read(input);
+        }
+        assertEquals(64, stored.getWidth());
+        assertEquals(32, stored.getHeight());
+    }
+
+    @Test
+    void directUploadsNeedAPresigningStore() throws Exception {
+        mockMvc.perform(post("/api/files/album-cover/upload-url")
+                        .contentType("application/json")
+                        .content("{\"contentType\":\"image/png\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void nonImageUploadsAreRejected() throws Exception {
+        mockMvc.perform(multipart("/api/files/album-cover")
+                        .file(new MockMultipartFile("file", "cover.png", "image/png", "not an image".getBytes())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Only image files are allowed"));
+    }
+
+    private String uploadCover(byte[] content) throws Exception {
+        MvcResult result = mockMvc.perform(multipart("/api/files/album-cover")
+                        .file(new MockMultipartFile("file", "cover.png", "image/png", content)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.filename", matchesPattern("[0-9a-f]{64}\\.png")))
+                .andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.filename");
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            image.setRGB(x, x % height, 0xff3366);
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,99 @@
+package com.musicreview.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoreBoardTest {
+
+    private static final double HALF_LIFE_SECONDS = 72 * 3600;
+    private static final double DECAY_PER_SECOND = Math.log(2) / HALF_LIFE_SECONDS;
+
+    @Test
+    void topIsOrderedByScoreThenId() {
+        ScoreBoard board = new ScoreBoard();
+        board.put(3, 4.0);
+        board.put(1, 2.5);
+        board.put(2, 4.0);
+        board.put(4, 3.0);
+
+        assertEquals(List.of(2L, 3L, 4L, 1L), ids(board.top(10)));
+        assertEquals(List.of(2L, 3L), ids(board.top(2)));
+    }
+
+    @Test
+    void updatingAnIdMovesItWithoutDuplicating() {
+        ScoreBoard board = new ScoreBoard();
+        board.put(1, 1.0);
+        board.put(2, 2.0);
+        board.put(3, 3.0);
+
+        board.put(1, 5.0);
+        board.put(3, 0.5);
+
+        assertEquals(List.of(1L, 2L, 3L), ids(board.top(10)));
+        assertEquals(3, board.size());
+        assertEquals(5.0, board.get(1));
+
+        board.remove(2);
+        assertEquals(List.of(1L, 3L), ids(board.top(10)));
+        assertNull(board.get(2));
+    }
+
+    @Test
+    void replaceAllDropsEntriesMissingFromTheNewScores() {
+        ScoreBoard board = new ScoreBoard();
+        board.put(1, 1.0);
+        board.put(2, 2.0);
+
+        board.replaceAll(Map.of(2L, 0.5, 3L, 1.5));
+
+        assertEquals(List.of(3L, 2L), ids(board.top(10)));
+        assertNull(board.get(1));
+    }
+
+    @Test
+    void logSpaceTrendingScoresFavourRecentActivity() {
+        ScoreBoard board = new ScoreBoard();
+        long start = 0;
+        long oneHalfLifeLater = (long) HALF_LIFE_SECONDS;
+
+        // Weight 3 one half-life ago is worth 1.5 now, so a fresh weight 2 overtakes it
+        board.put(1, logScore(3.0, start));
+        board.put(2, logScore(2.0, oneHalfLifeLater));
+        assertEquals(List.of(2L, 1L), ids(board.top(10)));
+
+        // Weight 5 one half-life ago is worth 2.5 now, still ahead of the fresh 2
+        board.put(3, logScore(5.0, start));
+        assertEquals(List.of(3L, 2L, 1L), ids(board.top(10)));
+
+        // Adding to an older entry in log space combines the decayed weights: 1.5 + 1.5 beats 2.5
+        board.put(1, logAddExp(board.get(1), logScore(1.5, oneHalfLifeLater)));
+        assertEquals(List.of(1L, 3L, 2L), ids(board.top(10)));
+
+        // Scores never need rewriting as time passes: every entry decays by the same offset
+        double now = DECAY_PER_SECOND * (oneHalfLifeLater + 5 * HALF_LIFE_SECONDS);
+        List<ScoreBoard.Entry> top = board.top(10);
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(Math.exp(top.get(i - 1).score() - now) >= Math.exp(top.get(i).score() - now));
+        }
+    }
+
+    private static double logScore(double weight, long atSeconds) {
+        return Math.log(weight) + DECAY_PER_SECOND * atSeconds;
+    }
+
+    private static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log(Math.exp(a - max) + Math.exp(b - max));
+    }
+
+    private static List<Long> ids(List<ScoreBoard.Entry> entries) {
+        return entries.stream().map(ScoreBoard.Entry::id).toList();
+    }
+}
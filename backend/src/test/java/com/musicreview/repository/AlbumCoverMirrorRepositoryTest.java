@@ -0,0 +1,65 @@
+package com.musicreview.repository;
+
+import com.musicreview.entity.Album;
+import com.musicreview.entity.AlbumCoverMirror;
+import com.musicreview.entity.Artist;
+import com.musicreview.repository.projection.PendingCoverMirrorProjection;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class AlbumCoverMirrorRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AlbumCoverMirrorRepository mirrorRepository;
+
+    @Test
+    void attemptsAtAnOldCoverUrlDoNotCountAgainstTheNewOne() {
+        Artist artist = entityManager.persist(Artist.builder().name("Faye Wong").nameInitial("F").build());
+        Long changed = persistAlbum(artist, "Fable", "https://p1.music.126.net/new.jpg");
+        Long retrying = persistAlbum(artist, "Eyes on Me", "https://p1.music.126.net/busy.jpg");
+        Long exhausted = persistAlbum(artist, "Sing and Play", "https://p1.music.126.net/gone.jpg");
+        LocalDateTime lastTry = LocalDateTime.now().minusHours(1);
+        persistMirror(changed, "https://p1.music.126.net/old.jpg", 3, lastTry);
+        persistMirror(retrying, "https://p1.music.126.net/busy.jpg", 1, lastTry);
+        persistMirror(exhausted, "https://p1.music.126.net/gone.jpg", 3, lastTry);
+        entityManager.flush();
+
+        List<PendingCoverMirrorProjection> pending = mirrorRepository.findPending(3, LocalDateTime.now(), 10);
+
+        assertEquals(List.of(changed, retrying), pending.stream().map(PendingCoverMirrorProjection::getAlbumId).toList());
+        assertEquals(List.of(0, 1), pending.stream().map(PendingCoverMirrorProjection::getAttempts).toList());
+    }
+
+    private Long persistAlbum(Artist artist, String title, String coverUrl) {
+        return entityManager.persist(Album.builder()
+                .title(title)
+                .titleInitial(title.substring(0, 1))
+                .artist(artist)
+                .coverUrl(coverUrl)
+                .build()).getId();
+    }
+
+    private void persistMirror(Long albumId, String sourceUrl, int attempts, LocalDateTime updatedAt) {
+        entityManager.persist(AlbumCoverMirror.builder()
+                .albumId(albumId)
+                .sourceUrl(sourceUrl)
+                .status(AlbumCoverMirror.STATUS_FAILED)
+                .attempts(attempts)
+                .updatedAt(updatedAt)
+                .build());
+    }
+}
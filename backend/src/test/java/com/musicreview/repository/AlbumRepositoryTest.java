@@ -0,0 +1,57 @@
+package com.musicreview.repository;
+
+import com.musicreview.dto.album.AlbumResponse;
+import com.musicreview.entity.Album;
+import com.musicreview.entity.Artist;
+import com.musicreview.entity.Genre;
+import com.musicreview.entity.Track;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class AlbumRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Test
+    void detailsOfAMultiGenreAlbumListEachTrackOnce() {
+        Artist artist = entityManager.persist(Artist.builder().name("Slowdive").nameInitial("S").build());
+        Genre shoegaze = entityManager.persist(Genre.builder().name("Shoegaze").build());
+        Genre dreamPop = entityManager.persist(Genre.builder().name("Dream Pop").build());
+        Album album = Album.builder()
+                .title("Souvlaki")
+                .titleInitial("S")
+                .artist(artist)
+                .genres(Set.of(shoegaze, dreamPop))
+                .build();
+        album.setTracks(List.of(
+                Track.builder().album(album).trackNumber(1).title("Alison").duration(230).build(),
+                Track.builder().album(album).trackNumber(2).title("Machine Gun").duration(265).build(),
+                Track.builder().album(album).trackNumber(3).title("40 Days").duration(194).build()));
+        Long albumId = entityManager.persist(album).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        AlbumResponse response = AlbumResponse.fromEntity(albumRepository.findByIdWithDetails(albumId).orElseThrow());
+
+        assertEquals(3, response.getTrackCount());
+        assertEquals(230 + 265 + 194, response.getTotalDuration());
+        assertEquals(List.of("Alison", "Machine Gun", "40 Days"),
+                response.getTracks().stream().map(track -> track.getTitle()).toList());
+        assertEquals(2, response.getGenres().size());
+    }
+}
@@ -0,0 +1,49 @@
+package com.musicreview.repository;
+
+import com.musicreview.entity.GuessBandOnlineRoom;
+import com.musicreview.entity.enums.GuessBandRoomStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class GuessBandOnlineRoomRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private GuessBandOnlineRoomRepository roomRepository;
+
+    @Test
+    void onlyTheFirstFinishChangesTheRoom() {
+        LocalDateTime roundStartedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        GuessBandOnlineRoom room = entityManager.persistFlushFind(GuessBandOnlineRoom.builder()
+                .roomCode("ABC123")
+                .inviteToken("invite-token")
+                .ownerPlayerToken("owner-token")
+                .status(GuessBandRoomStatus.IN_PROGRESS)
+                .roundStartedAt(roundStartedAt)
+                .build());
+        LocalDateTime first = LocalDateTime.of(2024, 1, 1, 12, 5);
+        LocalDateTime second = LocalDateTime.of(2024, 1, 1, 12, 6);
+
+        assertEquals(1, roomRepository.markFinished(room.getId(), GuessBandRoomStatus.FINISHED, first));
+        assertEquals(0, roomRepository.markFinished(room.getId(), GuessBandRoomStatus.FINISHED, second));
+
+        entityManager.clear();
+        GuessBandOnlineRoom finished = entityManager.find(GuessBandOnlineRoom.class, room.getId());
+        assertEquals(GuessBandRoomStatus.FINISHED, finished.getStatus());
+        assertEquals(first, finished.getFinishedAt());
+        assertNull(finished.getRoundStartedAt());
+    }
+}
@@ -0,0 +1,100 @@
+package com.musicreview.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedIndexTest {
+
+    @Test
+    void analyzerFoldsCaseWidthAndAccents() {
+        assertEquals("bjork", TextAnalyzer.normalize("Björk"));
+        assertEquals("bjork", TextAnalyzer.normalize("ＢＪＯＲＫ"));
+        assertEquals(List.of(new TextAnalyzer.Term("ok", false), new TextAnalyzer.Term("computer", false)),
+                TextAnalyzer.queryTerms("OK, Computer!"));
+    }
+
+    @Test
+    void cjkRunsBecomeBigramsAndIndexSideUnigrams() {
+        assertEquals(List.of("七里", "里香", "七", "里", "香"), texts(TextAnalyzer.indexTerms("七里香")));
+        assertEquals(List.of("七里", "里香"), texts(TextAnalyzer.queryTerms("七里香")));
+        assertEquals(List.of("jay", "七里", "里香", "2004"), texts(TextAnalyzer.queryTerms("Jay七里香2004")));
+    }
+
+    @Test
+    void typosWithinEditDistanceStillMatch() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, fields("Radiohead"));
+        index.put(2, fields("Portishead"));
+        index.put(3, fields("Massive Attack"));
+
+        assertEquals(List.of(1L), ids(index.search("radiohaed", 10)));
+        assertEquals(List.of(3L), ids(index.search("masive atack", 10)));
+        // Short words are only matched exactly or as a prefix
+        assertEquals(List.of(), ids(index.search("rad x", 10)));
+    }
+
+    @Test
+    void onlyTheLastQueryTermMatchesAsAPrefix() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, fields("Abbey Road"));
+        index.put(2, fields("Abbey"));
+
+        List<SearchHit> typing = index.search("abbey ro", 10);
+        assertEquals(List.of(1L, 2L), ids(typing));
+
+        // "ro" is no longer the last term, so only "abbey" matches and both documents score alike
+        List<SearchHit> reordered = index.search("ro abbey", 10);
+        assertEquals(reordered.get(0).score(), reordered.get(1).score());
+        assertTrue(typing.get(0).score() > reordered.get(0).score());
+    }
+
+    @Test
+    void cjkQueriesMatchBigramsInOrder() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, fields("晴天"));
+        index.put(2, fields("天晴"));
+        index.put(3, fields("七里香"));
+
+        assertEquals(List.of(1L), ids(index.search("晴天", 10)));
+        assertEquals(List.of(3L), ids(index.search("七里香", 10)));
+        assertEquals(List.of(3L), ids(index.search("香", 10)));
+        assertEquals(List.of(1L, 2L), ids(index.search("晴", 10)));
+    }
+
+    @Test
+    void removalLeavesNoPostingsOrTrigramsBehind() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, fields("Radiohead", "OK Computer"));
+        index.put(2, fields("Portishead", "晴天"));
+        index.put(1, fields("Radiohead", "Kid A"));
+
+        assertEquals(List.of(), ids(index.search("computer", 10)));
+        assertEquals(List.of(1L), ids(index.search("kid", 10)));
+
+        index.remove(1);
+        assertEquals(List.of(2L), ids(index.search("portishead", 10)));
+        assertEquals(List.of(), ids(index.search("radiohead", 10)));
+
+        index.remove(2);
+        assertEquals(0, index.size());
+        assertEquals(0, index.termCount());
+        assertEquals(0, index.trigramCount());
+    }
+
+    private static List<InvertedIndex.Field> fields(String... texts) {
+        return Arrays.stream(texts).map(text -> new InvertedIndex.Field(text, 1f)).toList();
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::id).toList();
+    }
+
+    private static List<String> texts(List<TextAnalyzer.Term> terms) {
+        return terms.stream().map(TextAnalyzer.Term::text).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package com.musicreview.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NGramIndexTest {
+
+    @Test
+    void latinWordsBecomePaddedTrigramsAndCjkRunsBigramsPlusCharacters() {
+        assertEquals(List.of(" ja", "jay", "ay ", "周", "周杰", "杰", "杰伦", "伦", " 20", "200", "004", "04 "),
+                List.copyOf(NGramIndex.grams("Jay周杰伦 2004")));
+    }
+
+    @Test
+    void hitsAreScoredByDiceCoefficient() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, "Creep");
+        index.put(2, "Karma Police");
+
+        // "creep" and "Creep" share all 5 grams
+        assertEquals(List.of(new SearchHit(1, 1f)), index.search("creep", 10));
+        // "police" has 6 grams, "Karma Police" 11, all 6 shared: 2 * 6 / (6 + 11)
+        assertEquals(List.of(new SearchHit(2, 12f / 17)), index.search("police", 10));
+    }
+
+    @Test
+    void documentsMustShareHalfOfTheQueryGrams() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, "Karma Police");
+
+        // "polite" shares " po", "pol", "oli": 3 of 6 grams, exactly the cutoff
+        assertEquals(List.of(new SearchHit(1, 6f / 17)), index.search("polite", 10));
+        // "polar" shares " po", "pol": 2 of 5 grams, below the cutoff
+        assertEquals(List.of(), index.search("polar", 10));
+    }
+
+    @Test
+    void mixedLatinAndCjkQueriesMatchBothRuns() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, "晴天 (Live)");
+        index.put(2, "七里香");
+        index.put(3, "Sunny Day");
+
+        assertEquals(List.of(1L), ids(index.search("晴天 live", 10)));
+        assertEquals(List.of(2L), ids(index.search("里香", 10)));
+        assertEquals(List.of(1L), ids(index.search("晴", 10)));
+    }
+
+    @Test
+    void putReplacesAndRemoveDropsADocument() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, "Creep");
+        index.put(2, "Creep (Acoustic)");
+        index.put(1, "Karma Police");
+
+        assertEquals(List.of(2L), ids(index.search("creep", 10)));
+        assertEquals(List.of(1L), ids(index.search("police", 10)));
+        assertEquals(2, index.size());
+
+        index.remove(1);
+        index.remove(2);
+        assertEquals(List.of(), index.search("police", 10));
+        assertEquals(List.of(), index.search("creep", 10));
+        assertEquals(0, index.size());
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::id).toList();
+    }
+}
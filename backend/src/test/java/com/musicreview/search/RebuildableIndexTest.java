@@ -0,0 +1,69 @@
+package com.musicreview.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RebuildableIndexTest {
+
+    @Test
+    void rebuildSwapsInTheFreshIndex() {
+        RebuildableIndex<NGramIndex> holder = new RebuildableIndex<>(new NGramIndex());
+        holder.update(index -> index.put(1, "Creep"));
+
+        NGramIndex fresh = new NGramIndex();
+        fresh.put(2, "Karma Police");
+        holder.rebuild(() -> fresh);
+
+        assertSame(fresh, holder.get());
+        assertEquals(List.of(), holder.get().search("creep", 10));
+        assertEquals(1, holder.get().size());
+    }
+
+    @Test
+    void writesDuringARebuildAreReplayedOntoTheFreshIndex() {
+        RebuildableIndex<NGramIndex> holder = new RebuildableIndex<>(new NGramIndex());
+        holder.update(index -> index.put(1, "Creep"));
+
+        holder.rebuild(() -> {
+            // The database snapshot was read before these local writes committed
+            NGramIndex fresh = new NGramIndex();
+            fresh.put(1, "Creep");
+            holder.update(index -> index.put(2, "Karma Police"));
+            holder.update(index -> index.remove(1));
+            // Readers keep using the old index until the swap
+            assertEquals(List.of(2L), ids(holder.get().search("police", 10)));
+            return fresh;
+        });
+
+        assertEquals(List.of(2L), ids(holder.get().search("police", 10)));
+        assertEquals(List.of(), holder.get().search("creep", 10));
+
+        // Nothing is replayed by later rebuilds
+        NGramIndex next = new NGramIndex();
+        holder.rebuild(() -> next);
+        assertEquals(0, holder.get().size());
+    }
+
+    @Test
+    void failedRebuildKeepsTheCurrentIndex() {
+        NGramIndex current = new NGramIndex();
+        RebuildableIndex<NGramIndex> holder = new RebuildableIndex<>(current);
+
+        assertThrows(IllegalStateException.class, () -> holder.rebuild(() -> {
+            throw new IllegalStateException("database down");
+        }));
+        holder.update(index -> index.put(1, "Creep"));
+
+        assertSame(current, holder.get());
+        assertEquals(List.of(1L), ids(holder.get().search("creep", 10)));
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::id).toList();
+    }
+}
@@ -0,0 +1,158 @@
+package com.musicreview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicreview.dto.imports.BulkImportReport;
+import com.musicreview.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkImportServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private AuthService authService;
+    private CatalogSearchService catalogSearchService;
+    private TrackSearchService trackSearchService;
+    private BulkImportService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:bulk-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("CREATE TABLE artists (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(100) NOT NULL, "
+                + "name_initial CHAR(1), country VARCHAR(50), formed_year INT, genre VARCHAR(100), "
+                + "description TEXT, photo_url VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE albums (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(200) NOT NULL, "
+                + "title_initial CHAR(1) NOT NULL, artist_id BIGINT NOT NULL REFERENCES artists(id), release_year INT, "
+                + "cover_url VARCHAR(255), description TEXT, created_by BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE genres (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(50) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE tracks (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "album_id BIGINT NOT NULL REFERENCES albums(id), track_number INT NOT NULL, "
+                + "title VARCHAR(200) NOT NULL, duration INT)");
+        jdbcTemplate.execute("CREATE TABLE album_genres (album_id BIGINT NOT NULL REFERENCES albums(id), "
+                + "genre_id BIGINT NOT NULL REFERENCES genres(id), PRIMARY KEY (album_id, genre_id))");
+        jdbcTemplate.update("INSERT INTO genres (name) VALUES ('Rock')");
+
+        authService = mock(AuthService.class);
+        when(authService.getCurrentUser()).thenReturn(User.builder().id(1L).username("Huan").build());
+        catalogSearchService = mock(CatalogSearchService.class);
+        trackSearchService = mock(TrackSearchService.class);
+        service = newService(transactionTemplate, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void duplicatesAcrossBatchesAreSkippedAndBadLinesReported() {
+        BulkImportReport report = service.importNdjson(ndjson(
+                "{\"type\":\"artist\",\"name\":\"Radiohead\",\"country\":\"UK\"}",
+                "{\"artist\":\"Radiohead\",\"title\":\"OK Computer\",\"genres\":[\"Rock\"],"
+                        + "\"tracks\":[{\"trackNumber\":1,\"title\":\"Airbag\"},{\"trackNumber\":2,\"title\":\"Paranoid Android\"}]}",
+                // Second batch repeats the first one with different case and spacing
+                "{\"type\":\"artist\",\"name\":\"radiohead \"}",
+                "{\"artist\":\"Radiohead\",\"title\":\"ok computer\"}",
+                "{\"artist\":\"Portishead\",\"title\":\"Dummy\",\"releaseYear\":\"soon\"}",
+                "{\"artist\":\"Portishead\",\"title\":\"Dummy\",\"tracks\":[{\"trackNumber\":1,\"title\":\"Mysterons\"}]}",
+                "{\"artist\":\"Portishead\",\"title\":\"Third\",\"genres\":[\"Polka\"]}",
+                "{\"title\":\"Nobody's Album\"}",
+                "{\"artist\":\"Massive Attack\",\"title\":\"Mezzanine\"}"));
+
+        assertFalse(report.isAborted());
+        assertEquals(9, report.getRowsRead());
+        assertEquals(3, report.getArtistsCreated());
+        assertEquals(3, report.getAlbumsCreated());
+        assertEquals(3, report.getTracksCreated());
+        assertEquals(2, report.getDuplicatesSkipped());
+        assertEquals(List.of(5L, 7L, 8L), report.getErrors().stream().map(BulkImportReport.RowError::getLine).toList());
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Invalid record"));
+        assertEquals("Genre not found: Polka", report.getErrors().get(1).getMessage());
+        assertEquals("Album artist is required", report.getErrors().get(2).getMessage());
+
+        assertEquals(List.of("Massive Attack", "Portishead", "Radiohead"),
+                jdbcTemplate.queryForList("SELECT name FROM artists ORDER BY name", String.class));
+        assertEquals(List.of("Dummy", "Mezzanine", "OK Computer"),
+                jdbcTemplate.queryForList("SELECT title FROM albums ORDER BY title", String.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tracks", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM album_genres", Integer.class));
+
+        // Search indexes are rebuilt off the request thread
+        verify(catalogSearchService, timeout(5000)).buildIndexes();
+        verify(trackSearchService, timeout(5000)).buildIndex();
+    }
+
+    @Test
+    void truncatedJsonStopsTheImportButKeepsEarlierRecords() {
+        BulkImportReport report = service.importNdjson(ndjson(
+                "{\"artist\":\"Slowdive\",\"title\":\"Souvlaki\"}",
+                "{\"artist\":\"Slowdive\",\"title\":\"Pygmalion\"}",
+                "{\"artist\":\"Slowdive\",\"title\":\"Just for a"));
+
+        assertTrue(report.isAborted());
+        assertEquals(2, report.getAlbumsCreated());
+        assertEquals(1, report.getErrorCount());
+        assertEquals(3, report.getErrors().get(0).getLine());
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Malformed JSON"));
+        assertEquals(List.of("Pygmalion", "Souvlaki"),
+                jdbcTemplate.queryForList("SELECT title FROM albums ORDER BY title", String.class));
+    }
+
+    @Test
+    void readerStopsWhenTheWriterDies() {
+        service.shutdown();
+        service = newService(new TransactionTemplate(transactionTemplate.getTransactionManager()) {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) throws TransactionException {
+                throw new OutOfMemoryError("Java heap space");
+            }
+        }, 1, 1);
+        String[] lines = new String[50];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "{\"artist\":\"Boards of Canada\",\"title\":\"Album " + i + "\"}";
+        }
+
+        BulkImportReport report = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> service.importNdjson(ndjson(lines)));
+
+        assertTrue(report.isAborted());
+        assertTrue(report.getRowsRead() < lines.length);
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Import writer failed"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM albums", Integer.class));
+    }
+
+    private BulkImportService newService(TransactionTemplate transactions, int batchSize, int queueCapacity) {
+        return new BulkImportService(jdbcTemplate, transactions, authService, mock(AlbumCatalogCacheService.class),
+                mock(AlbumStatsService.class), catalogSearchService, trackSearchService, new ObjectMapper(),
+                batchSize, queueCapacity);
+    }
+
+    private static ByteArrayInputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,179 @@
+package com.musicreview.service;
+
+import com.musicreview.client.CoverImageClient;
+import com.musicreview.entity.AlbumCoverMirror;
+import com.musicreview.repository.AlbumCoverMirrorRepository;
+import com.musicreview.repository.AlbumRepository;
+import com.musicreview.repository.CoverVariantRepository;
+import com.musicreview.storage.LocalBlobStore;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoverMirrorServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private String baseUrl;
+    private AlbumCoverMirrorRepository mirrorRepository;
+    private FileStorageService fileStorageService;
+    private CoverVariantService coverVariantService;
+    private CoverMirrorService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        byte[] cover = jpeg(1200, 1200);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            String path = exchange.getRequestURI().getPath();
+            int status = path.contains("busy") ? 503 : path.contains("missing") ? 404 : 200;
+            byte[] body = status == 200 ? cover : new byte[0];
+            exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        mirrorRepository = mock(AlbumCoverMirrorRepository.class);
+        when(mirrorRepository.findFirstBySourceUrlAndStatus(anyString(), anyString())).thenReturn(Optional.empty());
+        fileStorageService = new FileStorageService(new LocalBlobStore(uploadDir),
+                uploadDir.resolve(".staging").toString(), 86400, 100, 40_000_000, 900, false);
+        coverVariantService = new CoverVariantService(mock(CoverVariantRepository.class), mock(AlbumRepository.class),
+                fileStorageService, 1, 10, 0.85f);
+        service = new CoverMirrorService(mirrorRepository, new CoverImageClient(50, 5_000_000, 5000),
+                fileStorageService, coverVariantService, mock(AuthService.class),
+                true, "^http://127\\.0\\.0\\.1:", 1, 10, 3, 60, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        coverVariantService.shutdown();
+        service.shutdown();
+    }
+
+    @Test
+    void mirrorsRemoteCoverAndExposesVariants() throws IOException {
+        String coverUrl = baseUrl + "/p1/cover.jpg";
+
+        service.mirror(1L, coverUrl, 0);
+
+        AlbumCoverMirror saved = lastSaved();
+        assertEquals(AlbumCoverMirror.STATUS_MIRRORED, saved.getStatus());
+        assertTrue(saved.getLocalUrl().matches("/api/files/album-covers/[0-9a-f]{64}\\.jpg"));
+        FileStorageService.StoredFile stored = fileStorageService.find("album-covers",
+                saved.getLocalUrl().substring("/api/files/album-covers/".length()));
+        try (InputStream input = stored.resource().getInputStream()) {
+            assertEquals(1000, ImageIO.read(input).getWidth());
+        }
+
+        String thumbUrl = coverVariantService.variantUrl(coverUrl, CoverVariantService.THUMB_SIZE);
+        assertNotNull(thumbUrl);
+        FileStorageService.StoredFile thumb = fileStorageService.find("cover-variants",
+                thumbUrl.substring(CoverVariantService.VARIANT_URL_PREFIX.length()));
+        try (InputStream input = thumb.resource().getInputStream()) {
+            assertEquals(300, ImageIO.read(input).getWidth());
+        }
+        assertTrue(thumb.resource().contentLength() < stored.resource().contentLength());
+    }
+
+    @Test
+    void sharedCoverIsDownloadedOnce() {
+        String coverUrl = baseUrl + "/p1/shared.jpg";
+        service.mirror(1L, coverUrl, 0);
+        AlbumCoverMirror first = lastSaved();
+        when(mirrorRepository.findFirstBySourceUrlAndStatus(coverUrl, AlbumCoverMirror.STATUS_MIRRORED))
+                .thenReturn(Optional.of(first));
+
+        service.mirror(2L, coverUrl, 0);
+
+        assertEquals(1, hits.get());
+        AlbumCoverMirror second = lastSaved();
+        assertEquals(2L, second.getAlbumId());
+        assertEquals(first.getLocalUrl(), second.getLocalUrl());
+    }
+
+    @Test
+    void failuresAreRecordedPerAlbum() {
+        service.mirror(1L, baseUrl + "/busy.jpg", 0);
+        AlbumCoverMirror retryable = lastSaved();
+        assertEquals(AlbumCoverMirror.STATUS_FAILED, retryable.getStatus());
+        assertEquals(1, retryable.getAttempts());
+
+        service.mirror(2L, baseUrl + "/missing.jpg", 0);
+        AlbumCoverMirror permanent = lastSaved();
+        assertEquals(AlbumCoverMirror.STATUS_FAILED, permanent.getStatus());
+        assertEquals(3, permanent.getAttempts()); // 404 is not retried
+    }
+
+    @Test
+    void changedCoverIsMirroredAfterTheOldOneRanOutOfAttempts() {
+        service.mirror(1L, baseUrl + "/busy.jpg", 2);
+        AlbumCoverMirror exhausted = lastSaved();
+        assertEquals(AlbumCoverMirror.STATUS_FAILED, exhausted.getStatus());
+        assertEquals(3, exhausted.getAttempts());
+
+        // findPending reports 0 attempts once the album's cover_url no longer matches source_url
+        service.mirror(1L, baseUrl + "/p2/cover.jpg", 0);
+
+        AlbumCoverMirror mirrored = lastSaved();
+        assertEquals(AlbumCoverMirror.STATUS_MIRRORED, mirrored.getStatus());
+        assertEquals(baseUrl + "/p2/cover.jpg", mirrored.getSourceUrl());
+        assertEquals(1, mirrored.getAttempts());
+    }
+
+    @Test
+    void otherHostsAreSkippedWithoutDownloading() {
+        service.mirror(1L, "https://example.com/cover.jpg", 0);
+
+        assertEquals(AlbumCoverMirror.STATUS_SKIPPED, lastSaved().getStatus());
+        assertEquals(0, hits.get());
+    }
+
+    private AlbumCoverMirror lastSaved() {
+        ArgumentCaptor<AlbumCoverMirror> captor = ArgumentCaptor.forClass(AlbumCoverMirror.class);
+        verify(mirrorRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 7) ^ (y * 13));
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,201 @@
+package com.musicreview.service;
+
+import com.musicreview.client.UpstreamException;
+import com.musicreview.dto.imports.ImportJobRequest;
+import com.musicreview.dto.imports.ImportJobResponse;
+import com.musicreview.dto.imports.ImportedAlbumResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ImportJobServiceTest {
+
+    private static final Set<String> FINISHED = Set.of("SUCCEEDED", "FAILED", "CANCELLED");
+
+    private final ImportService importService = mock(ImportService.class);
+    private ImportJobService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void retryableFailureIsRetriedUntilItSucceeds() throws InterruptedException {
+        service = new ImportJobService(importService, 2, 10, 3, 20, 60);
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new UpstreamException("MusicBrainz returned 503", true);
+            }
+            return album("mbid-1");
+        }).when(importService).getMusicBrainzRelease("mbid-1");
+
+        ImportJobResponse job = awaitFinished(service.submit(musicBrainz("mbid-1")).getId());
+
+        assertEquals("SUCCEEDED", job.getStatus());
+        assertEquals(2, job.getAttempts());
+        assertEquals("mbid-1", job.getResult().getMbid());
+        assertNull(job.getError());
+        assertEquals(0, service.pendingCount());
+    }
+
+    @Test
+    void retriesStopAtMaxAttemptsAndPermanentFailuresAreNotRetried() throws InterruptedException {
+        service = new ImportJobService(importService, 2, 10, 3, 1, 60);
+        doAnswer(invocation -> {
+            throw new UpstreamException("MusicBrainz returned 503", true);
+        }).when(importService).getMusicBrainzRelease("busy");
+        doAnswer(invocation -> {
+            throw new UpstreamException("MusicBrainz returned 404", false);
+        }).when(importService).getMusicBrainzRelease("missing");
+
+        ImportJobResponse busy = awaitFinished(service.submit(musicBrainz("busy")).getId());
+        ImportJobResponse missing = awaitFinished(service.submit(musicBrainz("missing")).getId());
+
+        assertEquals("FAILED", busy.getStatus());
+        assertEquals(3, busy.getAttempts());
+        assertEquals("FAILED", missing.getStatus());
+        assertEquals(1, missing.getAttempts());
+        assertEquals(0, service.pendingCount());
+    }
+
+    @Test
+    void cancelWhileRetryingDropsTheScheduledRetry() throws InterruptedException {
+        service = new ImportJobService(importService, 2, 10, 3, 60_000, 60);
+        doAnswer(invocation -> {
+            throw new UpstreamException("MusicBrainz returned 503", true);
+        }).when(importService).getMusicBrainzRelease("mbid-1");
+
+        String id = service.submit(musicBrainz("mbid-1")).getId();
+        awaitStatus(id, "RETRYING");
+        assertEquals(1, service.pendingCount());
+
+        assertEquals("CANCELLED", service.cancel(id).getStatus());
+        assertEquals(0, service.pendingCount());
+        // A second cancel must not release the slot again
+        assertEquals("CANCELLED", service.cancel(id).getStatus());
+        assertEquals(0, service.pendingCount());
+        verify(importService, times(1)).getMusicBrainzRelease("mbid-1");
+    }
+
+    @Test
+    void cancelWhileRunningWinsOverTheLateResult() throws InterruptedException {
+        service = new ImportJobService(importService, 1, 10, 3, 20, 60);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return album("slow");
+        }).when(importService).getMusicBrainzRelease("slow");
+
+        String running = service.submit(musicBrainz("slow")).getId();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // The only worker is busy, so this one stays queued
+        String queued = service.submit(musicBrainz("queued")).getId();
+        assertEquals(2, service.pendingCount());
+
+        assertEquals("CANCELLED", service.cancel(queued).getStatus());
+        assertEquals("CANCELLED", service.cancel(running).getStatus());
+        release.countDown();
+
+        assertEquals(0, service.pendingCount());
+        assertEquals("CANCELLED", awaitFinished(running).getStatus());
+        assertNull(service.getJob(running).getResult());
+        verify(importService, never()).getMusicBrainzRelease("queued");
+        assertEquals(0, service.pendingCount());
+    }
+
+    @Test
+    void pendingReturnsToZeroWhenCancelsRaceWithAttempts() throws InterruptedException {
+        service = new ImportJobService(importService, 4, 1000, 3, 1, 60);
+        doAnswer(invocation -> {
+            if (ThreadLocalRandom.current().nextBoolean()) {
+                throw new UpstreamException("MusicBrainz returned 503", true);
+            }
+            return album(invocation.getArgument(0));
+        }).when(importService).getMusicBrainzRelease(anyString());
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(service.submit(musicBrainz("mbid-" + i)).getId());
+            if (i % 2 == 0) {
+                service.cancel(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+            }
+        }
+        for (String id : ids) {
+            awaitFinished(id);
+        }
+
+        assertEquals(0, service.pendingCount());
+    }
+
+    @Test
+    void submitIsRejectedOnceMaxPendingIsReached() throws InterruptedException {
+        service = new ImportJobService(importService, 1, 1, 3, 20, 60);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return album("slow");
+        }).when(importService).getMusicBrainzRelease("slow");
+
+        String first = service.submit(musicBrainz("slow")).getId();
+        assertThrows(IllegalStateException.class, () -> service.submit(musicBrainz("slow")));
+        release.countDown();
+        awaitFinished(first);
+
+        // The finished job gave its slot back
+        assertEquals(0, service.pendingCount());
+        assertEquals("SUCCEEDED", awaitFinished(service.submit(musicBrainz("slow")).getId()).getStatus());
+    }
+
+    private ImportJobResponse awaitFinished(String id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            ImportJobResponse job = service.getJob(id);
+            if (FINISHED.contains(job.getStatus())) {
+                return job;
+            }
+            Thread.sleep(5);
+        }
+        return fail("Job " + id + " did not finish: " + service.getJob(id).getStatus());
+    }
+
+    private void awaitStatus(String id, String status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!status.equals(service.getJob(id).getStatus())) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Job " + id + " never reached " + status + ": " + service.getJob(id).getStatus());
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static ImportJobRequest musicBrainz(String mbid) {
+        return new ImportJobRequest(ImportJobService.SOURCE_MUSICBRAINZ, mbid, null);
+    }
+
+    private static ImportedAlbumResponse album(String mbid) {
+        return ImportedAlbumResponse.builder().mbid(mbid).build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.musicreview.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musicreview.controller.NotificationController;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class NotificationStreamServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private NotificationStreamService streamService;
+    private NotificationService notificationService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+        doAnswer(invocation -> {
+            ((Consumer<MeterRegistry>) invocation.getArgument(0)).accept(registry);
+            return null;
+        }).when(meterRegistryProvider).ifAvailable(any());
+        streamService = new NotificationStreamService(new ObjectMapper(),
+                mock(ObjectProvider.class), mock(ObjectProvider.class), meterRegistryProvider,
+                false, "notifications:events", 60_000, 2, 1, 10);
+        notificationService = mock(NotificationService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new NotificationController(notificationService)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    void eventsReachOnlyTheTargetedUsers() throws Exception {
+        MvcResult seven = open(7L);
+        MvcResult eight = open(8L);
+        MvcResult twenty = open(20L);
+
+        streamService.publishToUser(7L, NotificationStreamService.EVENT_NOTIFICATION, Map.of("title", "reply"));
+        streamService.publishToRange(7, 10, NotificationStreamService.EVENT_NOTIFICATION, Map.of("title", "announcement"));
+
+        waitFor(() -> body(eight).contains("announcement") && body(seven).contains("reply"));
+        assertFalse(body(seven).contains("announcement"));
+        assertFalse(body(twenty).contains("event:notification"));
+        assertTrue(body(eight).contains("event:notification"));
+        assertEquals(3.0, registry.get("notifications.stream.connections").gauge().value());
+        assertEquals(2, registry.get("notifications.stream.fanout.latency").timer().count());
+    }
+
+    @Test
+    void oldestStreamIsClosedPastThePerUserLimit() throws Exception {
+        open(7L);
+        open(7L);
+        open(7L);
+
+        assertEquals(2, streamService.getConnectionCount());
+    }
+
+    @Test
+    void heartbeatsReachOpenStreams() throws Exception {
+        MvcResult seven = open(7L);
+
+        streamService.sendHeartbeats();
+
+        waitFor(() -> body(seven).contains(":ping"));
+    }
+
+    private MvcResult open(Long userId) throws Exception {
+        doAnswer(invocation -> streamService.subscribe(userId)).when(notificationService).openStream();
+        return mockMvc.perform(get("/api/notifications/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static String body(MvcResult result) {
+        try {
+            return result.getResponse().getContentAsString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
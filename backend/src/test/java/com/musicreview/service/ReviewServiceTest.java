@@ -0,0 +1,75 @@
+package com.musicreview.service;
+
+import com.musicreview.dto.reply.ReplyResponse;
+import com.musicreview.dto.review.ReviewResponse;
+import com.musicreview.dto.review.ReviewThreadResponse;
+import com.musicreview.repository.AlbumRepository;
+import com.musicreview.repository.ReviewReplyRepository;
+import com.musicreview.repository.ReviewRepository;
+import com.musicreview.repository.projection.ReplyPreviewProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReviewServiceTest {
+
+    private ReviewRepository reviewRepository;
+    private ReviewReplyRepository replyRepository;
+    private ReviewService service;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = mock(ReviewRepository.class);
+        replyRepository = mock(ReviewReplyRepository.class);
+        service = new ReviewService(reviewRepository, mock(AlbumRepository.class), mock(AuthService.class),
+                mock(AlbumStatsService.class), replyRepository, mock(UserStatsService.class));
+        when(reviewRepository.findReviewResponsesByAlbumId(any(), any())).thenReturn(new PageImpl<>(List.of(
+                ReviewResponse.builder().id(1L).build(),
+                ReviewResponse.builder().id(2L).build())));
+    }
+
+    @Test
+    void repliesOfTheWholePageAreLoadedInOneQuery() {
+        List<ReplyPreviewProjection> rows = List.of(preview(10L, 1L, 5L), preview(11L, 1L, 5L));
+        when(replyRepository.findPreviewsByReviewIds(List.of(1L, 2L), 2)).thenReturn(rows);
+
+        List<ReviewThreadResponse> threads = service.getReviewThreadsByAlbum(7L, PageRequest.of(0, 20), 2).getContent();
+
+        assertEquals(5, threads.get(0).getReplyCount());
+        assertEquals(List.of(10L, 11L), threads.get(0).getReplies().stream().map(ReplyResponse::getId).toList());
+        assertEquals(0, threads.get(1).getReplyCount());
+        assertTrue(threads.get(1).getReplies().isEmpty());
+        verify(replyRepository, times(1)).findPreviewsByReviewIds(any(), anyInt());
+    }
+
+    @Test
+    void zeroRepliesStillReportsCounts() {
+        List<ReplyPreviewProjection> rows = List.of(preview(10L, 2L, 3L));
+        when(replyRepository.findPreviewsByReviewIds(List.of(1L, 2L), 0)).thenReturn(rows);
+
+        List<ReviewThreadResponse> threads = service.getReviewThreadsByAlbum(7L, PageRequest.of(0, 20), 0).getContent();
+
+        assertEquals(3, threads.get(1).getReplyCount());
+        assertTrue(threads.get(1).getReplies().isEmpty());
+    }
+
+    private static ReplyPreviewProjection preview(Long id, Long reviewId, Long replyCount) {
+        ReplyPreviewProjection row = mock(ReplyPreviewProjection.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getReviewId()).thenReturn(reviewId);
+        when(row.getReplyCount()).thenReturn(replyCount);
+        return row;
+    }
+}
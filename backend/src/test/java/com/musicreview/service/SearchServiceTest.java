@@ -0,0 +1,100 @@
+package com.musicreview.service;
+
+import com.musicreview.dto.album.AlbumResponse;
+import com.musicreview.dto.search.SearchResponse;
+import com.musicreview.dto.search.SearchResultItem;
+import com.musicreview.dto.track.TrackSummaryResponse;
+import com.musicreview.entity.Artist;
+import com.musicreview.repository.AlbumRepository;
+import com.musicreview.repository.ArtistRepository;
+import com.musicreview.search.SearchHit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchServiceTest {
+
+    private CatalogSearchService catalogSearchService;
+    private AlbumRepository albumRepository;
+    private ArtistRepository artistRepository;
+    private TrackSearchService trackSearchService;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        catalogSearchService = mock(CatalogSearchService.class);
+        albumRepository = mock(AlbumRepository.class);
+        artistRepository = mock(ArtistRepository.class);
+        trackSearchService = mock(TrackSearchService.class);
+        searchService = new SearchService(catalogSearchService, mock(BlogSearchService.class),
+                albumRepository, artistRepository, trackSearchService, 2000, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchService.shutdown();
+    }
+
+    @Test
+    void catalogSourcesFallBackToTheDatabaseWhileTheIndexBuilds() {
+        when(catalogSearchService.isReady()).thenReturn(false);
+        when(albumRepository.findAlbumSummariesByTitleContaining(eq("blue"), any(Pageable.class)))
+                .thenReturn(List.of(album(1L, "Blue"), album(2L, "Blue Train")));
+        when(artistRepository.findByNameContainingIgnoreCase(eq("blue"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(artist(5L, "Blue Nile"))));
+
+        SearchResponse response = searchService.search("blue", Set.of(SearchService.TYPE_ALBUM, SearchService.TYPE_ARTIST), 10);
+
+        assertEquals(List.of("album:1", "artist:5", "album:2"), keys(response.getItems()));
+        assertEquals(Set.of(SearchService.TYPE_ALBUM, SearchService.TYPE_ARTIST), Set.copyOf(response.getDegradedSources()));
+        verify(catalogSearchService, never()).searchAlbums(any(), anyInt());
+    }
+
+    @Test
+    void sourcesAreMergedByRankNotByRawScore() {
+        when(catalogSearchService.isReady()).thenReturn(true);
+        when(trackSearchService.isReady()).thenReturn(true);
+        // Album scores are idf-weighted and far larger than track similarities in [0, 1]
+        when(catalogSearchService.searchAlbums(eq("blue"), anyInt()))
+                .thenReturn(List.of(new SearchHit(1L, 42f), new SearchHit(2L, 40f)));
+        when(albumRepository.findAlbumSummariesByIdIn(any()))
+                .thenReturn(List.of(album(1L, "Blue"), album(2L, "Blue Train")));
+        when(trackSearchService.searchHits(eq("blue"), anyInt())).thenReturn(List.of(new SearchHit(9L, 0.9f)));
+        when(trackSearchService.getTrack(9L)).thenReturn(TrackSummaryResponse.builder()
+                .id(9L).title("Blue in Green").artistName("Miles Davis").albumTitle("Kind of Blue").build());
+
+        SearchResponse response = searchService.search("blue", Set.of(SearchService.TYPE_ALBUM, SearchService.TYPE_TRACK), 10);
+
+        assertEquals(List.of("album:1", "track:9", "album:2"), keys(response.getItems()));
+        assertEquals(List.of(), response.getDegradedSources());
+    }
+
+    private static List<String> keys(List<SearchResultItem> items) {
+        return items.stream().map(item -> item.getType() + ":" + item.getId()).toList();
+    }
+
+    private static AlbumResponse album(Long id, String title) {
+        return new AlbumResponse(id, title, title.substring(0, 1), 1959, null, 5L, "Artist");
+    }
+
+    private static Artist artist(Long id, String name) {
+        Artist artist = new Artist();
+        artist.setId(id);
+        artist.setName(name);
+        return artist;
+    }
+}
@@ -0,0 +1,77 @@
+package com.musicreview.service;
+
+import com.musicreview.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UnreadCounterServiceTest {
+
+    private NotificationRepository notificationRepository;
+    private UnreadCounterService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        ObjectProvider<StringRedisTemplate> noRedis = mock(ObjectProvider.class);
+        service = new UnreadCounterService(notificationRepository, noRedis, false, 600, 100);
+    }
+
+    @Test
+    void countIsLoadedOnceThenKeptCurrentWithDeltas() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(3L);
+
+        assertEquals(3, service.getUnreadCount(7L));
+        service.applyDelta(7L, 1);
+        service.applyDelta(7L, -2);
+
+        assertEquals(2, service.getUnreadCount(7L));
+        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalse(7L);
+    }
+
+    @Test
+    void invalidatedCountersAreRecounted() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(3L, 0L);
+        when(notificationRepository.countByUserIdAndIsReadFalse(8L)).thenReturn(5L, 6L);
+        service.getUnreadCount(7L);
+        service.getUnreadCount(8L);
+
+        service.invalidate(7L);
+        service.invalidateRange(7, 8);
+
+        assertEquals(0, service.getUnreadCount(7L));
+        assertEquals(6, service.getUnreadCount(8L));
+    }
+
+    @Test
+    void driftBelowZeroForcesRecount() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenReturn(0L, 1L);
+        service.getUnreadCount(7L);
+
+        service.applyDelta(7L, -1);
+
+        assertEquals(1, service.getUnreadCount(7L));
+    }
+
+    @Test
+    void countRacingAnInvalidationIsNotCached() {
+        // Mark all read commits while the first COUNT is still running
+        when(notificationRepository.countByUserIdAndIsReadFalse(7L)).thenAnswer(invocation -> {
+            service.invalidate(7L);
+            return 3L;
+        }).thenReturn(0L);
+
+        assertEquals(3, service.getUnreadCount(7L));
+        assertEquals(0, service.getUnreadCount(7L));
+        assertEquals(0, service.getUnreadCount(7L));
+        verify(notificationRepository, times(2)).countByUserIdAndIsReadFalse(7L);
+    }
+}
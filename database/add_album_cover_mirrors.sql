@@ -0,0 +1,13 @@
+USE music_review;
+
+CREATE TABLE IF NOT EXISTS album_cover_mirrors (
+    album_id BIGINT PRIMARY KEY,
+    source_url VARCHAR(255) NOT NULL,
+    local_url VARCHAR(255) NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    error VARCHAR(255) NULL,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (album_id) REFERENCES albums(id) ON DELETE CASCADE,
+    INDEX idx_album_cover_mirrors_status (status, updated_at)
+) COMMENT '专辑远程封面镜像表(每张专辑的下载进度与失败原因)';
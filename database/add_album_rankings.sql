@@ -0,0 +1,8 @@
+USE music_review;
+
+CREATE TABLE IF NOT EXISTS album_rankings (
+    album_id BIGINT PRIMARY KEY,
+    trending_log_score DOUBLE NOT NULL,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (album_id) REFERENCES albums(id) ON DELETE CASCADE
+) COMMENT '专辑热度表(趋势分数定期落盘)';
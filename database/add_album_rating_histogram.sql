@@ -0,0 +1,16 @@
+USE music_review;
+
+CREATE TABLE IF NOT EXISTS album_rating_buckets (
+    album_id BIGINT NOT NULL,
+    bucket TINYINT NOT NULL,
+    review_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (album_id, bucket),
+    FOREIGN KEY (album_id) REFERENCES albums(id) ON DELETE CASCADE
+) COMMENT '专辑评分分布表(半星一档)';
+
+INSERT INTO album_rating_buckets (album_id, bucket, review_count)
+SELECT album_id, LEAST(10, GREATEST(0, ROUND(rating * 2))), COUNT(*)
+FROM reviews
+WHERE rating IS NOT NULL
+GROUP BY album_id, LEAST(10, GREATEST(0, ROUND(rating * 2)))
+ON DUPLICATE KEY UPDATE review_count = VALUES(review_count);
@@ -0,0 +1,34 @@
+USE music_review;
+
+CREATE TABLE IF NOT EXISTS album_stats (
+    album_id BIGINT PRIMARY KEY,
+    review_count INT NOT NULL DEFAULT 0,
+    rated_count INT NOT NULL DEFAULT 0,
+    rating_sum DECIMAL(12,1) NOT NULL DEFAULT 0,
+    favorite_count INT NOT NULL DEFAULT 0,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (album_id) REFERENCES albums(id) ON DELETE CASCADE
+) COMMENT '专辑统计表(评论数/评分和/收藏数)';
+
+INSERT INTO album_stats (album_id, review_count, rated_count, rating_sum, favorite_count)
+SELECT a.id,
+       COALESCE(r.review_count, 0),
+       COALESCE(r.rated_count, 0),
+       COALESCE(r.rating_sum, 0),
+       COALESCE(f.favorite_count, 0)
+FROM albums a
+LEFT JOIN (
+    SELECT album_id, COUNT(*) AS review_count, COUNT(rating) AS rated_count, SUM(rating) AS rating_sum
+    FROM reviews
+    GROUP BY album_id
+) r ON r.album_id = a.id
+LEFT JOIN (
+    SELECT album_id, COUNT(*) AS favorite_count
+    FROM favorites
+    GROUP BY album_id
+) f ON f.album_id = a.id
+ON DUPLICATE KEY UPDATE
+    review_count = VALUES(review_count),
+    rated_count = VALUES(rated_count),
+    rating_sum = VALUES(rating_sum),
+    favorite_count = VALUES(favorite_count);
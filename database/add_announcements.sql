@@ -0,0 +1,17 @@
+USE music_review;
+
+CREATE TABLE IF NOT EXISTS announcements (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    sender_user_id BIGINT NULL,
+    title VARCHAR(200) NOT NULL,
+    content TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    max_user_id BIGINT NOT NULL,
+    last_user_id BIGINT NOT NULL DEFAULT 0,
+    delivered_count INT NOT NULL DEFAULT 0,
+    locked_until DATETIME NULL,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    completed_at DATETIME NULL,
+    FOREIGN KEY (sender_user_id) REFERENCES users(id) ON DELETE SET NULL,
+    INDEX idx_announcements_status (status)
+) COMMENT '公告表(发布时写入一次, 后台按用户ID分批写入通知)';
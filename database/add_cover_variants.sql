@@ -0,0 +1,10 @@
+USE music_review;
+
+CREATE TABLE IF NOT EXISTS cover_variants (
+    source_url VARCHAR(255) PRIMARY KEY,
+    content_hash CHAR(64) NULL,
+    format VARCHAR(10) NULL,
+    status VARCHAR(20) NOT NULL,
+    error VARCHAR(255) NULL,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP
+) COMMENT '封面缩略图表(300/600px 变体, 按源文件哈希命名)';
@@ -0,0 +1,6 @@
+USE music_review;
+
+-- Keyset feeds seek on (created_at, id) DESC; these indexes keep every page a short range scan.
+CREATE INDEX idx_albums_created_id ON albums(created_at, id);
+CREATE INDEX idx_reviews_created_id ON reviews(created_at, id);
+CREATE INDEX idx_blog_posts_created_id ON blog_posts(created_at, id);
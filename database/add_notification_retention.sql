@@ -0,0 +1,23 @@
+USE music_review;
+
+-- Per-user notification pages filter on user_id and sort by created_at (id breaks ties and is carried
+-- by every InnoDB secondary index), so the page and its count are read from this index without a filesort.
+-- It also serves the user_id foreign key, so the single-column index can go once it exists.
+CREATE INDEX idx_notifications_user_created ON notifications(user_id, created_at);
+DROP INDEX idx_notifications_user ON notifications;
+
+-- Read notifications past the retention period are moved here when app.notifications.retention.archive=true
+CREATE TABLE IF NOT EXISTS notifications_archive (
+    id BIGINT PRIMARY KEY COMMENT '原通知ID',
+    user_id BIGINT NOT NULL COMMENT '接收通知用户ID',
+    sender_user_id BIGINT COMMENT '发送者用户ID',
+    type VARCHAR(30) NOT NULL COMMENT '通知类型: BLOG_REPLY/ANNOUNCEMENT',
+    title VARCHAR(200) NOT NULL COMMENT '标题',
+    content TEXT NOT NULL COMMENT '通知内容',
+    related_blog_post_id BIGINT COMMENT '关联博客文章ID',
+    related_blog_reply_id BIGINT COMMENT '关联博客回复ID',
+    created_at DATETIME COMMENT '创建时间',
+    archived_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '归档时间',
+
+    INDEX idx_notifications_archive_user_created (user_id, created_at)
+) COMMENT '通知归档表';
@@ -0,0 +1,6 @@
+USE music_review;
+
+-- Bulk state changes (mark all read, mark read up to id, delete read older than N days) filter on
+-- user_id + is_read (+ created_at); InnoDB secondary indexes carry the id, so one index covers all three.
+DROP INDEX idx_notifications_unread ON notifications;
+CREATE INDEX idx_notifications_unread ON notifications(user_id, is_read, created_at);
@@ -0,0 +1,6 @@
+USE music_review;
+
+-- The album page loads reply previews for a whole page of reviews in one window-function query,
+-- partitioned by review_id and ordered by created_at; this index serves it and the review_id foreign key.
+CREATE INDEX idx_replies_review_created ON review_replies(review_id, created_at);
+DROP INDEX idx_replies_review ON review_replies;
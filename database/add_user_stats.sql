@@ -0,0 +1,37 @@
+USE music_review;
+
+CREATE TABLE IF NOT EXISTS user_stats (
+    user_id BIGINT PRIMARY KEY,
+    review_count INT NOT NULL DEFAULT 0,
+    favorite_count INT NOT NULL DEFAULT 0,
+    blog_post_count INT NOT NULL DEFAULT 0,
+    guess_band_wins INT NOT NULL DEFAULT 0,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) COMMENT '用户统计表(评论数/收藏数/博客数/猜乐队胜场)';
+
+-- A finished room is won by the only player holding the top score
+INSERT INTO user_stats (user_id, review_count, favorite_count, blog_post_count, guess_band_wins)
+SELECT u.id,
+       COALESCE(r.review_count, 0),
+       COALESCE(f.favorite_count, 0),
+       COALESCE(b.blog_post_count, 0),
+       COALESCE(w.wins, 0)
+FROM users u
+LEFT JOIN (SELECT user_id, COUNT(*) AS review_count FROM reviews GROUP BY user_id) r ON r.user_id = u.id
+LEFT JOIN (SELECT user_id, COUNT(*) AS favorite_count FROM favorites GROUP BY user_id) f ON f.user_id = u.id
+LEFT JOIN (SELECT user_id, COUNT(*) AS blog_post_count FROM blog_posts GROUP BY user_id) b ON b.user_id = u.id
+LEFT JOIN (
+    SELECT p.user_id, COUNT(*) AS wins
+    FROM guess_band_online_players p
+    JOIN guess_band_online_rooms room ON room.id = p.room_id
+    WHERE p.user_id IS NOT NULL AND room.status = 'FINISHED' AND p.score IS NOT NULL
+      AND NOT EXISTS (SELECT 1 FROM guess_band_online_players o
+                      WHERE o.room_id = p.room_id AND o.id <> p.id AND o.score >= p.score)
+    GROUP BY p.user_id
+) w ON w.user_id = u.id
+ON DUPLICATE KEY UPDATE
+    review_count = VALUES(review_count),
+    favorite_count = VALUES(favorite_count),
+    blog_post_count = VALUES(blog_post_count),
+    guess_band_wins = VALUES(guess_band_wins);
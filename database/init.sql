@@ -74,6 +74,7 @@ CREATE TABLE albums (
 
 CREATE INDEX idx_albums_initial ON albums(title_initial);
 CREATE INDEX idx_albums_artist ON albums(artist_id);
+CREATE INDEX idx_albums_created_id ON albums(created_at, id);
 
 -- =====================================================
 -- 5. 专辑-流派关联表 (多对多)
@@ -133,6 +134,8 @@ CREATE TABLE reviews (
     FOREIGN KEY (album_id) REFERENCES albums(id) ON DELETE CASCADE
 ) COMMENT '评论表';
 
+CREATE INDEX idx_reviews_created_id ON reviews(created_at, id);
+
 -- =====================================================
 -- 9. 评论回复表
 -- =====================================================
@@ -148,7 +151,8 @@ CREATE TABLE review_replies (
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
 ) COMMENT '评论回复表';
 
-CREATE INDEX idx_replies_review ON review_replies(review_id);
+-- 按评论取回复 (专辑页批量预览按 review_id 分区、created_at 排序)
+CREATE INDEX idx_replies_review_created ON review_replies(review_id, created_at);
 
 -- =====================================================
 -- 10. 博客文章表
@@ -168,6 +172,7 @@ CREATE TABLE blog_posts (
 
 CREATE INDEX idx_blog_posts_user ON blog_posts(user_id);
 CREATE INDEX idx_blog_posts_album ON blog_posts(album_id);
+CREATE INDEX idx_blog_posts_created_id ON blog_posts(created_at, id);
 
 -- =====================================================
 -- 11. 博客回复表
@@ -205,8 +210,10 @@ CREATE TABLE notifications (
     FOREIGN KEY (sender_user_id) REFERENCES users(id) ON DELETE SET NULL
 ) COMMENT '消息通知表';
 
-CREATE INDEX idx_notifications_user ON notifications(user_id);
-CREATE INDEX idx_notifications_unread ON notifications(user_id, is_read);
+-- 个人通知列表按时间倒序分页 (也作为 user_id 外键索引)
+CREATE INDEX idx_notifications_user_created ON notifications(user_id, created_at);
+-- 未读计数、批量标记已读、清理旧的已读通知都走该索引
+CREATE INDEX idx_notifications_unread ON notifications(user_id, is_read, created_at);
 
 -- =====================================================
 -- 13. 猜乐队自选题库
@@ -337,6 +344,123 @@ CREATE INDEX idx_events_type_time ON events(event_type, created_at);
 CREATE INDEX idx_events_page_time ON events(page, created_at);
 CREATE INDEX idx_events_user_time ON events(user_id, created_at);
 
+-- =====================================================
+-- 16. 专辑统计表 (评论/评分/收藏计数，增量维护)
+-- =====================================================
+CREATE TABLE album_stats (
+    album_id BIGINT PRIMARY KEY COMMENT '专辑ID',
+    review_count INT NOT NULL DEFAULT 0 COMMENT '评论数',
+    rated_count INT NOT NULL DEFAULT 0 COMMENT '有评分的评论数',
+    rating_sum DECIMAL(12,1) NOT NULL DEFAULT 0 COMMENT '评分总和',
+    favorite_count INT NOT NULL DEFAULT 0 COMMENT '收藏数',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '更新时间',
+
+    FOREIGN KEY (album_id) REFERENCES albums(id) ON DELETE CASCADE
+) COMMENT '专辑统计表';
+
+-- =====================================================
+-- 17. 专辑评分分布表 (半星为一档, bucket = rating * 2)
+-- =====================================================
+CREATE TABLE album_rating_buckets (
+    album_id BIGINT NOT NULL COMMENT '专辑ID',
+    bucket TINYINT NOT NULL COMMENT '评分档位 0-10',
+    review_count INT NOT NULL DEFAULT 0 COMMENT '该档评论数',
+
+    PRIMARY KEY (album_id, bucket),
+    FOREIGN KEY (album_id) REFERENCES albums(id) ON DELETE CASCADE
+) COMMENT '专辑评分分布表';
+
+-- =====================================================
+-- 18. 专辑热度表 (趋势分数定期落盘, 对数形式)
+-- =====================================================
+CREATE TABLE album_rankings (
+    album_id BIGINT PRIMARY KEY COMMENT '专辑ID',
+    trending_log_score DOUBLE NOT NULL COMMENT '趋势分数 (按固定基准时间衰减后的对数值)',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '更新时间',
+
+    FOREIGN KEY (album_id) REFERENCES albums(id) ON DELETE CASCADE
+) COMMENT '专辑热度表';
+
+-- =====================================================
+-- 19. 封面缩略图表 (300/600px 变体, 文件按源图 SHA-256 命名)
+-- =====================================================
+CREATE TABLE cover_variants (
+    source_url VARCHAR(255) PRIMARY KEY COMMENT '专辑 cover_url',
+    content_hash CHAR(64) NULL COMMENT '源图 SHA-256 (变体文件名前缀)',
+    format VARCHAR(10) NULL COMMENT '变体格式 (webp / jpg)',
+    status VARCHAR(20) NOT NULL COMMENT 'READY / FAILED',
+    error VARCHAR(255) NULL COMMENT '失败原因',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '更新时间'
+) COMMENT '封面缩略图表';
+
+-- =====================================================
+-- 20. 专辑远程封面镜像表 (网易云等远程封面下载到本地, 记录进度与失败)
+-- =====================================================
+CREATE TABLE album_cover_mirrors (
+    album_id BIGINT PRIMARY KEY COMMENT '专辑ID',
+    source_url VARCHAR(255) NOT NULL COMMENT '已处理的远程 cover_url',
+    local_url VARCHAR(255) NULL COMMENT '本地副本地址',
+    status VARCHAR(20) NOT NULL COMMENT 'MIRRORED / FAILED / SKIPPED',
+    attempts INT NOT NULL DEFAULT 0 COMMENT '失败重试次数',
+    error VARCHAR(255) NULL COMMENT '失败原因',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '更新时间',
+
+    FOREIGN KEY (album_id) REFERENCES albums(id) ON DELETE CASCADE,
+    INDEX idx_album_cover_mirrors_status (status, updated_at)
+) COMMENT '专辑远程封面镜像表';
+
+-- =====================================================
+-- 21. 公告表 (发布时只写一行, 后台按用户ID分批 INSERT ... SELECT 写入通知, 可断点续传)
+-- =====================================================
+CREATE TABLE announcements (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    sender_user_id BIGINT NULL COMMENT '发布者用户ID',
+    title VARCHAR(200) NOT NULL COMMENT '标题',
+    content TEXT NOT NULL COMMENT '公告内容',
+    status VARCHAR(20) NOT NULL COMMENT 'PENDING / DELIVERED',
+    max_user_id BIGINT NOT NULL COMMENT '发布时最大用户ID (投递范围)',
+    last_user_id BIGINT NOT NULL DEFAULT 0 COMMENT '已投递到的用户ID (续传游标)',
+    delivered_count INT NOT NULL DEFAULT 0 COMMENT '已写入通知数',
+    locked_until DATETIME NULL COMMENT '投递租约到期时间',
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '发布时间',
+    completed_at DATETIME NULL COMMENT '投递完成时间',
+
+    FOREIGN KEY (sender_user_id) REFERENCES users(id) ON DELETE SET NULL,
+    INDEX idx_announcements_status (status)
+) COMMENT '公告表';
+
+-- =====================================================
+-- 22. 通知归档表 (保留期外的已读通知按主键区间分批迁入, 不设外键)
+-- =====================================================
+CREATE TABLE notifications_archive (
+    id BIGINT PRIMARY KEY COMMENT '原通知ID',
+    user_id BIGINT NOT NULL COMMENT '接收通知用户ID',
+    sender_user_id BIGINT COMMENT '发送者用户ID',
+    type VARCHAR(30) NOT NULL COMMENT '通知类型: BLOG_REPLY/ANNOUNCEMENT',
+    title VARCHAR(200) NOT NULL COMMENT '标题',
+    content TEXT NOT NULL COMMENT '通知内容',
+    related_blog_post_id BIGINT COMMENT '关联博客文章ID',
+    related_blog_reply_id BIGINT COMMENT '关联博客回复ID',
+    created_at DATETIME COMMENT '创建时间',
+    archived_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '归档时间',
+
+    INDEX idx_notifications_archive_user_created (user_id, created_at)
+) COMMENT '通知归档表';
+
+-- =====================================================
+-- 23. 用户统计表 (评论/收藏/博客/猜乐队胜场计数，增量维护)
+-- =====================================================
+CREATE TABLE user_stats (
+    user_id BIGINT PRIMARY KEY COMMENT '用户ID',
+    review_count INT NOT NULL DEFAULT 0 COMMENT '评论数',
+    favorite_count INT NOT NULL DEFAULT 0 COMMENT '收藏数',
+    blog_post_count INT NOT NULL DEFAULT 0 COMMENT '博客文章数',
+    guess_band_wins INT NOT NULL DEFAULT 0 COMMENT '猜乐队在线对战胜场',
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '更新时间',
+
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) COMMENT '用户统计表';
+
 -- =====================================================
 -- 初始数据: 流派
 -- =====================================================
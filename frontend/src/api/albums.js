@@ -19,6 +19,14 @@ export const albumsApi = {
       force: Boolean(options.force),
     });
   },
+  getFeed: (options = {}) =>
+    api.get('/albums/feed', {
+      signal: options.signal,
+      params: {
+        cursor: options.cursor || undefined,
+        size: Number.isInteger(options.size) ? options.size : 20,
+      },
+    }),
   getByInitial: (letter, config = {}) => api.get(`/albums/initial/${letter}`, config),
   getById: (id, config = {}) => api.get(`/albums/${id}`, config),
   getByArtist: (artistId, config = {}) => api.get(`/albums/artist/${artistId}`, config),
@@ -26,6 +34,8 @@ export const albumsApi = {
   getByYear: (year, config = {}) => api.get(`/albums/year/${year}`, config),
   getYears: (config = {}) => api.get('/albums/years', config),
   search: (query, config = {}) => api.get(`/albums/search?q=${query}`, config),
+  getTop: (size = 20, config = {}) => api.get('/albums/top', { ...config, params: { size } }),
+  getTrending: (size = 20, config = {}) => api.get('/albums/trending', { ...config, params: { size } }),
   create: async (data) => {
     const res = await api.post('/albums', data);
     invalidateApiCache(ALBUMS_ALL_CACHE_KEY);
@@ -9,6 +9,14 @@ export const blogPostsApi = {
         size: Number.isInteger(options.size) ? options.size : 50,
       },
     }),
+  getFeed: (options = {}) =>
+    api.get('/blog-posts/feed', {
+      signal: options.signal,
+      params: {
+        cursor: options.cursor || undefined,
+        size: Number.isInteger(options.size) ? options.size : 20,
+      },
+    }),
   getMine: (options = {}) =>
     api.get('/blog-posts/my', {
       signal: options.signal,
@@ -15,4 +15,12 @@ export const importApi = {
   
   // Import from NetEase (may be restricted)
   fromNetease: (url) => api.get(`/import/netease?url=${encodeURIComponent(url)}`),
+
+  // Background import jobs: { source: 'musicbrainz', mbid } or { source: 'netease', url }
+  submitJob: (data) => api.post('/import/jobs', data),
+
+  // Poll a job until status is SUCCEEDED, FAILED or CANCELLED
+  getJob: (id) => api.get(`/import/jobs/${id}`),
+
+  cancelJob: (id) => api.delete(`/import/jobs/${id}`),
 };
@@ -12,5 +12,9 @@ export const notificationsApi = {
   getUnreadCount: () => api.get('/notifications/unread-count'),
   markRead: (id) => api.put(`/notifications/${id}/read`),
   markAllRead: () => api.put('/notifications/read-all'),
+  markReadUpTo: (id) => api.put(`/notifications/read-up-to/${id}`),
+  deleteRead: (olderThanDays) => api.delete('/notifications/read', { params: { olderThanDays } }),
   createAnnouncement: (data) => api.post('/notifications/announcements', data),
+  // Server-sent events; the auth cookie is sent because the stream is same-origin
+  openStream: () => new EventSource('/api/notifications/stream', { withCredentials: true }),
 };
@@ -24,7 +24,16 @@ export const reviewsApi = {
       ttlMs: REVIEWS_RECENT_TTL_MS,
       force: Boolean(options.force),
     }),
+  getFeed: (options = {}) =>
+    api.get('/reviews/feed', {
+      signal: options.signal,
+      params: {
+        cursor: options.cursor || undefined,
+        size: Number.isInteger(options.size) ? options.size : 20,
+      },
+    }),
   getByAlbum: (albumId, config = {}) => api.get(`/reviews/album/${albumId}`, config),
+  getThreadsByAlbum: (albumId, config = {}) => api.get(`/reviews/album/${albumId}/threads`, config),
   getMyReviews: (config = {}) => api.get('/reviews/my', config),
   getMyReviewForAlbum: (albumId, config = {}) => api.get(`/reviews/my/${albumId}`, config),
   createOrUpdate: async (data) => {
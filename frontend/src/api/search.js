@@ -0,0 +1,13 @@
+import api from './axios';
+
+export const searchApi = {
+  search: (query, options = {}) =>
+    api.get('/search', {
+      signal: options.signal,
+      params: {
+        q: query,
+        types: Array.isArray(options.types) ? options.types.join(',') : undefined,
+        limit: Number.isInteger(options.limit) ? options.limit : 20,
+      },
+    }),
+};
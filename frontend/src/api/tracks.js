@@ -0,0 +1,14 @@
+import api from './axios';
+
+export const tracksApi = {
+  search: (query, options = {}) =>
+    api.get('/tracks/search', {
+      signal: options.signal,
+      params: {
+        q: query,
+        limit: Number.isInteger(options.limit) ? options.limit : 20,
+      },
+    }),
+  getByAlbum: (albumId, config = {}) => api.get(`/tracks/album/${albumId}`, config),
+  getById: (id, config = {}) => api.get(`/tracks/${id}`, config),
+};
@@ -99,6 +99,7 @@ const AlbumCard = ({ album, priority = 'auto' }) => {
             <SmartAlbumCover
               albumId={album.id}
               coverUrl={album.coverUrl}
+              variantUrl={album.coverThumbUrl}
               alt={album.title}
               variant="thumb"
               width={220}
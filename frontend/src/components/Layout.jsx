@@ -157,6 +157,27 @@ const Layout = ({ children }) => {
     return () => window.removeEventListener('notifications-updated', handleNotificationUpdated);
   }, [refreshUnreadCount]);
 
+  useEffect(() => {
+    if (!isAuthenticated || typeof EventSource === 'undefined') {
+      return undefined;
+    }
+    let source = null;
+    let cancelled = false;
+    import('../api/notifications').then(({ notificationsApi }) => {
+      if (cancelled) {
+        return;
+      }
+      source = notificationsApi.openStream();
+      source.addEventListener('notification', () => {
+        window.dispatchEvent(new Event('notifications-updated'));
+      });
+    });
+    return () => {
+      cancelled = true;
+      source?.close();
+    };
+  }, [isAuthenticated]);
+
   useEffect(() => {
     if (hasIdleWarmTriggeredRef.current) {
       return;
@@ -4,6 +4,7 @@ import { getAlbumCoverCandidates } from '../utils/cover';
 const SmartAlbumCover = ({
   albumId,
   coverUrl,
+  variantUrl,
   alt,
   variant = 'thumb',
   sourcePreference = 'local-first',
@@ -16,8 +17,8 @@ const SmartAlbumCover = ({
   ...imgProps
 }) => {
   const candidates = useMemo(
-    () => getAlbumCoverCandidates({ albumId, coverUrl, variant, sourcePreference }),
-    [albumId, coverUrl, variant, sourcePreference]
+    () => getAlbumCoverCandidates({ albumId, coverUrl, variantUrl, variant, sourcePreference }),
+    [albumId, coverUrl, variantUrl, variant, sourcePreference]
   );
   const [candidateIndex, setCandidateIndex] = useState(0);
 
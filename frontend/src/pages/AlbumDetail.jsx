@@ -187,10 +187,15 @@ const AlbumDetail = () => {
     try {
       const [albumRes, reviewsRes] = await Promise.all([
         albumsApi.getById(id, { signal }),
-        reviewsApi.getByAlbum(id, { signal, params: { page: 0, size: 50 } }),
+        reviewsApi.getThreadsByAlbum(id, { signal, params: { page: 0, size: 50, replies: 3 } }),
       ]);
+      const threads = unwrapListData(reviewsRes.data);
       setAlbum(albumRes.data);
-      setReviews(unwrapListData(reviewsRes.data));
+      setReviews(threads);
+      // Previews that already hold every reply need no extra request when expanded
+      setReviewReplies(Object.fromEntries(threads
+        .filter((review) => review.replies?.length === review.replyCount)
+        .map((review) => [review.id, review.replies])));
 
       if (isAuthenticated) {
         const [favRes, myReviewRes] = await Promise.all([
@@ -230,6 +235,9 @@ const AlbumDetail = () => {
         ...prev,
         [reviewId]: response.data
       }));
+      setReviews(prev => prev.map(review => (
+        review.id === reviewId ? { ...review, replyCount: response.data.length } : review
+      )));
     } catch {
       message.error('加载回复失败');
     }
@@ -385,6 +393,7 @@ const AlbumDetail = () => {
               <SmartAlbumCover
                 albumId={album.id}
                 coverUrl={album.coverUrl}
+                variantUrl={album.coverDetailUrl}
                 alt={album.title}
                 variant="detail"
                 width={640}
@@ -601,7 +610,7 @@ const AlbumDetail = () => {
                       onClick={() => toggleReplies(review.id)}
                       style={{ color: isDark ? '#D1D5DB' : '#8D6E63' }}
                     >
-                      {expandedReplies[review.id] ? '收起' : '回复'}
+                      {expandedReplies[review.id] ? '收起' : `回复${review.replyCount ? ` (${review.replyCount})` : ''}`}
                     </Button>,
                     ...(user?.id === review.userId ? [
                       <Button 
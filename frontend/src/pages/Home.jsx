@@ -235,6 +235,7 @@ const Home = () => {
             <SmartAlbumCover
               albumId={firstAlbum.id}
               coverUrl={firstAlbum.coverUrl}
+              variantUrl={firstAlbum.coverThumbUrl}
               alt={firstAlbum.title || 'album cover'}
               variant="thumb"
               width={220}
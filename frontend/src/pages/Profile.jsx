@@ -168,6 +168,12 @@ const Profile = () => {
                 <Col>
                   <Statistic title="收藏" value={profile?.favoriteCount || 0} />
                 </Col>
+                <Col>
+                  <Statistic title="博客" value={profile?.blogPostCount || 0} />
+                </Col>
+                <Col>
+                  <Statistic title="猜乐队胜场" value={profile?.guessBandWins || 0} />
+                </Col>
               </Row>
             </div>
           </div>
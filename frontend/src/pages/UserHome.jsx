@@ -79,6 +79,8 @@ const UserHome = () => {
             <Space size={24} wrap>
               <Statistic title="评论" value={profile?.reviewCount || 0} />
               <Statistic title="收藏" value={profile?.favoriteCount || 0} />
+              <Statistic title="博客" value={profile?.blogPostCount || 0} />
+              <Statistic title="猜乐队胜场" value={profile?.guessBandWins || 0} />
             </Space>
             <Divider style={{ margin: '14px 0' }} />
             {profile?.bio ? (
@@ -39,18 +39,21 @@ export const getOptimizedCoverUrl = ({ coverUrl, variant = 'thumb' }) => {
 export const getAlbumCoverCandidates = ({
   albumId,
   coverUrl,
+  variantUrl,
   variant = 'thumb',
   sourcePreference = 'local-first',
 }) => {
   const edge = variant === 'detail' ? 600 : 300;
+  // Backend-generated variant (coverThumbUrl / coverDetailUrl) comes first when the API has one
+  const generated = resolveMediaUrl(variantUrl);
   const local = albumId != null && albumId !== '' ? resolveMediaUrl(`/covers/${albumId}_${edge}.webp`) : '';
   const original = resolveMediaUrl(coverUrl);
   const optimized = withNeteaseParam(original, edge);
   const remoteCandidates = [optimized, original].filter(Boolean);
 
   if (sourcePreference === 'remote-first') {
-    return [...new Set([...remoteCandidates, local].filter(Boolean))];
+    return [...new Set([generated, ...remoteCandidates, local].filter(Boolean))];
   }
 
-  return [...new Set([local, ...remoteCandidates].filter(Boolean))];
+  return [...new Set([generated, local, ...remoteCandidates].filter(Boolean))];
 };